@@ -0,0 +1,67 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.adaptiveAllOf;
+import static org.hamcrest.Matchers.adaptiveAnyOf;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.matchesRegex;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.benchmark.Inputs.text;
+
+/**
+ * allOf and anyOf against their adaptive versions, with expensive regular expressions that
+ * never decide the result declared before a cheap matcher that does, the order a rule written
+ * for readability might have. The adaptive matchers learn to try the cheap matcher first. A
+ * conjunction runs every matcher on a value it accepts, so on the match path the allOf rows
+ * only show the cost of sampling.
+ */
+@State(Scope.Benchmark)
+public class AdaptiveCombinationBenchmark extends MatcherBenchmark {
+
+    @Param({"allOf", "adaptiveAllOf", "anyOf", "adaptiveAnyOf"})
+    public String factory;
+
+    @Param({"1", "4"})
+    public int expensive;
+
+    @Setup
+    public void setUp() {
+        final String matching = text(1000) + "!";
+        final String mismatching = text(1000) + "?";
+        final List<Matcher<? super String>> all = new ArrayList<>();
+        final List<Matcher<? super String>> any = new ArrayList<>();
+        for (int i = 0; i < expensive; i++) {
+            all.add(matchesRegex(Pattern.compile(".*\\w{" + (i + 1) + "}.*")));
+            any.add(not(matchesRegex(Pattern.compile(".*\\w{" + (i + 1) + "}.*"))));
+        }
+        all.add(endsWith("!"));
+        any.add(endsWith("!"));
+        switch (factory) {
+            case "allOf":
+                scenario = Scenario.of(allOf(all), matching, mismatching);
+                break;
+            case "adaptiveAllOf":
+                scenario = Scenario.of(adaptiveAllOf(all), matching, mismatching);
+                break;
+            case "anyOf":
+                scenario = Scenario.of(anyOf(any), matching, mismatching);
+                break;
+            case "adaptiveAnyOf":
+                scenario = Scenario.of(adaptiveAnyOf(any), matching, mismatching);
+                break;
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+}
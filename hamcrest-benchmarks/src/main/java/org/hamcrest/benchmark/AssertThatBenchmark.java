@@ -0,0 +1,71 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.benchmark.Inputs.array;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * Failing <code>assertThat</code> calls whose errors are caught and counted without reading
+ * their messages, with the messages rendered eagerly or, with
+ * {@link MatcherAssert#LAZY_MESSAGES} set in the forked JVM, only when read.
+ * <code>contains</code> over <code>size</code> items, the last of which differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AssertThatBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    private Matcher<Iterable<? extends String>> matcher;
+    private List<String> mismatching;
+
+    @Setup
+    public void setUp() {
+        final List<String> items = items(size);
+        matcher = contains(array(items));
+        mismatching = withLastReplaced(items, "different");
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int eagerMessages() {
+        return failureCaughtAndCounted();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + MatcherAssert.LAZY_MESSAGES + "=true")
+    public int lazyMessages() {
+        return failureCaughtAndCounted();
+    }
+
+    private int failureCaughtAndCounted() {
+        try {
+            MatcherAssert.assertThat(mismatching, matcher);
+            return 0;
+        } catch (AssertionError e) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.array;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsInRelativeOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.emptyCollectionOf;
+import static org.hamcrest.Matchers.emptyIterable;
+import static org.hamcrest.Matchers.emptyIterableOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItemInArray;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.hasValue;
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.inSorted;
+import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.iterableWithSize;
+import static org.hamcrest.Matchers.oneOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.benchmark.Inputs.array;
+import static org.hamcrest.benchmark.Inputs.item;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.map;
+import static org.hamcrest.benchmark.Inputs.reversedItems;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * The collection, array and map factories in {@link org.hamcrest.Matchers}. The <code>size</code>
+ * is the number of items, entries or candidates.
+ */
+@State(Scope.Benchmark)
+public class CollectionMatchersBenchmark extends MatcherBenchmark {
+
+    @Param({"array", "hasItemInArray(Matcher)", "hasItemInArray(T)",
+            "arrayContaining(E...)", "arrayContaining(Matcher...)", "arrayContaining(List)",
+            "arrayContainingInAnyOrder(E...)", "arrayContainingInAnyOrder(Matcher...)", "arrayContainingInAnyOrder(Collection)",
+            "arrayWithSize(Matcher)", "arrayWithSize(int)", "emptyArray",
+            "aMapWithSize(Matcher)", "aMapWithSize(int)", "anEmptyMap",
+            "hasSize(Matcher)", "hasSize(int)", "empty", "emptyCollectionOf", "emptyIterable", "emptyIterableOf",
+            "contains(E...)", "contains(Matcher)", "contains(Matcher...)", "contains(List)",
+            "containsInAnyOrder(T...)", "containsInAnyOrder(Matcher...)", "containsInAnyOrder(Collection)",
+            "containsInRelativeOrder(E...)", "containsInRelativeOrder(Matcher...)", "containsInRelativeOrder(List)",
+            "iterableWithSize(Matcher)", "iterableWithSize(int)",
+            "hasEntry(Matcher,Matcher)", "hasEntry(K,V)", "hasKey(Matcher)", "hasKey(K)", "hasValue(Matcher)", "hasValue(V)",
+            "in(Collection)", "in(T[])", "inSorted", "isIn(Collection)", "isIn(T[])", "isOneOf", "oneOf"})
+    public String factory;
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        scenario = scenario(factory, size);
+    }
+
+    static Scenario scenario(String factory, int size) {
+        final List<String> items = items(size);
+        final List<String> reversed = reversedItems(size);
+        final List<String> missingLast = withLastReplaced(items, "missing");
+        final List<String> shorter = new ArrayList<>(items.subList(0, size - 1));
+        final List<String> everyOther = everyOther(items);
+        final List<Matcher<? super String>> equalities = equalToEach(items);
+        final List<Matcher<? super String>> everyOtherEqualities = equalToEach(everyOther);
+        final Map<String, Integer> map = map(size);
+        final Map<String, Integer> smallerMap = map(size - 1);
+        final String last = item(size - 1);
+
+        switch (factory) {
+            case "array":
+                return Scenario.of(array(asArray(equalities)), array(items), array(missingLast));
+            case "hasItemInArray(Matcher)":
+                return Scenario.of(hasItemInArray(equalTo(last)), array(items), array(missingLast));
+            case "hasItemInArray(T)":
+                return Scenario.of(hasItemInArray(last), array(items), array(missingLast));
+            case "arrayContaining(E...)":
+                return Scenario.of(arrayContaining(array(items)), array(items), array(missingLast));
+            case "arrayContaining(Matcher...)":
+                return Scenario.of(arrayContaining(asArray(equalities)), array(items), array(missingLast));
+            case "arrayContaining(List)":
+                return Scenario.of(arrayContaining(equalities), array(items), array(missingLast));
+            case "arrayContainingInAnyOrder(E...)":
+                return Scenario.of(arrayContainingInAnyOrder(array(items)), array(reversed), array(missingLast));
+            case "arrayContainingInAnyOrder(Matcher...)":
+                return Scenario.of(arrayContainingInAnyOrder(asArray(equalities)), array(reversed), array(missingLast));
+            case "arrayContainingInAnyOrder(Collection)":
+                return Scenario.of(arrayContainingInAnyOrder(equalities), array(reversed), array(missingLast));
+            case "arrayWithSize(Matcher)":
+                return Scenario.of(arrayWithSize(equalTo(size)), array(items), array(shorter));
+            case "arrayWithSize(int)":
+                return Scenario.of(arrayWithSize(size), array(items), array(shorter));
+            case "emptyArray":
+                return Scenario.of(emptyArray(), new String[0], array(items));
+            case "aMapWithSize(Matcher)":
+                return Scenario.of(aMapWithSize(equalTo(size)), map, smallerMap);
+            case "aMapWithSize(int)":
+                return Scenario.of(aMapWithSize(size), map, smallerMap);
+            case "anEmptyMap":
+                return Scenario.of(anEmptyMap(), Collections.emptyMap(), map);
+            case "hasSize(Matcher)":
+                return Scenario.of(hasSize(equalTo(size)), items, shorter);
+            case "hasSize(int)":
+                return Scenario.of(hasSize(size), items, shorter);
+            case "empty":
+                return Scenario.of(empty(), Collections.emptyList(), items);
+            case "emptyCollectionOf":
+                return Scenario.of(emptyCollectionOf(String.class), Collections.emptyList(), items);
+            case "emptyIterable":
+                return Scenario.of(emptyIterable(), Collections.emptyList(), items);
+            case "emptyIterableOf":
+                return Scenario.of(emptyIterableOf(String.class), Collections.emptyList(), items);
+            case "contains(E...)":
+                return Scenario.of(contains(array(items)), items, missingLast);
+            case "contains(Matcher)":
+                return Scenario.of(contains(startsWith("item")), Collections.singletonList(last), items);
+            case "contains(Matcher...)":
+                return Scenario.of(contains(asArray(equalities)), items, missingLast);
+            case "contains(List)":
+                return Scenario.of(contains(equalities), items, missingLast);
+            case "containsInAnyOrder(T...)":
+                return Scenario.of(containsInAnyOrder(array(items)), reversed, missingLast);
+            case "containsInAnyOrder(Matcher...)":
+                return Scenario.of(containsInAnyOrder(asArray(equalities)), reversed, missingLast);
+            case "containsInAnyOrder(Collection)":
+                return Scenario.of(containsInAnyOrder(equalities), reversed, missingLast);
+            case "containsInRelativeOrder(E...)":
+                return Scenario.of(containsInRelativeOrder(array(everyOther)), items, reversed);
+            case "containsInRelativeOrder(Matcher...)":
+                return Scenario.of(containsInRelativeOrder(asArray(everyOtherEqualities)), items, reversed);
+            case "containsInRelativeOrder(List)":
+                return Scenario.of(containsInRelativeOrder(everyOtherEqualities), items, reversed);
+            case "iterableWithSize(Matcher)":
+                return Scenario.of(iterableWithSize(equalTo(size)), items, shorter);
+            case "iterableWithSize(int)":
+                return Scenario.of(iterableWithSize(size), items, shorter);
+            case "hasEntry(Matcher,Matcher)":
+                return Scenario.of(hasEntry(equalTo(last), equalTo(size - 1)), map, smallerMap);
+            case "hasEntry(K,V)":
+                return Scenario.of(hasEntry(last, size - 1), map, smallerMap);
+            case "hasKey(Matcher)":
+                return Scenario.of(hasKey(equalTo(last)), map, smallerMap);
+            case "hasKey(K)":
+                return Scenario.of(hasKey(last), map, smallerMap);
+            case "hasValue(Matcher)":
+                return Scenario.of(hasValue(equalTo(size - 1)), map, smallerMap);
+            case "hasValue(V)":
+                return Scenario.of(hasValue(size - 1), map, smallerMap);
+            case "in(Collection)":
+                return Scenario.of(in(items), new String(last), "missing");
+            case "in(T[])":
+                return Scenario.of(in(array(items)), new String(last), "missing");
+            case "inSorted":
+                return Scenario.of(inSorted(array(items)), new String(last), "missing");
+            case "isIn(Collection)":
+                return Scenario.of(isIn(items), new String(last), "missing");
+            case "isIn(T[])":
+                return Scenario.of(isIn(array(items)), new String(last), "missing");
+            case "isOneOf":
+                return Scenario.of(isOneOf(array(items)), new String(last), "missing");
+            case "oneOf":
+                return Scenario.of(oneOf(array(items)), new String(last), "missing");
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+
+    private static List<String> everyOther(List<String> items) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += 2) {
+            result.add(items.get(i));
+        }
+        return result;
+    }
+
+    private static List<Matcher<? super String>> equalToEach(List<String> items) {
+        List<Matcher<? super String>> matchers = new ArrayList<>(items.size());
+        for (String item : items) {
+            matchers.add(equalTo(item));
+        }
+        return matchers;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<? super String>[] asArray(List<Matcher<? super String>> matchers) {
+        return matchers.toArray(new Matcher[matchers.size()]);
+    }
+}
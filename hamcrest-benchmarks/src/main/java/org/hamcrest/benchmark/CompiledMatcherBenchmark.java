@@ -0,0 +1,78 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.compiled;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.either;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.optimize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.benchmark.Inputs.item;
+
+/**
+ * A rule of many clauses, each a small tree of different matcher classes, so that the call
+ * sites in <code>allOf</code>, <code>anyOf</code> and the feature matchers see many receiver
+ * types, evaluated as it is, optimized, compiled, and optimized then compiled.
+ */
+@State(Scope.Benchmark)
+public class CompiledMatcherBenchmark extends MatcherBenchmark {
+
+    @Param({"interpreted", "optimized", "compiled", "optimizedCompiled"})
+    public String factory;
+
+    @Param({"4", "16"})
+    public int clauses;
+
+    @Setup
+    public void setUp() {
+        final List<Matcher<? super String>> rule = new ArrayList<>(clauses);
+        for (int i = 0; i < clauses; i++) {
+            rule.add(allOf(
+                notNullValue(),
+                instanceOf(String.class),
+                either(startsWith("item")).or(endsWith("" + i)),
+                not(containsString("missing " + i)),
+                hasToString(anyOf(equalTo("other " + i), is(startsWith("it")))),
+                not(equalTo((Object) i)),
+                not(instanceOf(Integer.class)),
+                hasToString(not(equalTo(""))),
+                not(greaterThan("z" + i))));
+        }
+        final Matcher<String> interpreted = allOf(rule);
+        final String matching = item(1);
+        final String mismatching = "missing " + (clauses - 1) + " " + item(1);
+        switch (factory) {
+            case "interpreted":
+                scenario = Scenario.of(interpreted, matching, mismatching);
+                break;
+            case "optimized":
+                scenario = Scenario.of(optimize(interpreted), matching, mismatching);
+                break;
+            case "compiled":
+                scenario = Scenario.of(compiled(interpreted), matching, mismatching);
+                break;
+            case "optimizedCompiled":
+                scenario = Scenario.of(compiled(optimize(interpreted)), matching, mismatching);
+                break;
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+}
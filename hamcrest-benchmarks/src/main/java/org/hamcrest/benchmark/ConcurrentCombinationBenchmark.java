@@ -0,0 +1,87 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.allOfConcurrently;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.anyOfConcurrently;
+
+/**
+ * allOf and anyOf over matchers that wait, standing in for matchers that query a service or
+ * parse a document, sequentially and on an executor with a thread per matcher. The decisive
+ * matcher is the last, so a sequential evaluation waits for every matcher in turn.
+ */
+@State(Scope.Benchmark)
+public class ConcurrentCombinationBenchmark extends MatcherBenchmark {
+    private static final long DELAY_MICROS = 100;
+
+    @Param({"allOf", "allOfConcurrently", "anyOf", "anyOfConcurrently"})
+    public String factory;
+
+    @Param({"2", "8"})
+    public int size;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(size);
+        final List<Matcher<? super String>> all = new ArrayList<>(size);
+        final List<Matcher<? super String>> any = new ArrayList<>(size);
+        for (int i = 0; i < size - 1; i++) {
+            all.add(slowly("matching"));
+            any.add(slowly("something else"));
+        }
+        all.add(slowly("matching"));
+        any.add(slowly("matching"));
+        switch (factory) {
+            case "allOf":
+                scenario = Scenario.of(allOf(all), "matching", "mismatching");
+                break;
+            case "allOfConcurrently":
+                scenario = Scenario.of(allOfConcurrently(all, executor), "matching", "mismatching");
+                break;
+            case "anyOf":
+                scenario = Scenario.of(anyOf(any), "matching", "mismatching");
+                break;
+            case "anyOfConcurrently":
+                scenario = Scenario.of(anyOfConcurrently(any, executor), "matching", "mismatching");
+                break;
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Matcher<String> slowly(final String expected) {
+        return new CustomMatcher<String>("slowly " + expected) {
+            @Override
+            public boolean matches(Object item) {
+                try {
+                    TimeUnit.MICROSECONDS.sleep(DELAY_MICROS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                return expected.equals(item);
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasXPath;
+
+/**
+ * Throughput of <code>hasXPath</code> on many threads, each matching its own document: one
+ * matcher shared by all the threads, as a constant in a validator would be, and a new matcher
+ * for every match, which measures compiling the expression. Run with <code>-t</code> to
+ * change the number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ConcurrentXPathBenchmark {
+    private static final String XPATH = "/Envelope/Body/order[@id='42']/status";
+
+    private final Matcher<Node> shared = hasXPath(XPATH, equalTo("shipped"));
+
+    @State(Scope.Thread)
+    public static class Payload {
+        Document document;
+
+        @Setup
+        public void setUp() throws Exception {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(
+                "<Envelope><Header/><Body>"
+                    + "<order id='41'><status>pending</status></order>"
+                    + "<order id='42'><status>shipped</status></order>"
+                    + "</Body></Envelope>")));
+        }
+    }
+
+    @Benchmark
+    public boolean sharedMatcher(Payload payload) {
+        return shared.matches(payload.document);
+    }
+
+    @Benchmark
+    public boolean newMatcher(Payload payload) {
+        return hasXPath(XPATH, equalTo("shipped")).matches(payload.document);
+    }
+}
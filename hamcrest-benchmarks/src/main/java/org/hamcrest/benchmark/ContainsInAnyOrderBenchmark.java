@@ -0,0 +1,54 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.benchmark.Inputs.array;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.reversedItems;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * <code>containsInAnyOrder</code> over large examined collections. <code>items</code> is the
+ * <code>containsInAnyOrder(T...)</code> factory, <code>equalToMatchers</code> passes the same
+ * expectations as explicit matchers. The examined items are in reverse order, the worst case
+ * for trying matchers in turn.
+ */
+@State(Scope.Benchmark)
+public class ContainsInAnyOrderBenchmark extends MatcherBenchmark {
+
+    @Param({"items", "equalToMatchers"})
+    public String expected;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        final List<String> items = items(size);
+        scenario = Scenario.of(matcher(items), reversedItems(size), withLastReplaced(reversedItems(size), "missing"));
+    }
+
+    private Matcher<Iterable<? extends String>> matcher(List<String> items) {
+        switch (expected) {
+            case "items":
+                return containsInAnyOrder(array(items));
+            case "equalToMatchers":
+                final List<Matcher<? super String>> matchers = new ArrayList<>(items.size());
+                for (String item : items) {
+                    matchers.add(equalTo(item));
+                }
+                return containsInAnyOrder(matchers);
+            default:
+                throw new IllegalArgumentException("Unknown expectation " + expected);
+        }
+    }
+}
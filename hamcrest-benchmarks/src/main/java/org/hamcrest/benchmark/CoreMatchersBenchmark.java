@@ -0,0 +1,152 @@
+package org.hamcrest.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.any;
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.anything;
+import static org.hamcrest.CoreMatchers.both;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.containsStringIgnoringCase;
+import static org.hamcrest.CoreMatchers.describedAs;
+import static org.hamcrest.CoreMatchers.describedOnce;
+import static org.hamcrest.CoreMatchers.either;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.endsWithIgnoringCase;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.equalToObject;
+import static org.hamcrest.CoreMatchers.everyItem;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.isA;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.CoreMatchers.startsWithIgnoringCase;
+import static org.hamcrest.CoreMatchers.theInstance;
+import static org.hamcrest.benchmark.Inputs.differentAtEnd;
+import static org.hamcrest.benchmark.Inputs.item;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.text;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * Every factory in {@link org.hamcrest.CoreMatchers}. The <code>size</code> is the length of
+ * the examined string, or the number of items in the examined {@link Iterable}; it has no
+ * effect on the type and identity matchers.
+ */
+@State(Scope.Benchmark)
+public class CoreMatchersBenchmark extends MatcherBenchmark {
+
+    @Param({"allOf", "anyOf", "both", "either", "describedAs", "describedOnce", "everyItem",
+            "is(Matcher)", "is(T)", "isA", "anything", "anything(String)",
+            "hasItem(Matcher)", "hasItem(T)", "hasItems(Matcher...)", "hasItems(T...)",
+            "equalTo", "equalToObject", "any", "instanceOf", "not(Matcher)", "not(T)",
+            "notNullValue", "notNullValue(Class)", "nullValue", "nullValue(Class)",
+            "sameInstance", "theInstance",
+            "containsString", "containsStringIgnoringCase", "startsWith", "startsWithIgnoringCase",
+            "endsWith", "endsWithIgnoringCase"})
+    public String factory;
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        scenario = scenario(factory, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Scenario scenario(String factory, int size) {
+        final String text = text(size);
+        final String other = differentAtEnd(text);
+        final String prefix = text.substring(0, size / 2);
+        final String suffix = text.substring(size / 2);
+        final List<String> items = items(size);
+        final List<String> missingLast = withLastReplaced(items, "missing");
+        final String last = item(size - 1);
+
+        switch (factory) {
+            case "allOf":
+                return Scenario.of(allOf(startsWith(prefix), containsString(suffix), endsWith(suffix)), text, other);
+            case "anyOf":
+                return Scenario.of(anyOf(startsWith(suffix), containsString(prefix + "!"), endsWith(suffix)), text, other);
+            case "both":
+                return Scenario.of(both(startsWith(prefix)).and(endsWith(suffix)), text, other);
+            case "either":
+                return Scenario.of(either(equalTo(other)).or(endsWith(suffix)), text, prefix);
+            case "describedAs":
+                return Scenario.of(describedAs("text %0", equalTo(text), size), text, other);
+            case "describedOnce":
+                return Scenario.of(describedOnce(equalTo(text)), text, other);
+            case "everyItem":
+                return Scenario.of(everyItem(startsWith("item")), items, missingLast);
+            case "is(Matcher)":
+                return Scenario.of(is(equalTo(text)), text, other);
+            case "is(T)":
+                return Scenario.of(is(text), text, other);
+            case "isA":
+                return Scenario.of(isA(String.class), text, size);
+            case "anything":
+                return Scenario.matchingOnly(anything(), text);
+            case "anything(String)":
+                return Scenario.matchingOnly(anything("any text"), text);
+            case "hasItem(Matcher)":
+                return Scenario.of(hasItem(equalTo(last)), items, missingLast);
+            case "hasItem(T)":
+                return Scenario.of(hasItem(last), items, missingLast);
+            case "hasItems(Matcher...)":
+                return Scenario.of(hasItems(equalTo(item(0)), equalTo(item(size / 2)), equalTo(last)), items, missingLast);
+            case "hasItems(T...)":
+                return Scenario.of(hasItems(item(0), item(size / 2), last), items, missingLast);
+            case "equalTo":
+                return Scenario.of(equalTo(text), new String(text), other);
+            case "equalToObject":
+                return Scenario.of(equalToObject(text), new String(text), other);
+            case "any":
+                return Scenario.of(any(String.class), text, size);
+            case "instanceOf":
+                return Scenario.of(instanceOf(CharSequence.class), text, size);
+            case "not(Matcher)":
+                return Scenario.of(not(equalTo(other)), text, other);
+            case "not(T)":
+                return Scenario.of(not(other), text, other);
+            case "notNullValue":
+                return Scenario.of(notNullValue(), text, null);
+            case "notNullValue(Class)":
+                return Scenario.of(notNullValue(String.class), text, null);
+            case "nullValue":
+                return Scenario.of(nullValue(), null, text);
+            case "nullValue(Class)":
+                return Scenario.of(nullValue(String.class), null, text);
+            case "sameInstance":
+                return Scenario.of(sameInstance(text), text, new String(text));
+            case "theInstance":
+                return Scenario.of(theInstance(text), text, new String(text));
+            case "containsString":
+                return Scenario.of(containsString(suffix), text, other);
+            case "containsStringIgnoringCase":
+                return Scenario.of(containsStringIgnoringCase(suffix.toUpperCase()), text, other);
+            case "startsWith":
+                return Scenario.of(startsWith(text), text, other);
+            case "startsWithIgnoringCase":
+                return Scenario.of(startsWithIgnoringCase(text.toUpperCase()), text, other);
+            case "endsWith":
+                return Scenario.of(endsWith(suffix), text, other);
+            case "endsWithIgnoringCase":
+                return Scenario.of(endsWithIgnoringCase(suffix.toUpperCase()), text, other);
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.describedOnce;
+import static org.hamcrest.benchmark.Inputs.item;
+
+/**
+ * Failure messages for an <code>allOf</code> over many matchers, whose description is the bulk
+ * of the message, with and without <code>describedOnce</code>. At the largest size the
+ * description is longer than <code>describedOnce</code> keeps by default.
+ */
+@State(Scope.Benchmark)
+public class DescribedOnceBenchmark extends MatcherBenchmark {
+
+    @Param({"false", "true"})
+    public boolean describedOnce;
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        final List<Matcher<? super String>> matchers = new ArrayList<>(size);
+        final StringBuilder matching = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            matchers.add(containsString(item(i) + ";"));
+            matching.append(item(i)).append(';');
+        }
+        final Matcher<String> matcher = allOf(matchers);
+        scenario = Scenario.of(describedOnce ? describedOnce(matcher) : matcher, matching.toString(), "missing");
+    }
+}
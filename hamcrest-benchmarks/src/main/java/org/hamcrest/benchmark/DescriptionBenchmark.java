@@ -0,0 +1,119 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.BaseDescription;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.text;
+
+/**
+ * Rendering of values through {@link org.hamcrest.BaseDescription}, which every mismatch
+ * description goes through. The <code>size</code> is the string length or number of items.
+ * Besides {@link StringDescription}, <code>description</code> can be a subclass that implements
+ * only <code>append(char)</code>, or one that also takes runs of text through
+ * <code>append(CharSequence, int, int)</code>. <code>limited</code> is a {@link StringDescription}
+ * that keeps at most {@value #LIMIT} characters, as <code>assertThat</code> makes when
+ * {@link org.hamcrest.MatcherAssert#MAX_DESCRIPTION_LENGTH} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescriptionBenchmark {
+    private static final int LIMIT = 1000;
+
+    @Param({"StringDescription", "appendChar", "appendRuns", "limited"})
+    public String description;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private String text;
+    private String escapedText;
+    private int[] ints;
+    private List<String> items;
+
+    @Setup
+    public void setUp() {
+        text = text(size);
+        escapedText = text.replace('e', '\n').replace('q', '"');
+        items = items(size);
+        ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+        }
+    }
+
+    @Benchmark
+    public String appendValueString() {
+        return description().appendValue(text).toString();
+    }
+
+    @Benchmark
+    public String appendValueEscapedString() {
+        return description().appendValue(escapedText).toString();
+    }
+
+    @Benchmark
+    public String appendValueIntArray() {
+        return description().appendValue(ints).toString();
+    }
+
+    @Benchmark
+    public String appendValueList() {
+        return description().appendValueList("[", ", ", "]", items).toString();
+    }
+
+    private Description description() {
+        switch (description) {
+            case "StringDescription":
+                return new StringDescription();
+            case "appendChar":
+                return new AppendChar();
+            case "appendRuns":
+                return new AppendRuns();
+            case "limited":
+                return new StringDescription(LIMIT);
+            default:
+                throw new IllegalArgumentException("Unknown description " + description);
+        }
+    }
+
+    private static class AppendChar extends BaseDescription {
+        protected final StringBuilder out = new StringBuilder();
+
+        @Override
+        protected void append(char c) {
+            out.append(c);
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+
+    private static final class AppendRuns extends AppendChar {
+        @Override
+        protected void append(CharSequence chars, int start, int end) {
+            out.append(chars, start, end);
+        }
+    }
+}
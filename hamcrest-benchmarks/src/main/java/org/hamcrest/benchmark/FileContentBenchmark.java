@@ -0,0 +1,70 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.io.PathMatchers.aFileWithSameContentAs;
+
+/**
+ * Time to compare two equal files of <code>megabytes</code> MB: read whole into byte arrays, as
+ * checks did before there were content matchers, or with <code>aFileWithSameContentAs</code>, which
+ * compares them in chunks read into one reused direct buffer. Run with <code>-prof gc</code> to compare the heap allocated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileContentBenchmark {
+    @Param({"1", "256"})
+    public int megabytes;
+
+    private Path actual;
+    private Path expected;
+    private Matcher<Path> sameContent;
+
+    @Setup
+    public void setUp() throws IOException {
+        final byte[] content = new byte[megabytes * 1024 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        actual = Files.write(Files.createTempFile("FileContentBenchmark", ".actual"), content);
+        expected = Files.write(Files.createTempFile("FileContentBenchmark", ".expected"), content);
+        sameContent = aFileWithSameContentAs(expected);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(actual);
+        Files.delete(expected);
+    }
+
+    @Benchmark
+    public boolean readAllBytes() throws IOException {
+        return Arrays.equals(Files.readAllBytes(actual), Files.readAllBytes(expected));
+    }
+
+    @Benchmark
+    public boolean sameContent() {
+        return sameContent.matches(actual);
+    }
+}
@@ -0,0 +1,86 @@
+package org.hamcrest.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Builders for sized benchmark inputs. All values are deterministic, so that
+ * results from different runs can be compared.
+ */
+public final class Inputs {
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+    private Inputs() { }
+
+    /**
+     * A lowercase string of exactly <code>length</code> characters. The letters are
+     * pseudo-random, so that longer substrings occur only once.
+     */
+    public static String text(int length) {
+        Random random = new Random(length);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    /** The same length as <code>text</code>, differing only in the last character. */
+    public static String differentAtEnd(String text) {
+        return text.substring(0, text.length() - 1) + "!";
+    }
+
+    /** Words separated by runs of whitespace, <code>length</code> characters in total. */
+    public static String spacedText(int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(i % 6 == 5 ? ' ' : ALPHABET.charAt(i % ALPHABET.length()));
+        }
+        return text.toString();
+    }
+
+    public static String item(int index) {
+        return "item" + index;
+    }
+
+    /** <code>item0</code> to <code>item(size-1)</code>. */
+    public static List<String> items(int size) {
+        List<String> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(item(i));
+        }
+        return items;
+    }
+
+    /** The same items in reverse order. */
+    public static List<String> reversedItems(int size) {
+        List<String> items = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            items.add(item(i));
+        }
+        return items;
+    }
+
+    /** A copy of <code>items</code> with its last element replaced. */
+    public static List<String> withLastReplaced(List<String> items, String replacement) {
+        List<String> copy = new ArrayList<>(items);
+        copy.set(copy.size() - 1, replacement);
+        return copy;
+    }
+
+    public static String[] array(List<String> items) {
+        return items.toArray(new String[items.size()]);
+    }
+
+    /** Maps <code>item(i)</code> to <code>i</code>. */
+    public static Map<String, Integer> map(int size) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(item(i), i);
+        }
+        return map;
+    }
+}
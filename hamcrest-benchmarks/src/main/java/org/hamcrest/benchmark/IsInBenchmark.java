@@ -0,0 +1,74 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.in;
+import static org.hamcrest.Matchers.inSorted;
+import static org.hamcrest.benchmark.Inputs.item;
+
+/**
+ * <code>in</code> over allow-lists of different key types. <code>linearScan</code> passes the
+ * elements as a list, whose <code>contains</code> compares each in turn, <code>hashed</code> is
+ * <code>in(T[])</code> and <code>sorted</code> is <code>inSorted(T[])</code>. The matching value
+ * is the last element, the worst case for a scan.
+ */
+@State(Scope.Benchmark)
+public class IsInBenchmark extends MatcherBenchmark {
+
+    @Param({"linearScan", "hashed", "sorted"})
+    public String lookup;
+
+    @Param({"Integer", "Long", "String"})
+    public String keys;
+
+    @Param({"10", "1000", "20000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        switch (keys) {
+            case "Integer":
+                final Integer[] integers = new Integer[size];
+                for (int i = 0; i < size; i++) {
+                    integers[i] = i * 31;
+                }
+                scenario = Scenario.of(matcher(integers), (size - 1) * 31, -1);
+                break;
+            case "Long":
+                final Long[] longs = new Long[size];
+                for (int i = 0; i < size; i++) {
+                    longs[i] = i * 31L << 20;
+                }
+                scenario = Scenario.of(matcher(longs), (size - 1) * 31L << 20, -1L);
+                break;
+            case "String":
+                final String[] strings = new String[size];
+                for (int i = 0; i < size; i++) {
+                    strings[i] = item(i);
+                }
+                scenario = Scenario.of(matcher(strings), new String(item(size - 1)), "missing");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown keys " + keys);
+        }
+    }
+
+    private <T extends Comparable<? super T>> Matcher<T> matcher(T[] elements) {
+        switch (lookup) {
+            case "linearScan":
+                return in(Arrays.asList(elements));
+            case "hashed":
+                return in(elements);
+            case "sorted":
+                return inSorted(elements);
+            default:
+                throw new IllegalArgumentException("Unknown lookup " + lookup);
+        }
+    }
+}
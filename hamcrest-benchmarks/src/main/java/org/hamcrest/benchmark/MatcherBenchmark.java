@@ -0,0 +1,44 @@
+package org.hamcrest.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one {@link Scenario}, chosen by the concrete benchmark's parameters, on the match
+ * path, the diagnosed match path that <code>assertThat</code> takes, and the mismatch-description
+ * path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class MatcherBenchmark {
+    protected Scenario scenario;
+
+    @Benchmark
+    public boolean match() {
+        return scenario.match();
+    }
+
+    @Benchmark
+    public boolean diagnosedMatch() {
+        return scenario.diagnosedMatch();
+    }
+
+    @Benchmark
+    public String mismatchDescription() {
+        return scenario.mismatchDescription();
+    }
+
+    protected static IllegalArgumentException unknownFactory(String factory) {
+        return new IllegalArgumentException("No scenario for factory " + factory);
+    }
+}
@@ -0,0 +1,147 @@
+package org.hamcrest.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EventObject;
+import java.util.Iterator;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.eventFrom;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasXPath;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notANumber;
+import static org.hamcrest.Matchers.samePropertyValuesAs;
+import static org.hamcrest.Matchers.typeCompatibleWith;
+import static org.hamcrest.beans.HasPropertyWithValue.hasPropertyAtPath;
+
+/**
+ * The number, object, bean and XML factories in {@link org.hamcrest.Matchers}. These
+ * examine single values, so there is no size parameter.
+ */
+@State(Scope.Benchmark)
+public class ObjectMatchersBenchmark extends MatcherBenchmark {
+
+    @Param({"closeTo(double)", "closeTo(BigDecimal)", "notANumber",
+            "comparesEqualTo", "greaterThan", "greaterThanOrEqualTo", "lessThan", "lessThanOrEqualTo",
+            "typeCompatibleWith", "eventFrom(Class,Object)", "eventFrom(Object)",
+            "hasProperty(String)", "hasProperty(String,Matcher)", "hasPropertyAtPath", "samePropertyValuesAs",
+            "hasXPath(String)", "hasXPath(String,Matcher)",
+            "hasXPath(String,NamespaceContext)", "hasXPath(String,NamespaceContext,Matcher)"})
+    public String factory;
+
+    @Setup
+    public void setUp() throws Exception {
+        scenario = scenario(factory);
+    }
+
+    static Scenario scenario(String factory) throws Exception {
+        final Object source = new Object();
+        final Document xml = parse("<root type='food'>"
+                + "<something id='a'><cheese>Edam</cheese></something>"
+                + "<something id='b'><cheese>Cheddar</cheese></something>"
+                + "<f:foreignSomething xmlns:f='http://cheese.com' milk='camel'>Caravane</f:foreignSomething>"
+                + "</root>");
+        final Document otherXml = parse("<root type='drink'><something id='c'/></root>");
+
+        switch (factory) {
+            case "closeTo(double)":
+                return Scenario.of(closeTo(1.0, 0.5), 1.2, 2.0);
+            case "closeTo(BigDecimal)":
+                return Scenario.of(closeTo(new BigDecimal("1.0"), new BigDecimal("0.5")), new BigDecimal("1.2"), new BigDecimal("2.0"));
+            case "notANumber":
+                return Scenario.of(notANumber(), Double.NaN, 1.0);
+            case "comparesEqualTo":
+                return Scenario.of(comparesEqualTo(new BigDecimal("1.0")), new BigDecimal("1.00"), new BigDecimal("2"));
+            case "greaterThan":
+                return Scenario.of(greaterThan(1), 2, 1);
+            case "greaterThanOrEqualTo":
+                return Scenario.of(greaterThanOrEqualTo(1), 1, 0);
+            case "lessThan":
+                return Scenario.of(lessThan(1), 0, 1);
+            case "lessThanOrEqualTo":
+                return Scenario.of(lessThanOrEqualTo(1), 1, 2);
+            case "typeCompatibleWith":
+                return Scenario.of(typeCompatibleWith(CharSequence.class), String.class, Integer.class);
+            case "eventFrom(Class,Object)":
+                return Scenario.of(eventFrom(EventObject.class, source), new EventObject(source), new EventObject(new Object()));
+            case "eventFrom(Object)":
+                return Scenario.of(eventFrom(source), new EventObject(source), new EventObject(new Object()));
+            case "hasProperty(String)":
+                return Scenario.of(hasProperty("name"), new Person("Alice", 42), new EventObject(source));
+            case "hasProperty(String,Matcher)":
+                return Scenario.of(hasProperty("name", equalTo("Alice")), new Person("Alice", 42), new Person("Bob", 42));
+            case "hasPropertyAtPath":
+                return Scenario.of(hasPropertyAtPath("name.empty", equalTo((Object) false)), new Person("Alice", 42), new Person("", 42));
+            case "samePropertyValuesAs":
+                return Scenario.of(samePropertyValuesAs(new Person("Alice", 42)), new Person("Alice", 42), new Person("Alice", 43));
+            case "hasXPath(String)":
+                return Scenario.of(hasXPath("//something[@id='b']/cheese"), xml, otherXml);
+            case "hasXPath(String,Matcher)":
+                return Scenario.of(hasXPath("/root/something[2]/cheese", equalTo("Cheddar")), xml, otherXml);
+            case "hasXPath(String,NamespaceContext)":
+                return Scenario.of(hasXPath("//cheese:foreignSomething/@milk", CHEESE), xml, otherXml);
+            case "hasXPath(String,NamespaceContext,Matcher)":
+                return Scenario.of(hasXPath("//cheese:foreignSomething", CHEESE, equalTo("Caravane")), xml, otherXml);
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+
+    private static Document parse(String xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+    }
+
+    private static final NamespaceContext CHEESE = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return "cheese".equals(prefix) ? "http://cheese.com" : null;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return "http://cheese.com".equals(namespaceURI) ? "cheese" : null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            String prefix = getPrefix(namespaceURI);
+            return prefix == null ? Collections.<String>emptyIterator() : Collections.singleton(prefix).iterator();
+        }
+    };
+
+    public static class Person {
+        private final String name;
+        private final int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+
+        @Override
+        public String toString() {
+            return "Person(" + name + ", " + age + ")";
+        }
+    }
+}
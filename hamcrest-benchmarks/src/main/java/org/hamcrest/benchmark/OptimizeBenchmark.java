@@ -0,0 +1,77 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.core.CombinableMatcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.optimize;
+import static org.hamcrest.benchmark.Inputs.item;
+
+/**
+ * Matcher trees before and after <code>optimize</code>: a <code>both(...).and(...)</code> chain,
+ * which nests a level per link, a disjunction of <code>equalTo</code>, and a conjunction of
+ * overlapping range comparisons.
+ */
+@State(Scope.Benchmark)
+public class OptimizeBenchmark extends MatcherBenchmark {
+
+    @Param({"chain", "values", "range"})
+    public String factory;
+
+    @Param({"false", "true"})
+    public boolean optimized;
+
+    @Param({"16"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        switch (factory) {
+            case "chain":
+                final String text = "" + item(0) + item(1) + item(2);
+                CombinableMatcher<String> chain = both(containsString(text.substring(0, 1))).and(containsString(text.substring(1, 2)));
+                for (int i = 2; i < size; i++) {
+                    chain = chain.and(is(containsString(text.substring(i % text.length(), i % text.length() + 1))));
+                }
+                scenario = Scenario.of(optimized ? optimize(chain) : chain, text, "");
+                break;
+            case "values":
+                final List<Matcher<? super String>> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(equalTo(item(i)));
+                }
+                final Matcher<String> anyValue = anyOf(values);
+                scenario = Scenario.of(optimized ? optimize(anyValue) : anyValue, item(size - 1), item(size));
+                break;
+            case "range":
+                final List<Matcher<? super Integer>> bounds = new ArrayList<>(size);
+                for (int i = 0; i < size / 4; i++) {
+                    bounds.add(greaterThan(i));
+                    bounds.add(greaterThanOrEqualTo(i + 1));
+                    bounds.add(lessThan(1000 - i));
+                    bounds.add(lessThanOrEqualTo(999 - i));
+                }
+                final Matcher<Integer> range = allOf(bounds);
+                scenario = Scenario.of(optimized ? optimize(range) : range, 500, 0);
+                break;
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.benchmark.Inputs.item;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * <code>containsInAnyOrder</code> with matchers that each accept two neighbouring items, and a
+ * last matcher that accepts only the first item. Giving each examined item the first matcher
+ * that accepts it leaves the last item without one, so the whole chain has to be reassigned.
+ * Every pair of item and matcher gets evaluated, hence the smaller sizes.
+ */
+@State(Scope.Benchmark)
+public class OverlappingInAnyOrderBenchmark extends MatcherBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        final List<String> items = items(size);
+        scenario = Scenario.of(matcher(size), items, withLastReplaced(items, "missing"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Matcher<Iterable<? extends String>> matcher(int size) {
+        final List<Matcher<? super String>> matchers = new ArrayList<>(size);
+        for (int i = 0; i < size - 1; i++) {
+            matchers.add(anyOf(equalTo(item(i)), equalTo(item(i + 1))));
+        }
+        matchers.add(equalTo(item(0)));
+        return containsInAnyOrder(matchers);
+    }
+}
@@ -0,0 +1,84 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInParallel;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItemInArray;
+import static org.hamcrest.Matchers.matchesRegex;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.benchmark.Inputs.array;
+import static org.hamcrest.benchmark.Inputs.items;
+import static org.hamcrest.benchmark.Inputs.withLastReplaced;
+
+/**
+ * The collection matchers that can evaluate items on a {@link ForkJoinPool}, sequentially
+ * (<code>threads</code> of 0) and in parallel, with a regular expression that backtracks as the
+ * element matcher, so that each item costs enough to be worth handing to another thread.
+ * The decisive item is the last, so every item is evaluated.
+ */
+@State(Scope.Benchmark)
+public class ParallelMatchingBenchmark extends MatcherBenchmark {
+    private static final Pattern BACKTRACKING = Pattern.compile("(\\w+)*\\d+");
+
+    @Param({"everyItem", "hasItem", "contains", "hasItemInArray"})
+    public String factory;
+
+    @Param({"0", "1", "4"})
+    public int threads;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        pool = threads == 0 ? null : new ForkJoinPool(threads);
+        final List<String> items = items(size);
+        final List<String> failing = withLastReplaced(items, "item with no digits");
+        final Matcher<String> itemMatcher = matchesRegex(BACKTRACKING);
+        switch (factory) {
+            case "everyItem":
+                scenario = Scenario.of(pool == null ? everyItem(itemMatcher) : everyItem(itemMatcher, pool), items, failing);
+                break;
+            case "hasItem":
+                final Matcher<String> onlyLast = not(itemMatcher);
+                scenario = Scenario.of(pool == null ? hasItem(onlyLast) : hasItem(onlyLast, pool), failing, items);
+                break;
+            case "contains":
+                final List<Matcher<? super String>> matchers = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    matchers.add(itemMatcher);
+                }
+                scenario = Scenario.of(pool == null ? contains(matchers) : containsInParallel(matchers, pool), items, failing);
+                break;
+            case "hasItemInArray":
+                final Matcher<String> onlyLastElement = not(itemMatcher);
+                scenario = Scenario.of(pool == null ? hasItemInArray(onlyLastElement) : hasItemInArray(onlyLastElement, pool),
+                    array(failing), array(items));
+                break;
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.allOf;
+
+/**
+ * Time to check every file of a directory of <code>files</code> files for existence, readability
+ * and size: with the {@link File} matchers combined by <code>allOf</code>, which make a system call
+ * each, with the {@link Path} matchers combined by <code>allOf</code>, which read the attributes
+ * for each matcher, and combined by <code>aPath</code>, which read them once per file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathMatchersBenchmark {
+    @Param({"100000"})
+    public int files;
+
+    private Path directory;
+    private File[] asFiles;
+    private Path[] asPaths;
+
+    private final Matcher<File> fileMatchers = allOf(
+        org.hamcrest.io.FileMatchers.anExistingFile(),
+        org.hamcrest.io.FileMatchers.aReadableFile(),
+        org.hamcrest.io.FileMatchers.aFileWithSize(1L));
+    private final Matcher<Path> pathMatchers = allOf(
+        org.hamcrest.io.PathMatchers.anExistingFile(),
+        org.hamcrest.io.PathMatchers.aReadableFile(),
+        org.hamcrest.io.PathMatchers.aFileWithSize(1L));
+    private final Matcher<Path> sharedAttributes = org.hamcrest.io.PathMatchers.aPath(
+        org.hamcrest.io.PathMatchers.anExistingFile(),
+        org.hamcrest.io.PathMatchers.aReadableFile(),
+        org.hamcrest.io.PathMatchers.aFileWithSize(1L));
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("PathMatchersBenchmark");
+        asFiles = new File[files];
+        asPaths = new Path[files];
+        final byte[] content = { 42 };
+        for (int i = 0; i < files; i++) {
+            asPaths[i] = Files.write(directory.resolve("file" + i), content);
+            asFiles[i] = asPaths[i].toFile();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path path : asPaths) {
+            Files.deleteIfExists(path);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public int fileMatchers() {
+        int matched = 0;
+        for (File file : asFiles) {
+            if (fileMatchers.matches(file)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int pathMatchers() {
+        int matched = 0;
+        for (Path path : asPaths) {
+            if (pathMatchers.matches(path)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int sharedAttributes() {
+        int matched = 0;
+        for (Path path : asPaths) {
+            if (sharedAttributes.matches(path)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,56 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.hamcrest.Matchers.arrayCloseTo;
+import static org.hamcrest.Matchers.arrayEqualTo;
+import static org.hamcrest.Matchers.arrayEqualToInAnyOrder;
+import static org.hamcrest.Matchers.ascendingDoubleArray;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * The primitive array matchers over <code>double[]</code> buffers, against <code>equalTo</code>,
+ * which compares arrays one boxed element at a time. The buffers ascend and the mismatching one
+ * differs in its last element, so every matcher reads them in full.
+ */
+@State(Scope.Benchmark)
+public class PrimitiveArrayBenchmark extends MatcherBenchmark {
+
+    @Param({"equalTo", "arrayEqualTo", "arrayCloseTo", "ascendingDoubleArray", "arrayEqualToInAnyOrder"})
+    public String factory;
+
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        final double[] buffer = new double[size];
+        for (int i = 0; i < size; i++) {
+            buffer[i] = i * 0.5;
+        }
+        final double[] mismatching = buffer.clone();
+        mismatching[size - 1] = -1;
+        scenario = Scenario.of(matcher(buffer.clone()), buffer, mismatching);
+    }
+
+    private Matcher<double[]> matcher(double[] expected) {
+        switch (factory) {
+            case "equalTo":
+                return equalTo(expected);
+            case "arrayEqualTo":
+                return arrayEqualTo(expected);
+            case "arrayCloseTo":
+                return arrayCloseTo(expected, 0.1);
+            case "ascendingDoubleArray":
+                return ascendingDoubleArray();
+            case "arrayEqualToInAnyOrder":
+                return arrayEqualToInAnyOrder(expected);
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * A matcher together with one value it accepts and one value it rejects.
+ * The mismatch path mirrors {@link org.hamcrest.MatcherAssert#assertThat(String, Object, Matcher)}:
+ * a failed match that describes the mismatch as it goes, followed by rendering the expectation.
+ * The diagnosed match is the path <code>assertThat</code> takes for a value that matches.
+ */
+public final class Scenario {
+    private final Matcher<?> matcher;
+    private final Object matching;
+    private final Object mismatching;
+    private final boolean canMismatch;
+
+    private Scenario(Matcher<?> matcher, Object matching, Object mismatching, boolean canMismatch) {
+        this.matcher = matcher;
+        this.matching = matching;
+        this.mismatching = mismatching;
+        this.canMismatch = canMismatch;
+    }
+
+    public static Scenario of(Matcher<?> matcher, Object matching, Object mismatching) {
+        return checked(new Scenario(matcher, matching, mismatching, true));
+    }
+
+    /**
+     * For matchers, such as <code>anything()</code>, that accept every value. The
+     * mismatch path then only measures the rendering of the expectation.
+     */
+    public static Scenario matchingOnly(Matcher<?> matcher, Object matching) {
+        return checked(new Scenario(matcher, matching, matching, false));
+    }
+
+    public boolean match() {
+        return matcher.matches(matching);
+    }
+
+    public boolean diagnosedMatch() {
+        return BaseMatcher.matchesWithDiagnosis(matcher, matching, new StringDescription());
+    }
+
+    public String mismatchDescription() {
+        Description mismatch = new StringDescription();
+        Description description = new StringDescription();
+        description.appendText("\nExpected: ").appendDescriptionOf(matcher);
+        if (canMismatch && !BaseMatcher.matchesWithDiagnosis(matcher, mismatching, mismatch)) {
+            description.appendText("\n     but: ").appendText(mismatch.toString());
+        }
+        return description.toString();
+    }
+
+    private static Scenario checked(Scenario scenario) {
+        if (!scenario.matcher.matches(scenario.matching)) {
+            throw new IllegalStateException("Scenario for " + scenario.matcher + " does not match its matching value");
+        }
+        if (scenario.canMismatch && scenario.matcher.matches(scenario.mismatching)) {
+            throw new IllegalStateException("Scenario for " + scenario.matcher + " matches its mismatching value");
+        }
+        return scenario;
+    }
+}
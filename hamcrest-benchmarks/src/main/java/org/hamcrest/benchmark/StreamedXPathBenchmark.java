@@ -0,0 +1,81 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasStreamedXPath;
+import static org.hamcrest.Matchers.hasXPath;
+
+/**
+ * Time to check one value in an XML document of <code>orders</code> elements, read from bytes:
+ * parsed into a DOM and matched with <code>hasXPath</code>, or streamed through
+ * <code>hasStreamedXPath</code>. The value is in the first order or, with <code>position=last</code>,
+ * the last, which streaming has to read the whole document to reach. Run with
+ * <code>-prof gc</code> to compare the memory allocated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamedXPathBenchmark {
+    @Param({"100", "100000"})
+    public int orders;
+
+    @Param({"first", "last"})
+    public String position;
+
+    private byte[] document;
+    private String xpath;
+    private Matcher<Node> domMatcher;
+    private Matcher<Object> streamedMatcher;
+
+    @Setup
+    public void setUp() {
+        final StringBuilder xml = new StringBuilder("<Envelope><Header/><Body>");
+        for (int i = 0; i < orders; i++) {
+            xml.append("<order id='").append(i).append("'><status>shipped</status><total>")
+               .append(i * 10).append("</total></order>");
+        }
+        document = xml.append("</Body></Envelope>").toString().getBytes(StandardCharsets.UTF_8);
+
+        final int id;
+        switch (position) {
+            case "first": id = 0; break;
+            case "last": id = orders - 1; break;
+            default: throw new IllegalArgumentException("Unknown position: " + position);
+        }
+        xpath = "/Envelope/Body/order[@id='" + id + "']/total";
+        domMatcher = hasXPath(xpath, equalTo(String.valueOf(id * 10)));
+        streamedMatcher = hasStreamedXPath(xpath, equalTo(String.valueOf(id * 10)));
+    }
+
+    @Benchmark
+    public boolean dom() throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        return domMatcher.matches(factory.newDocumentBuilder().parse(new ByteArrayInputStream(document)));
+    }
+
+    @Benchmark
+    public boolean streamed() {
+        return streamedMatcher.matches(new ByteArrayInputStream(document));
+    }
+}
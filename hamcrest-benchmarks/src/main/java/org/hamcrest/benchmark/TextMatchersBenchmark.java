@@ -0,0 +1,107 @@
+package org.hamcrest.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.blankOrNullString;
+import static org.hamcrest.Matchers.blankString;
+import static org.hamcrest.Matchers.emptyOrNullString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.equalToCompressingWhiteSpace;
+import static org.hamcrest.Matchers.equalToIgnoringCase;
+import static org.hamcrest.Matchers.equalToIgnoringWhiteSpace;
+import static org.hamcrest.Matchers.hasToString;
+import static org.hamcrest.Matchers.isEmptyOrNullString;
+import static org.hamcrest.Matchers.isEmptyString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.matchesRegex;
+import static org.hamcrest.Matchers.stringContainsInOrder;
+import static org.hamcrest.benchmark.Inputs.differentAtEnd;
+import static org.hamcrest.benchmark.Inputs.spacedText;
+import static org.hamcrest.benchmark.Inputs.text;
+
+/**
+ * The text factories in {@link org.hamcrest.Matchers} that are not already covered by
+ * {@link CoreMatchersBenchmark}. The <code>size</code> is the length of the examined string.
+ */
+@State(Scope.Benchmark)
+public class TextMatchersBenchmark extends MatcherBenchmark {
+
+    @Param({"matchesRegex(Pattern)", "matchesRegex(String)", "matchesPattern(Pattern)", "matchesPattern(String)",
+            "equalToIgnoringCase", "equalToIgnoringWhiteSpace", "equalToCompressingWhiteSpace",
+            "emptyOrNullString", "emptyString", "isEmptyOrNullString", "isEmptyString",
+            "blankOrNullString", "blankString",
+            "stringContainsInOrder(Iterable)", "stringContainsInOrder(String...)",
+            "hasToString(Matcher)", "hasToString(String)"})
+    public String factory;
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Setup
+    public void setUp() {
+        scenario = scenario(factory, size);
+    }
+
+    static Scenario scenario(String factory, int size) {
+        final String text = text(size);
+        final String other = differentAtEnd(text);
+        final String spaced = spacedText(size);
+        final String respaced = "  " + spaced.replace(" ", " \t ") + "\n";
+        final String blank = blanks(size);
+        final List<String> pieces = Arrays.asList(
+                text.substring(0, size / 4), text.substring(size / 2, 3 * size / 4), text.substring(3 * size / 4));
+
+        switch (factory) {
+            case "matchesRegex(Pattern)":
+                return Scenario.of(matchesRegex(Pattern.compile("[a-z]*")), text, other);
+            case "matchesRegex(String)":
+                return Scenario.of(matchesRegex("[a-z]*"), text, other);
+            case "matchesPattern(Pattern)":
+                return Scenario.of(matchesPattern(Pattern.compile("[a-z]*")), text, other);
+            case "matchesPattern(String)":
+                return Scenario.of(matchesPattern("[a-z]*"), text, other);
+            case "equalToIgnoringCase":
+                return Scenario.of(equalToIgnoringCase(text.toUpperCase()), text, other);
+            case "equalToIgnoringWhiteSpace":
+                return Scenario.of(equalToIgnoringWhiteSpace(spaced), respaced, differentAtEnd(respaced + "x"));
+            case "equalToCompressingWhiteSpace":
+                return Scenario.of(equalToCompressingWhiteSpace(spaced), respaced, differentAtEnd(respaced + "x"));
+            case "emptyOrNullString":
+                return Scenario.of(emptyOrNullString(), "", text);
+            case "emptyString":
+                return Scenario.of(emptyString(), "", text);
+            case "isEmptyOrNullString":
+                return Scenario.of(isEmptyOrNullString(), "", text);
+            case "isEmptyString":
+                return Scenario.of(isEmptyString(), "", text);
+            case "blankOrNullString":
+                return Scenario.of(blankOrNullString(), blank, differentAtEnd(blank));
+            case "blankString":
+                return Scenario.of(blankString(), blank, differentAtEnd(blank));
+            case "stringContainsInOrder(Iterable)":
+                return Scenario.of(stringContainsInOrder(pieces), text, other);
+            case "stringContainsInOrder(String...)":
+                return Scenario.of(stringContainsInOrder(pieces.toArray(new String[pieces.size()])), text, other);
+            case "hasToString(Matcher)":
+                return Scenario.of(hasToString(equalTo(text)), new StringBuilder(text), new StringBuilder(other));
+            case "hasToString(String)":
+                return Scenario.of(hasToString(text), new StringBuilder(text), new StringBuilder(other));
+            default:
+                throw unknownFactory(factory);
+        }
+    }
+
+    private static String blanks(int length) {
+        char[] blanks = new char[length];
+        Arrays.fill(blanks, ' ');
+        return new String(blanks);
+    }
+}
@@ -0,0 +1,72 @@
+package org.hamcrest.benchmark;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.allXPaths;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasXPath;
+
+/**
+ * Time to check <code>checks</code> fields of a contract document, each with a
+ * <code>hasXPath</code> matcher: separately, combined with <code>allOf</code>, which evaluates each
+ * XPath on its own, or together, with <code>allXPaths</code>, which walks the document once for all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class XPathSetBenchmark {
+    @Param({"30", "200"})
+    public int checks;
+
+    private Document document;
+    private Matcher<Node> separately;
+    private Matcher<Object> together;
+
+    @Setup
+    public void setUp() throws Exception {
+        final StringBuilder xml = new StringBuilder("<contract><header version='2'/><fields>");
+        final List<Matcher<? super Node>> matchers = new ArrayList<>();
+        for (int i = 0; i < checks; i++) {
+            xml.append("<field name='f").append(i).append("'><value>v").append(i).append("</value></field>");
+            matchers.add(hasXPath("/contract/fields/field[@name='f" + i + "']/value", equalTo("v" + i)));
+        }
+        document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new InputSource(new StringReader(xml.append("</fields></contract>").toString())));
+        separately = allOf(matchers);
+        together = allXPaths(matchers);
+    }
+
+    @Benchmark
+    public boolean separately() {
+        return separately.matches(document);
+    }
+
+    @Benchmark
+    public boolean together() {
+        return together.matches(document);
+    }
+}
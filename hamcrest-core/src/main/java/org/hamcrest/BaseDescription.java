@@ -90,7 +90,7 @@ public abstract class BaseDescription implements Description {
         boolean separate = false;
         
         append(start);
-        while (i.hasNext()) {
+        while (i.hasNext() && !isFull()) {
             if (separate) append(separator);
             appendDescriptionOf(i.next());
             separate = true;
@@ -102,12 +102,23 @@ public abstract class BaseDescription implements Description {
 
     /**
      * Append the String <var>str</var> to the description.  
-     * The default implementation passes every character to {@link #append(char)}.  
+     * The default implementation passes it to {@link #append(CharSequence, int, int)}.  
      * Override in subclasses to provide an efficient implementation.
      */
     protected void append(String str) {
-        for (int i = 0; i < str.length(); i++) {
-            append(str.charAt(i));
+        append(str, 0, str.length());
+    }
+
+    /**
+     * Append the characters of <var>chars</var> from index <var>start</var> up to, but not
+     * including, index <var>end</var> to the description. Text, including the runs of a string
+     * value that need no escaping, arrives through here.
+     * The default implementation passes every character to {@link #append(char)}.  
+     * Override in subclasses to append each run at once.
+     */
+    protected void append(CharSequence chars, int start, int end) {
+        for (int i = start; i < end; i++) {
+            append(chars.charAt(i));
         }
     }
     
@@ -116,33 +127,55 @@ public abstract class BaseDescription implements Description {
      */
     protected abstract void append(char c);
 
+    /**
+     * Whether the description takes no more text, so that there is no point in describing
+     * the rest of a list. The default implementation always takes more.
+     */
+    protected boolean isFull() {
+        return false;
+    }
+
     private void toJavaSyntax(String unformatted) {
         append('"');
-        for (int i = 0; i < unformatted.length(); i++) {
-            toJavaSyntax(unformatted.charAt(i));
+        int unescaped = 0;
+        for (int i = 0; i < unformatted.length() && !isFull(); i++) {
+            final String escaped = escaped(unformatted.charAt(i));
+            if (escaped != null) {
+                if (unescaped < i) {
+                    append(unformatted, unescaped, i);
+                }
+                append(escaped);
+                unescaped = i + 1;
+            }
         }
+        append(unformatted, unescaped, unformatted.length());
         append('"');
     }
 
     private void toJavaSyntax(char ch) {
+        final String escaped = escaped(ch);
+        if (escaped == null) {
+            append(ch);
+        } else {
+            append(escaped);
+        }
+    }
+
+    /** @return the Java escape sequence for the character, or null if it stands for itself */
+    private static String escaped(char ch) {
         switch (ch) {
             case '"':
-                append("\\\"");
-                break;
+                return "\\\"";
             case '\n':
-                append("\\n");
-                break;
+                return "\\n";
             case '\r':
-                append("\\r");
-                break;
+                return "\\r";
             case '\t':
-                append("\\t");
-                break;
+                return "\\t";
             case '\\':
-                append("\\\\");
-                break;
+                return "\\\\";
             default:
-                append(ch);
+                return null;
         }
     }
 }
@@ -21,6 +21,44 @@ public abstract class BaseMatcher<T> implements Matcher<T> {
         description.appendText("was ").appendValue(item);
     }
 
+    /**
+     * Evaluates the matcher for <var>actual</var> and, if it does not match, describes the
+     * mismatch in the same pass, so that the value is examined only once. Appends to
+     * <var>mismatchDescription</var> only when returning <code>false</code>.
+     * The default implementation calls {@link #matches(Object)} and then, on a mismatch,
+     * {@link #describeMismatch(Object, Description)}; diagnosing matchers do both at once.
+     *
+     * @param actual the object against which the matcher is evaluated.
+     * @param mismatchDescription the description to append to if <var>actual</var> does not match.
+     * @return <code>true</code> if <var>actual</var> matches, otherwise <code>false</code>.
+     */
+    public boolean matchesWithDiagnosis(Object actual, Description mismatchDescription) {
+        if (matches(actual)) {
+            return true;
+        }
+        describeMismatch(actual, mismatchDescription);
+        return false;
+    }
+
+    /**
+     * Evaluates any matcher as {@link #matchesWithDiagnosis(Object, Description)} does, in one
+     * pass if it is a {@link BaseMatcher}. With {@link Description#NONE} this is just
+     * {@link Matcher#matches(Object)}.
+     */
+    public static boolean matchesWithDiagnosis(Matcher<?> matcher, Object actual, Description mismatchDescription) {
+        if (mismatchDescription == Description.NONE) {
+            return matcher.matches(actual);
+        }
+        if (matcher instanceof BaseMatcher) {
+            return ((BaseMatcher<?>) matcher).matchesWithDiagnosis(actual, mismatchDescription);
+        }
+        if (matcher.matches(actual)) {
+            return true;
+        }
+        matcher.describeMismatch(actual, mismatchDescription);
+        return false;
+    }
+
     @Override
     public String toString() {
         return StringDescription.toString(this);
@@ -1,5 +1,8 @@
 package org.hamcrest;
 
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
+
 /**
  * A Condition implements part of a multi-step match. We sometimes need to write matchers
  * that have a sequence of steps, where each step depends on the result of the previous
@@ -45,11 +48,11 @@ public abstract class Condition<T> {
 
         @Override
         public boolean matching(Matcher<T> matcher, String message) {
-            if (matcher.matches(theValue)) {
+            final Description valueMismatch = prefixed(mismatch, message, "");
+            if (BaseMatcher.matchesWithDiagnosis(matcher, theValue, valueMismatch)) {
                 return true;
             }
-            mismatch.appendText(message);
-            matcher.describeMismatch(theValue, mismatch);
+            flush(valueMismatch);
             return false;
         }
 
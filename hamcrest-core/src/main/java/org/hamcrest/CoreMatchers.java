@@ -24,6 +24,32 @@ public class CoreMatchers {
     return org.hamcrest.core.AllOf.allOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+   * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+   * that are slow, such as those that do I/O. Once a matcher fails, the tasks of the matchers
+   * after it are cancelled; those before it still finish, so that the mismatch described is
+   * that of the first matcher to fail, as for {@link #allOf(Iterable)}. The matchers must be
+   * safe to use from several threads. On JDKs that have them, an executor of virtual threads
+   * suits I/O-bound matchers.
+   * For example:
+   * <pre>assertThat(document, allOfConcurrently(asList(hasXPath("//order"), hasXPath("//customer")), executor))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> allOfConcurrently(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers, java.util.concurrent.Executor executor) {
+    return org.hamcrest.core.AllOf.allOfConcurrently(matchers, executor);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+   * matchers, trying first those that have been cheapest and most likely to fail so far.
+   * The description and mismatch description are those of {@link #allOf(Iterable)}.
+   * For example:
+   * <pre>rules.add(adaptiveAllOf(asList(hasProperty("region", equalTo("EU")), hasXPath("//order[@total &gt; 100]"))))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AdaptiveCombination.adaptiveAllOf(matchers);
+  }
+
 
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
@@ -44,6 +70,30 @@ public class CoreMatchers {
     return org.hamcrest.core.AnyOf.anyOf(matchers);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+   * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+   * that are slow, such as those that do I/O. Once a matcher matches, the tasks of all the
+   * others are cancelled. The matchers must be safe to use from several threads. On JDKs that
+   * have them, an executor of virtual threads suits I/O-bound matchers.
+   * For example:
+   * <pre>assertThat(host, anyOfConcurrently(asList(answersPing(), acceptsConnectionsOn(443)), executor))</pre>
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> anyOfConcurrently(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers, java.util.concurrent.Executor executor) {
+    return org.hamcrest.core.AnyOf.anyOfConcurrently(matchers, executor);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+   * matchers, trying first those that have been cheapest and most likely to match so far.
+   * The description and mismatch description are those of {@link #anyOf(Iterable)}.
+   * For example:
+   * <pre>rules.add(adaptiveAnyOf(asList(hasXPath("//refund"), hasProperty("flagged", is(true)))))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AdaptiveCombination.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -79,6 +129,68 @@ public class CoreMatchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Wraps an existing matcher, keeping the text of its description after the first time it is
+   * described, unless that is more than {@link org.hamcrest.core.DescribedOnce#DEFAULT_MAX_LENGTH} characters long. All other
+   * functions are delegated to the decorated matcher. The description of the decorated matcher
+   * must not change.
+   * For example:
+   * <pre>describedOnce(allOf(hasProperty("name", ...), hasProperty("age", ...), ...))</pre>
+   * 
+   * @param matcher
+   *     the matcher to wrap
+   */
+  public static <T> org.hamcrest.Matcher<T> describedOnce(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.DescribedOnce.describedOnce(matcher);
+  }
+
+  /**
+   * Wraps an existing matcher, keeping the text of its description after the first time it is
+   * described, unless that is more than <code>maxLength</code> characters long. All other
+   * functions are delegated to the decorated matcher. The description of the decorated matcher
+   * must not change.
+   * For example:
+   * <pre>describedOnce(containsInAnyOrder(expectedRows), 1024 * 1024)</pre>
+   * 
+   * @param matcher
+   *     the matcher to wrap
+   * @param maxLength
+   *     the longest description, in characters, to keep
+   */
+  public static <T> org.hamcrest.Matcher<T> describedOnce(org.hamcrest.Matcher<T> matcher, int maxLength) {
+    return org.hamcrest.core.DescribedOnce.describedOnce(matcher, maxLength);
+  }
+
+  /**
+   * Creates a matcher that matches, and describes itself and its mismatches, as
+   * <code>matcher</code> does, but evaluates a simplified copy of the matcher tree. Worth it
+   * for trees built from many small pieces, such as long <code>both(...).and(...)</code>
+   * chains, that are evaluated many times.
+   * For example:
+   * <pre>Matcher&lt;Order&gt; rule = optimize(both(hasProperty("total", greaterThan(100))).and(hasProperty("total", lessThan(1000))))</pre>
+   * 
+   * @param matcher
+   *     the matcher to optimize
+   */
+  public static <T> org.hamcrest.Matcher<T> optimize(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.OptimizedMatcher.optimize(matcher);
+  }
+
+  /**
+   * Creates a matcher that matches, and describes itself and its mismatches, as
+   * <code>matcher</code> does, but evaluates the tree as one composed method handle. Worth it
+   * for deep trees that are evaluated many times; combine with
+   * {@link #optimize(org.hamcrest.Matcher)} to simplify the tree first.
+   * For example:
+   * <pre>Matcher&lt;Order&gt; rule = compiled(optimize(allOf(hasProperty("region", equalTo("EU")), ...)))</pre>
+   * 
+   * @param matcher
+   *     the matcher to compile
+   */
+  public static <T> org.hamcrest.Matcher<T> compiled(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.CompiledMatcher.compiled(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -93,6 +205,25 @@ public class CoreMatchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+   * {@link Iterable} are all matched by the specified <code>itemMatcher</code>. The items of
+   * {@link java.util.RandomAccess} lists are split between the workers of <code>pool</code>,
+   * which stop once an item fails, so <code>itemMatcher</code> must be safe to use from several
+   * threads. The mismatch described is that of the first item to fail, as for
+   * {@link #everyItem(Matcher)}. Other {@link Iterable}s are traversed in a single pass.
+   * For example:
+   * <pre>assertThat(readings, everyItem(isValidReading(), pool))</pre>
+   * 
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to evaluate the items
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItem(org.hamcrest.Matcher<U> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return org.hamcrest.core.Every.everyItem(itemMatcher, pool);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -160,6 +291,25 @@ public class CoreMatchers {
     return IsIterableContaining.hasItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>. The items of {@link java.util.RandomAccess} lists are split
+   * between the workers of <code>pool</code>, which all stop as soon as a matching item is
+   * found, so <code>itemMatcher</code> must be safe to use from several threads. Other
+   * {@link Iterable}s are traversed in a single pass.
+   * For example:
+   * <pre>assertThat(events, hasItem(isSuspicious(), pool))</pre>
+   * 
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to evaluate the items
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? super T>> hasItem(org.hamcrest.Matcher<? super T> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return IsIterableContaining.hasItem(itemMatcher, pool);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields at least one item that is equal to the specified
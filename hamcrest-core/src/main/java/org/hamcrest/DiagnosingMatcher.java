@@ -17,5 +17,10 @@ public abstract class DiagnosingMatcher<T> extends BaseMatcher<T> {
         matches(item, mismatchDescription);
     }
 
+    @Override
+    public final boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        return matches(item, mismatchDescription);
+    }
+
     protected abstract boolean matches(Object item, Description mismatchDescription);
 }
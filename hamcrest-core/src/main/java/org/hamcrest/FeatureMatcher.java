@@ -2,6 +2,9 @@ package org.hamcrest;
 
 import org.hamcrest.internal.ReflectiveTypeFinder;
 
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
+
 /**
  * Supporting class for matching a feature of an object. Implement <code>featureValueOf()</code>
  * in a subclass to pull out the feature to be matched against. 
@@ -38,9 +41,9 @@ public abstract class FeatureMatcher<T, U> extends TypeSafeDiagnosingMatcher<T>
   @Override
   protected boolean matchesSafely(T actual, Description mismatch) {
     final U featureValue = featureValueOf(actual);
-    if (!subMatcher.matches(featureValue)) {
-      mismatch.appendText(featureName).appendText(" ");
-      subMatcher.describeMismatch(featureValue, mismatch);
+    final Description featureMismatch = prefixed(mismatch, featureName, " ");
+    if (!matchesWithDiagnosis(subMatcher, featureValue, featureMismatch)) {
+      flush(featureMismatch);
       return false;
     }
     return true;
@@ -0,0 +1,45 @@
+package org.hamcrest;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * The failure thrown by {@link MatcherAssert#assertThat(String, Object, Matcher)} when
+ * {@link MatcherAssert#LAZY_MESSAGES} is set. It keeps the reason, the matcher and the actual
+ * value, and renders the "Expected/but" message only when it is first asked for, so that
+ * failures which are caught and discarded cost no description. The mismatch is described
+ * from the actual value as it is at that time.
+ */
+final class LazyAssertionError extends AssertionError {
+    private static final long serialVersionUID = 1L;
+
+    private final String reason;
+    private final int maxLength;
+    private transient Matcher<?> matcher;
+    private transient Object actual;
+    private String message;
+
+    LazyAssertionError(String reason, Object actual, Matcher<?> matcher, int maxLength) {
+        this.reason = reason;
+        this.actual = actual;
+        this.matcher = matcher;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public synchronized String getMessage() {
+        if (message == null) {
+            final Description mismatch = new StringDescription(maxLength);
+            matcher.describeMismatch(actual, mismatch);
+            message = MatcherAssert.message(reason, matcher, mismatch.toString(), maxLength);
+            matcher = null;
+            actual = null;
+        }
+        return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+}
@@ -16,6 +16,9 @@ package org.hamcrest;
  * <code>describeMismatch()</code> will be called, so the objects passed as
  * <code>actual</code> arguments should not change when referenced. If you're testing a
  * stream, a good practice is to collect the contents of the stream before matching.
+ * {@link MatcherAssert} evaluates through
+ * {@link BaseMatcher#matchesWithDiagnosis(Matcher, Object, Description)}, which examines the
+ * value once when the matcher is a {@link DiagnosingMatcher} or {@link TypeSafeDiagnosingMatcher}.
  * </p>
  * <p>
  * N.B. Well designed matchers should be immutable.
@@ -2,22 +2,71 @@ package org.hamcrest;
 
 
 public class MatcherAssert {
+    /**
+     * The system property that limits the length of assertion messages, in characters.
+     * Text beyond the limit is replaced by {@link StringDescription#ELISION}. Unlimited if unset,
+     * not a number or negative. Read once, when this class is initialised.
+     */
+    public static final String MAX_DESCRIPTION_LENGTH = "org.hamcrest.maxDescriptionLength";
+
+    /**
+     * The system property that, when <code>true</code>, makes assertThat throw errors that
+     * describe the failure only when their message is first read. For callers that catch and
+     * count failures without reading them. The mismatch is then described in a second pass
+     * over the actual value, which must not have changed in between. Read once, when this
+     * class is initialised.
+     */
+    public static final String LAZY_MESSAGES = "org.hamcrest.lazyMessages";
+
+    private static final int MAX_LENGTH = maxDescriptionLength(System.getProperty(MAX_DESCRIPTION_LENGTH));
+    private static final boolean LAZY = Boolean.getBoolean(LAZY_MESSAGES);
+
     public static <T> void assertThat(T actual, Matcher<? super T> matcher) {
         assertThat("", actual, matcher);
     }
     
     public static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher) {
-        if (!matcher.matches(actual)) {
-            Description description = new StringDescription();
-            description.appendText(reason)
-                       .appendText("\nExpected: ")
-                       .appendDescriptionOf(matcher)
-                       .appendText("\n     but: ");
-            matcher.describeMismatch(actual, description);
-            
-            throw new AssertionError(description.toString());
+        assertThat(reason, actual, matcher, LAZY, MAX_LENGTH);
+    }
+
+    static <T> void assertThat(String reason, T actual, Matcher<? super T> matcher, boolean lazyMessages, int maxLength) {
+        if (lazyMessages) {
+            if (!matcher.matches(actual)) {
+                throw new LazyAssertionError(reason, actual, matcher, maxLength);
+            }
+            return;
+        }
+        final Description mismatch = new StringDescription(maxLength);
+        if (!BaseMatcher.matchesWithDiagnosis(matcher, actual, mismatch)) {
+            throw new AssertionError(message(reason, matcher, mismatch.toString(), maxLength));
         }
     }
+
+    /**
+     * @return the limit in <code>value</code>, or {@link Integer#MAX_VALUE} if it is null, not a
+     *     number or negative
+     */
+    static int maxDescriptionLength(String value) {
+        if (value == null) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            final int maxLength = Integer.decode(value);
+            return maxLength < 0 ? Integer.MAX_VALUE : maxLength;
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    static String message(String reason, SelfDescribing matcher, String mismatch, int maxLength) {
+        Description description = new StringDescription(maxLength);
+        description.appendText(reason)
+                   .appendText("\nExpected: ")
+                   .appendDescriptionOf(matcher)
+                   .appendText("\n     but: ")
+                   .appendText(mismatch);
+        return description.toString();
+    }
     
     public static void assertThat(String reason, boolean assertion) {
         if (!assertion) {
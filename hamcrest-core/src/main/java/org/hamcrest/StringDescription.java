@@ -4,16 +4,46 @@ import java.io.IOException;
 
 /**
  * A {@link Description} that is stored as a string.
+ * It may be given a maximum length, beyond which text is dropped and {@link #ELISION} is
+ * appended in its place, so that describing huge values cannot produce a huge string.
  */
 public class StringDescription extends BaseDescription {
+    /** Appended, once, in place of the text beyond the maximum length. */
+    public static final String ELISION = "...";
+
     private final Appendable out;
+    private final int maxLength;
+    private int length;
+    private boolean elided;
 
     public StringDescription() {
         this(new StringBuilder());
     }
 
     public StringDescription(Appendable out) {
+        this(out, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxLength
+     *   The number of characters to keep, not counting the {@link #ELISION}.
+     */
+    public StringDescription(int maxLength) {
+        this(new StringBuilder(), maxLength);
+    }
+
+    /**
+     * @param out
+     *   Where to append the description.
+     * @param maxLength
+     *   The number of characters to append, not counting the {@link #ELISION}.
+     */
+    public StringDescription(Appendable out, int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Negative maximum length " + maxLength);
+        }
         this.out = out;
+        this.maxLength = maxLength;
     }
     
     /**
@@ -37,17 +67,64 @@ public class StringDescription extends BaseDescription {
 
     @Override
     protected void append(String str) {
-        try {
-            out.append(str);
-        } catch (IOException e) {
-            throw new RuntimeException("Could not write description", e);
+        if (str.length() <= maxLength - length) {
+            length += str.length();
+            try {
+                out.append(str);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write description", e);
+            }
+        } else {
+            append(str, 0, str.length());
+        }
+    }
+
+    @Override
+    protected void append(CharSequence chars, int start, int end) {
+        if (end - start <= maxLength - length) {
+            length += end - start;
+            write(chars, start, end);
+        } else if (!elided) {
+            int kept = maxLength - length;
+            if (kept > 0 && Character.isHighSurrogate(chars.charAt(start + kept - 1))) {
+                kept--;
+            }
+            write(chars, start, start + kept);
+            elide();
         }
     }
 
     @Override
     protected void append(char c) {
+        if (length < maxLength) {
+            length++;
+            try {
+                out.append(c);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write description", e);
+            }
+        } else if (!elided) {
+            elide();
+        }
+    }
+
+    /**
+     * @return true once text has been dropped for want of space
+     */
+    @Override
+    protected boolean isFull() {
+        return elided;
+    }
+
+    private void elide() {
+        elided = true;
+        length = maxLength;
+        write(ELISION, 0, ELISION.length());
+    }
+
+    private void write(CharSequence chars, int start, int end) {
         try {
-            out.append(c);
+            out.append(chars, start, end);
         } catch (IOException e) {
             throw new RuntimeException("Could not write description", e);
         }
@@ -54,21 +54,27 @@ public abstract class TypeSafeDiagnosingMatcher<T> extends BaseMatcher<T> {
     public final boolean matches(Object item) {
         return item != null
             && expectedType.isInstance(item)
-            && matchesSafely((T) item, new Description.NullDescription());
+            && matchesSafely((T) item, Description.NONE);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public final void describeMismatch(Object item, Description mismatchDescription) {
+        matchesWithDiagnosis(item, mismatchDescription);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
       if (item == null) {
         mismatchDescription.appendText("was null");
-    } else if (!expectedType.isInstance(item)) {
-      mismatchDescription.appendText("was ")
+        return false;
+      } else if (!expectedType.isInstance(item)) {
+        mismatchDescription.appendText("was ")
             .appendText(item.getClass().getSimpleName())
             .appendText(" ")
             .appendValue(item);
-    } else {
-        matchesSafely((T) item, mismatchDescription);
+        return false;
       }
+      return matchesSafely((T) item, mismatchDescription);
     }
 }
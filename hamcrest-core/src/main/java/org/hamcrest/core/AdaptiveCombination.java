@@ -0,0 +1,185 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Calculates the logical conjunction or disjunction of multiple matchers, as {@link AllOf} and
+ * {@link AnyOf} do, but tries the matchers in the order that has been cheapest so far rather
+ * than in the order they were given. A sample of the evaluations is timed, counting how often
+ * each matcher decides the result, and every so often the matchers are sorted by their average
+ * cost divided by the chance that they decide, which minimises the expected cost of matching
+ * if the matchers are independent. Matchers that have never been tried go first, so that they
+ * are measured. For long-lived matchers evaluated many times, from any number of threads; the
+ * matchers must have no side effects that depend on the order they are called in.
+ * <p>
+ * Descriptions are in the order the matchers were given, and a mismatch is described by the
+ * first of them to fail, as for <code>allOf</code>, so that they do not depend on the history
+ * of the matcher.
+ */
+public class AdaptiveCombination<T> extends BaseMatcher<T> {
+    /** On average, one evaluation in this many is timed. */
+    private static final int SAMPLE_RATE = 32;
+    /** Timed evaluations between sorting the matchers. */
+    private static final int SAMPLES_PER_REORDER = 128;
+    /** Evaluations of a matcher after which its statistics are halved, to follow changes. */
+    private static final long MAX_EVALUATIONS = 1 << 16;
+
+    private static final int EVALUATIONS = 0;
+    private static final int DECISIONS = 1;
+    private static final int NANOS = 2;
+    private static final int STATISTICS = 3;
+
+    private final List<Matcher<? super T>> matchers;
+    private final boolean shortcut;
+    private final Matcher<T> declared;
+    private final AtomicLongArray statistics;
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile int[] order;
+
+    /**
+     * @param shortcut
+     *     the result of a matcher that decides the result of the combination: <code>false</code>
+     *     for a conjunction, <code>true</code> for a disjunction
+     */
+    public AdaptiveCombination(Iterable<Matcher<? super T>> matchers, boolean shortcut) {
+        this.matchers = AllOf.copyOf(matchers);
+        this.shortcut = shortcut;
+        this.declared = shortcut ? new AnyOf<>(this.matchers) : new AllOf<>(this.matchers);
+        this.statistics = new AtomicLongArray(this.matchers.size() * STATISTICS);
+        this.order = new int[this.matchers.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    @Override
+    public boolean matches(Object o) {
+        final int[] current = order;
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            return sampledMatches(current, o);
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (matchers.get(current[i]).matches(o) == shortcut) {
+                return shortcut;
+            }
+        }
+        return !shortcut;
+    }
+
+    private boolean sampledMatches(int[] current, Object o) {
+        boolean result = !shortcut;
+        for (int i = 0; i < current.length; i++) {
+            final int index = current[i];
+            final long start = System.nanoTime();
+            final boolean decided = matchers.get(index).matches(o) == shortcut;
+            record(index, System.nanoTime() - start, decided);
+            if (decided) {
+                result = shortcut;
+                break;
+            }
+        }
+        if (samples.incrementAndGet() % SAMPLES_PER_REORDER == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private void record(int index, long nanos, boolean decided) {
+        final int base = index * STATISTICS;
+        if (statistics.incrementAndGet(base + EVALUATIONS) > MAX_EVALUATIONS) {
+            // Races with other threads only blur the statistics, which are estimates anyway.
+            for (int i = base; i < base + STATISTICS; i++) {
+                statistics.set(i, statistics.get(i) / 2);
+            }
+        }
+        if (decided) {
+            statistics.incrementAndGet(base + DECISIONS);
+        }
+        statistics.addAndGet(base + NANOS, nanos);
+    }
+
+    private void reorder() {
+        final int size = matchers.size();
+        final double[] ranks = new double[size];
+        final Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ranks[i] = rank(i);
+            sorted[i] = i;
+        }
+        // A stable sort, so that matchers that rank the same keep the order they were given in.
+        Arrays.sort(sorted, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Double.compare(ranks[a], ranks[b]);
+            }
+        });
+        final int[] reordered = new int[size];
+        for (int i = 0; i < size; i++) {
+            reordered[i] = sorted[i];
+        }
+        order = reordered;
+    }
+
+    private double rank(int index) {
+        final int base = index * STATISTICS;
+        final long evaluations = statistics.get(base + EVALUATIONS);
+        if (evaluations == 0) {
+            return 0;
+        }
+        final long decisions = statistics.get(base + DECISIONS);
+        if (decisions == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (double) statistics.get(base + NANOS) / decisions;
+    }
+
+    @Override
+    public boolean matchesWithDiagnosis(Object actual, Description mismatchDescription) {
+        if (matches(actual)) {
+            return true;
+        }
+        declared.describeMismatch(actual, mismatchDescription);
+        return false;
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        declared.describeMismatch(item, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        declared.describeTo(description);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+     * matchers, trying first those that have been cheapest and most likely to fail so far.
+     * The description and mismatch description are those of {@link AllOf#allOf(Iterable)}.
+     * For example:
+     * <pre>rules.add(adaptiveAllOf(asList(hasProperty("region", equalTo("EU")), hasXPath("//order[@total &gt; 100]"))))</pre>
+     */
+    public static <T> Matcher<T> adaptiveAllOf(Iterable<Matcher<? super T>> matchers) {
+        return new AdaptiveCombination<>(matchers, false);
+    }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+     * matchers, trying first those that have been cheapest and most likely to match so far.
+     * The description and mismatch description are those of {@link AnyOf#anyOf(Iterable)}.
+     * For example:
+     * <pre>rules.add(adaptiveAnyOf(asList(hasXPath("//refund"), hasProperty("flagged", is(true)))))</pre>
+     */
+    public static <T> Matcher<T> adaptiveAnyOf(Iterable<Matcher<? super T>> matchers) {
+        return new AdaptiveCombination<>(matchers, true);
+    }
+}
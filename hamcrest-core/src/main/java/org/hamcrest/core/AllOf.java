@@ -4,7 +4,13 @@ import org.hamcrest.Description;
 import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
 
 /**
  * Calculates the logical conjunction of multiple matchers. Evaluation is shortcut, so
@@ -12,20 +18,48 @@ import java.util.Arrays;
  */
 public class AllOf<T> extends DiagnosingMatcher<T> {
 
-    private final Iterable<Matcher<? super T>> matchers;
+    private final List<Matcher<? super T>> matchers;
+    private final Executor executor;
 
     public AllOf(Iterable<Matcher<? super T>> matchers) {
-        this.matchers = matchers;
+        this(matchers, null);
+    }
+
+    /**
+     * @param executor
+     *     where to evaluate the matchers concurrently, or null to evaluate them in turn
+     */
+    public AllOf(Iterable<Matcher<? super T>> matchers, Executor executor) {
+        this.matchers = copyOf(matchers);
+        this.executor = executor;
     }
 
     @Override
     public boolean matches(Object o, Description mismatch) {
-        for (Matcher<? super T> matcher : matchers) {
-            if (!matcher.matches(o)) {
-                mismatch.appendDescriptionOf(matcher).appendText(" ");
-                matcher.describeMismatch(o, mismatch);
-              return false;
+        if (executor != null && matchers.size() > 1) {
+            final int failed = ConcurrentMatching.firstIndex(executor, matchers, o, false);
+            if (failed < 0) {
+                return true;
+            }
+            if (mismatch != Description.NONE) {
+                matches(matchers.get(failed), o, mismatch);
             }
+            return false;
+        }
+        // Indexed loop, so that matching does not allocate an iterator.
+        for (int i = 0; i < matchers.size(); i++) {
+            if (!matches(matchers.get(i), o, mismatch)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Matcher<?> matcher, Object o, Description mismatch) {
+        final Description matcherMismatch = prefixed(mismatch, matcher, " ");
+        if (!matchesWithDiagnosis(matcher, o, matcherMismatch)) {
+            flush(matcherMismatch);
+            return false;
         }
         return true;
     }
@@ -35,6 +69,22 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
         description.appendList("(", " " + "and" + " ", ")", matchers);
     }
 
+    List<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    boolean isConcurrent() {
+        return executor != null;
+    }
+
+    static <T> List<Matcher<? super T>> copyOf(Iterable<Matcher<? super T>> matchers) {
+        final List<Matcher<? super T>> copy = new ArrayList<>();
+        for (Matcher<? super T> matcher : matchers) {
+            copy.add(matcher);
+        }
+        return copy;
+    }
+
     /**
      * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified matchers.
      * For example:
@@ -53,4 +103,19 @@ public class AllOf<T> extends DiagnosingMatcher<T> {
     public static <T> Matcher<T> allOf(Matcher<? super T>... matchers) {
         return allOf(Arrays.asList(matchers));
     }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+     * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+     * that are slow, such as those that do I/O. Once a matcher fails, the tasks of the matchers
+     * after it are cancelled; those before it still finish, so that the mismatch described is
+     * that of the first matcher to fail, as for {@link #allOf(Iterable)}. The matchers must be
+     * safe to use from several threads. On JDKs that have them, an executor of virtual threads
+     * suits I/O-bound matchers.
+     * For example:
+     * <pre>assertThat(document, allOfConcurrently(asList(hasXPath("//order"), hasXPath("//customer")), executor))</pre>
+     */
+    public static <T> Matcher<T> allOfConcurrently(Iterable<Matcher<? super T>> matchers, Executor executor) {
+        return new AllOf<>(matchers, executor);
+    }
 }
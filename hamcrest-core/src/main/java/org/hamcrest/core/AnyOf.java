@@ -4,6 +4,7 @@ import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
 import java.util.Arrays;
+import java.util.concurrent.Executor;
 
 /**
  * Calculates the logical disjunction of multiple matchers. Evaluation is shortcut, so
@@ -15,6 +16,14 @@ public class AnyOf<T> extends ShortcutCombination<T> {
         super(matchers);
     }
 
+    /**
+     * @param executor
+     *     where to evaluate the matchers concurrently, or null to evaluate them in turn
+     */
+    public AnyOf(Iterable<Matcher<? super T>> matchers, Executor executor) {
+        super(matchers, executor);
+    }
+
     @Override
     public boolean matches(Object o) {
         return matches(o, true);
@@ -43,4 +52,17 @@ public class AnyOf<T> extends ShortcutCombination<T> {
     public static <T> AnyOf<T> anyOf(Matcher<? super T>... matchers) {
         return anyOf(Arrays.asList(matchers));
     }
+
+    /**
+     * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+     * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+     * that are slow, such as those that do I/O. Once a matcher matches, the tasks of all the
+     * others are cancelled. The matchers must be safe to use from several threads. On JDKs that
+     * have them, an executor of virtual threads suits I/O-bound matchers.
+     * For example:
+     * <pre>assertThat(host, anyOfConcurrently(asList(answersPing(), acceptsConnectionsOn(443)), executor))</pre>
+     */
+    public static <T> AnyOf<T> anyOfConcurrently(Iterable<Matcher<? super T>> matchers, Executor executor) {
+        return new AnyOf<>(matchers, executor);
+    }
 }
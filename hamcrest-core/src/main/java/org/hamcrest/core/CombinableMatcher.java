@@ -15,11 +15,7 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
 
   @Override
   protected boolean matchesSafely(T item, Description mismatch) {
-    if (!matcher.matches(item)) {
-      matcher.describeMismatch(item, mismatch);
-      return false;
-    }
-    return true;
+    return matchesWithDiagnosis(matcher, item, mismatch);
   }
 
   @Override
@@ -27,6 +23,10 @@ public class CombinableMatcher<T> extends TypeSafeDiagnosingMatcher<T> {
     description.appendDescriptionOf(matcher);
   }
 
+  Matcher<? super T> matcher() {
+    return matcher;
+  }
+
   public CombinableMatcher<T> and(Matcher<? super T> other) {
     return new CombinableMatcher<>(new AllOf<>(templatedListWith(other)));
   }
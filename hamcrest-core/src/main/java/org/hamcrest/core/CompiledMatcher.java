@@ -0,0 +1,162 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.internal.MatcherCompiler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches as another matcher does, by calling one method handle composed from the matcher tree
+ * by {@link MatcherCompiler}. The handle of a hot matcher is specialised by the JVM into code
+ * in which the nodes of the tree are inlined into each other, rather than called through the
+ * megamorphic call sites of <code>allOf</code>, <code>anyOf</code> and feature matchers.
+ * Matchers that cannot be compiled are called as they are. Descriptions and mismatch
+ * descriptions are those of the original matcher.
+ * <p>
+ * As for {@link OptimizedMatcher}, only matchers of the exact core classes listed in
+ * {@link #compile(Matcher)} are composed, so subclasses keep their behaviour. Nothing is looked
+ * up until a matcher is first compiled.
+ */
+public class CompiledMatcher<T> extends BaseMatcher<T> {
+    private static final MethodHandle ARE_EQUAL = MatcherCompiler.findStatic(
+        MethodHandles.lookup(), IsEqual.class, "areEqual", MatcherCompiler.PREDICATE.appendParameterTypes(Object.class));
+    private static final MethodHandle CONTAINS = MatcherCompiler.findVirtual(
+        MethodHandles.publicLookup(), Set.class, "contains", MatcherCompiler.PREDICATE);
+
+    private final Matcher<T> original;
+    private final MethodHandle predicate;
+
+    private CompiledMatcher(Matcher<T> original, MethodHandle predicate) {
+        this.original = original;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        try {
+            return (boolean) predicate.invokeExact(item);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        if (matches(item)) {
+            return true;
+        }
+        original.describeMismatch(item, mismatchDescription);
+        return false;
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        original.describeMismatch(item, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        original.describeTo(description);
+    }
+
+    /**
+     * Creates a matcher that matches, and describes itself and its mismatches, as
+     * <code>matcher</code> does, but evaluates the tree as one composed method handle. Worth it
+     * for deep trees that are evaluated many times; combine with
+     * {@link OptimizedMatcher#optimize(Matcher)} to simplify the tree first.
+     * For example:
+     * <pre>Matcher&lt;Order&gt; rule = compiled(optimize(allOf(hasProperty("region", equalTo("EU")), ...)))</pre>
+     *
+     * @param matcher
+     *     the matcher to compile
+     */
+    public static <T> Matcher<T> compiled(Matcher<T> matcher) {
+        if (matcher.getClass() == CompiledMatcher.class) {
+            return matcher;
+        }
+        return new CompiledMatcher<>(matcher, compile(matcher));
+    }
+
+    /**
+     * @return a handle of type {@link MatcherCompiler#PREDICATE} that matches as
+     *     <code>matcher</code> does: composed from the handles of its parts for the core
+     *     combinations, wrappers and simple checks, and calling the matcher for anything else
+     */
+    static MethodHandle compile(Matcher<?> matcher) {
+        final Class<?> type = matcher.getClass();
+        if (type == CompiledMatcher.class) {
+            return ((CompiledMatcher<?>) matcher).predicate;
+        }
+        if (type == OptimizedMatcher.class) {
+            return compile(((OptimizedMatcher<?>) matcher).plan());
+        }
+        if (type == Is.class) {
+            return compile(((Is<?>) matcher).matcher());
+        }
+        if (type == DescribedAs.class) {
+            return compile(((DescribedAs<?>) matcher).matcher());
+        }
+        if (type == DescribedOnce.class) {
+            return compile(((DescribedOnce<?>) matcher).matcher());
+        }
+        if (type == CombinableMatcher.class) {
+            return MatcherCompiler.guarded(Object.class, compile(((CombinableMatcher<?>) matcher).matcher()));
+        }
+        if (type == IsNot.class) {
+            return MatcherCompiler.not(compile(((IsNot<?>) matcher).matcher()));
+        }
+        if (type == AllOf.class && !((AllOf<?>) matcher).isConcurrent()) {
+            return MatcherCompiler.and(compileAll(((AllOf<?>) matcher).matchers()));
+        }
+        if (type == AnyOf.class && !((AnyOf<?>) matcher).isConcurrent()) {
+            return MatcherCompiler.or(compileAll(((AnyOf<?>) matcher).matchers()));
+        }
+        if (type == IsEqual.class) {
+            return MethodHandles.insertArguments(ARE_EQUAL, 1, ((IsEqual<?>) matcher).expectedValue());
+        }
+        if (type == IsNull.class) {
+            return MatcherCompiler.isNull();
+        }
+        if (type == IsInstanceOf.class) {
+            return MatcherCompiler.isInstance(((IsInstanceOf) matcher).matchableClass());
+        }
+        return compilePlan(matcher);
+    }
+
+    /** Compiles the nodes that {@link OptimizedMatcher} builds its plans from. */
+    private static MethodHandle compilePlan(Matcher<?> matcher) {
+        if (matcher instanceof OptimizedMatcher.Conjunction) {
+            return MatcherCompiler.and(compileAll(Arrays.asList(((OptimizedMatcher.Combination) matcher).matchers)));
+        }
+        if (matcher instanceof OptimizedMatcher.Disjunction) {
+            return MatcherCompiler.or(compileAll(Arrays.asList(((OptimizedMatcher.Combination) matcher).matchers)));
+        }
+        if (matcher instanceof OptimizedMatcher.Negation) {
+            return MatcherCompiler.not(compile(((OptimizedMatcher.Negation) matcher).matcher));
+        }
+        if (matcher instanceof OptimizedMatcher.NotNull) {
+            return MatcherCompiler.guarded(Object.class, compile(((OptimizedMatcher.NotNull) matcher).matcher));
+        }
+        if (matcher instanceof OptimizedMatcher.OneOf) {
+            return CONTAINS.bindTo(((OptimizedMatcher.OneOf) matcher).values);
+        }
+        return MatcherCompiler.calling(matcher);
+    }
+
+    private static List<MethodHandle> compileAll(List<? extends Matcher<?>> matchers) {
+        final List<MethodHandle> compiled = new ArrayList<>(matchers.size());
+        for (Matcher<?> matcher : matchers) {
+            compiled.add(compile(matcher));
+        }
+        return compiled;
+    }
+}
@@ -0,0 +1,148 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates the matchers of a combination for one item at the same time, each as a task on an
+ * {@link Executor}, for combinations of slow matchers. Tasks whose result can no longer
+ * change the outcome are cancelled, which interrupts them if they have started.
+ * A matcher that throws only makes the evaluation throw when the outcome depends on it, so the
+ * outcome does not depend on which task happens to finish first.
+ */
+final class ConcurrentMatching {
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private ConcurrentMatching() {
+    }
+
+    /**
+     * @return the lowest index of the matchers whose result for <code>item</code> is
+     *     <code>decisive</code>, or -1. This is the matcher a sequential evaluation stops at,
+     *     so only the matchers after the lowest decisive one found so far are cancelled.
+     *     As in a sequential evaluation, a matcher that throws before that index makes this
+     *     throw, and one that throws after it is ignored.
+     */
+    static int firstIndex(Executor executor, List<? extends Matcher<?>> matchers, Object item, boolean decisive) {
+        return search(executor, matchers, item, decisive, true);
+    }
+
+    /**
+     * @return the index of some matcher whose result for <code>item</code> is
+     *     <code>decisive</code>, or -1. All other matchers are cancelled once one is found.
+     *     A matcher that throws makes this throw only if no matcher is decisive, in which case
+     *     the lowest index that threw is the one rethrown.
+     */
+    static int anyIndex(Executor executor, List<? extends Matcher<?>> matchers, Object item, boolean decisive) {
+        return search(executor, matchers, item, decisive, false);
+    }
+
+    private static int search(Executor executor, List<? extends Matcher<?>> matchers, Object item, boolean decisive, boolean lowest) {
+        final CompletionService<Integer> completion = new ExecutorCompletionService<>(executor);
+        final Future<?>[] tasks = new Future<?>[matchers.size()];
+        final boolean[] done = new boolean[matchers.size()];
+        int found = NOT_FOUND;
+        int failed = NOT_FOUND;
+        Throwable failure = null;
+        int firstPending = 0;
+        try {
+            for (int i = 0; i < tasks.length; i++) {
+                tasks[i] = completion.submit(new Evaluation(matchers.get(i), item, decisive, i));
+            }
+            while (firstPending < Math.min(lowest ? Math.min(found, failed) : found, tasks.length)) {
+                final Future<Integer> next = completion.take();
+                if (next.isCancelled()) {
+                    continue;
+                }
+                try {
+                    final int result = next.get();
+                    final int index = result >= 0 ? result : ~result;
+                    done[index] = true;
+                    if (result >= 0 && index < found) {
+                        found = index;
+                        if (!lowest) {
+                            break;
+                        }
+                        cancelFrom(tasks, Math.min(found, failed) + 1);
+                    }
+                } catch (ExecutionException e) {
+                    final int index = indexOf(tasks, next);
+                    done[index] = true;
+                    if (index < failed) {
+                        failed = index;
+                        failure = e.getCause();
+                        if (lowest) {
+                            cancelFrom(tasks, Math.min(found, failed) + 1);
+                        }
+                    }
+                }
+                while (firstPending < tasks.length && done[firstPending]) {
+                    firstPending++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while matching concurrently", e);
+        } finally {
+            cancelFrom(tasks, 0);
+        }
+        if (failed < found && (lowest || found == NOT_FOUND)) {
+            throw rethrown(failure);
+        }
+        return found == NOT_FOUND ? -1 : found;
+    }
+
+    private static int indexOf(Future<?>[] tasks, Future<?> task) {
+        for (int i = 0; ; i++) {
+            if (tasks[i] == task) {
+                return i;
+            }
+        }
+    }
+
+    private static void cancelFrom(Future<?>[] tasks, int from) {
+        for (int i = from; i < tasks.length && tasks[i] != null; i++) {
+            tasks[i].cancel(true);
+        }
+    }
+
+    private static RuntimeException rethrown(Throwable cause) {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    /**
+     * Evaluates one matcher. The result is its index if the matcher's result is decisive,
+     * and the complement of its index otherwise, so that every result identifies its matcher.
+     */
+    private static final class Evaluation implements Callable<Integer> {
+        private final Matcher<?> matcher;
+        private final Object item;
+        private final boolean decisive;
+        private final int index;
+
+        Evaluation(Matcher<?> matcher, Object item, boolean decisive, int index) {
+            this.matcher = matcher;
+            this.item = item;
+            this.decisive = decisive;
+            this.index = index;
+        }
+
+        @Override
+        public Integer call() {
+            return matcher.matches(item) == decisive ? index : ~index;
+        }
+    }
+}
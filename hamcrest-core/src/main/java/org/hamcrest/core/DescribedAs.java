@@ -29,6 +29,10 @@ public class DescribedAs<T> extends BaseMatcher<T> {
         return matcher.matches(o);
     }
 
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     @Override
     public void describeTo(Description description) {
         java.util.regex.Matcher arg = ARG_PATTERN.matcher(descriptionTemplate);
@@ -50,6 +54,11 @@ public class DescribedAs<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, description);
     }
 
+    @Override
+    public boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        return matchesWithDiagnosis(matcher, item, mismatchDescription);
+    }
+
     /**
      * Wraps an existing matcher, overriding its description with that specified.  All other functions are
      * delegated to the decorated matcher, including its mismatch description.
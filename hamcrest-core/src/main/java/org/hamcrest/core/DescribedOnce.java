@@ -0,0 +1,99 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+/**
+ * Renders the description of another matcher once and keeps the text for later descriptions,
+ * which saves walking large matcher trees on every failure. Descriptions longer than a limit
+ * are rendered afresh each time instead, so that they are not kept in memory.
+ * Only suitable for matchers whose description does not change.
+ */
+public class DescribedOnce<T> extends BaseMatcher<T> {
+    /** Characters, so at most 128KB of text is kept per matcher by default. */
+    public static final int DEFAULT_MAX_LENGTH = 64 * 1024;
+
+    private final Matcher<T> matcher;
+    private final int maxLength;
+    private volatile String text;
+    private volatile boolean tooLong;
+
+    public DescribedOnce(Matcher<T> matcher, int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Negative maximum length " + maxLength);
+        }
+        this.matcher = matcher;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public boolean matches(Object o) {
+        return matcher.matches(o);
+    }
+
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        final String cached = text;
+        if (cached != null) {
+            description.appendText(cached);
+        } else if (tooLong) {
+            matcher.describeTo(description);
+        } else {
+            final String rendered = StringDescription.toString(matcher);
+            if (rendered.length() <= maxLength) {
+                text = rendered;
+            } else {
+                tooLong = true;
+            }
+            description.appendText(rendered);
+        }
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        matcher.describeMismatch(item, description);
+    }
+
+    @Override
+    public boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        return matchesWithDiagnosis(matcher, item, mismatchDescription);
+    }
+
+    /**
+     * Wraps an existing matcher, keeping the text of its description after the first time it is
+     * described, unless that is more than {@link #DEFAULT_MAX_LENGTH} characters long. All other
+     * functions are delegated to the decorated matcher. The description of the decorated matcher
+     * must not change.
+     * For example:
+     * <pre>describedOnce(allOf(hasProperty("name", ...), hasProperty("age", ...), ...))</pre>
+     *
+     * @param matcher
+     *     the matcher to wrap
+     */
+    public static <T> Matcher<T> describedOnce(Matcher<T> matcher) {
+        return describedOnce(matcher, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Wraps an existing matcher, keeping the text of its description after the first time it is
+     * described, unless that is more than <code>maxLength</code> characters long. All other
+     * functions are delegated to the decorated matcher. The description of the decorated matcher
+     * must not change.
+     * For example:
+     * <pre>describedOnce(containsInAnyOrder(expectedRows), 1024 * 1024)</pre>
+     *
+     * @param matcher
+     *     the matcher to wrap
+     * @param maxLength
+     *     the longest description, in characters, to keep
+     */
+    public static <T> Matcher<T> describedOnce(Matcher<T> matcher, int maxLength) {
+        return new DescribedOnce<>(matcher, maxLength);
+    }
+}
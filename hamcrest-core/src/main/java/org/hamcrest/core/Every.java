@@ -3,26 +3,65 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.ParallelSearch;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.internal.ParallelSearch.firstIndex;
+import static org.hamcrest.internal.ParallelSearch.isSplittable;
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
 
 public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
     private final Matcher<? super T> matcher;
+    private final ForkJoinPool pool;
 
     public Every(Matcher<? super T> matcher) {
+        this(matcher, null);
+    }
+
+    /**
+     * @param pool
+     *     where to evaluate the items of {@link java.util.RandomAccess} lists in parallel, or null
+     */
+    public Every(Matcher<? super T> matcher, ForkJoinPool pool) {
         this.matcher= matcher;
+        this.pool = pool;
     }
 
     @Override
     public boolean matchesSafely(Iterable<? extends T> collection, Description mismatchDescription) {
+        if (pool != null && isSplittable(collection)) {
+            return matchesInParallel((List<? extends T>) collection, mismatchDescription);
+        }
+        final Description itemMismatch = prefixed(mismatchDescription, "an item", " ");
         for (T t : collection) {
-            if (!matcher.matches(t)) {
-                mismatchDescription.appendText("an item ");
-                matcher.describeMismatch(t, mismatchDescription);
+            if (!matchesWithDiagnosis(matcher, t, itemMismatch)) {
+                flush(itemMismatch);
                 return false;
             }
         }
         return true;
     }
 
+    private boolean matchesInParallel(final List<? extends T> items, Description mismatchDescription) {
+        final int mismatch = firstIndex(pool, items.size(), new ParallelSearch.IndexTest() {
+            @Override
+            public boolean test(int index) {
+                return !matcher.matches(items.get(index));
+            }
+        });
+        if (mismatch < 0) {
+            return true;
+        }
+        if (mismatchDescription != Description.NONE) {
+            mismatchDescription.appendText("an item ");
+            matcher.describeMismatch(items.get(mismatch), mismatchDescription);
+        }
+        return false;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("every item is ").appendDescriptionOf(matcher);
@@ -41,4 +80,23 @@ public class Every<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
     public static <U> Matcher<Iterable<? extends U>> everyItem(final Matcher<U> itemMatcher) {
         return new Every<>(itemMatcher);
     }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+     * {@link Iterable} are all matched by the specified <code>itemMatcher</code>. The items of
+     * {@link java.util.RandomAccess} lists are split between the workers of <code>pool</code>,
+     * which stop once an item fails, so <code>itemMatcher</code> must be safe to use from several
+     * threads. The mismatch described is that of the first item to fail, as for
+     * {@link #everyItem(Matcher)}. Other {@link Iterable}s are traversed in a single pass.
+     * For example:
+     * <pre>assertThat(readings, everyItem(isValidReading(), pool))</pre>
+     *
+     * @param itemMatcher
+     *     the matcher to apply to every item provided by the examined {@link Iterable}
+     * @param pool
+     *     the pool in which to evaluate the items
+     */
+    public static <U> Matcher<Iterable<? extends U>> everyItem(final Matcher<U> itemMatcher, ForkJoinPool pool) {
+        return new Every<>(itemMatcher, pool);
+    }
 }
@@ -25,6 +25,10 @@ public class Is<T> extends BaseMatcher<T> {
         return matcher.matches(arg);
     }
 
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("is ").appendDescriptionOf(matcher);
@@ -35,6 +39,11 @@ public class Is<T> extends BaseMatcher<T> {
         matcher.describeMismatch(item, mismatchDescription);
     }
 
+    @Override
+    public boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        return matchesWithDiagnosis(matcher, item, mismatchDescription);
+    }
+
     /**
      * Decorates another Matcher, retaining its behaviour, but allowing tests
      * to be slightly more expressive.
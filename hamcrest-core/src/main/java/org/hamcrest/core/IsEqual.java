@@ -23,12 +23,16 @@ public class IsEqual<T> extends BaseMatcher<T> {
         return areEqual(actualValue, expectedValue);
     }
 
+    Object expectedValue() {
+        return expectedValue;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendValue(expectedValue);
     }
 
-    private static boolean areEqual(Object actual, Object expected) {
+    static boolean areEqual(Object actual, Object expected) {
         if (actual == null) {
             return expected == null;
         }
@@ -36,6 +36,10 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
       return expectedClass;
     }
 
+    Class<?> matchableClass() {
+        return matchableClass;
+    }
+
     @Override
     protected boolean matches(Object item, Description mismatch) {
       if (null == item) {
@@ -44,7 +48,7 @@ public class IsInstanceOf extends DiagnosingMatcher<Object> {
       }
       
       if (!matchableClass.isInstance(item)) {
-        mismatch.appendValue(item).appendText(" is a " + item.getClass().getName());
+        mismatch.appendValue(item).appendText(" is a ").appendText(item.getClass().getName());
         return false;
       }
       
@@ -3,18 +3,32 @@ package org.hamcrest.core;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.internal.ParallelSearch;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.internal.ParallelSearch.anyIndex;
+import static org.hamcrest.internal.ParallelSearch.isSplittable;
 
 public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<? super T>> {
     private final Matcher<? super T> elementMatcher;
+    private final ForkJoinPool pool;
 
     public IsIterableContaining(Matcher<? super T> elementMatcher) {
+        this(elementMatcher, null);
+    }
+
+    /**
+     * @param pool
+     *     where to evaluate the items of {@link java.util.RandomAccess} lists in parallel, or null
+     */
+    public IsIterableContaining(Matcher<? super T> elementMatcher, ForkJoinPool pool) {
         this.elementMatcher = elementMatcher;
+        this.pool = pool;
     }
 
     @Override
@@ -24,12 +38,21 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
           return false;
         }
 
-        for (Object item : collection) {
-            if (elementMatcher.matches(item)) {
+        if (pool != null && isSplittable(collection)) {
+            if (containsInParallel((List<?>) collection)) {
                 return true;
             }
+        } else {
+            for (Object item : collection) {
+                if (elementMatcher.matches(item)) {
+                    return true;
+                }
+            }
         }
 
+        if (mismatchDescription == Description.NONE) {
+            return false;
+        }
         mismatchDescription.appendText("mismatches were: [");
         boolean isPastFirst = false;
         for (Object item : collection) {
@@ -43,6 +66,15 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
         return false;
     }
 
+    private boolean containsInParallel(final List<?> items) {
+        return anyIndex(pool, items.size(), new ParallelSearch.IndexTest() {
+            @Override
+            public boolean test(int index) {
+                return elementMatcher.matches(items.get(index));
+            }
+        }) >= 0;
+    }
+
     private boolean isEmpty(Iterable<? super T> iterable) {
       return ! iterable.iterator().hasNext();
     }
@@ -70,6 +102,25 @@ public class IsIterableContaining<T> extends TypeSafeDiagnosingMatcher<Iterable<
         return new IsIterableContaining<>(itemMatcher);
     }
 
+    /**
+     * Creates a matcher for {@link Iterable}s that only matches when the examined
+     * {@link Iterable} yields at least one item that is matched by the specified
+     * <code>itemMatcher</code>. The items of {@link java.util.RandomAccess} lists are split
+     * between the workers of <code>pool</code>, which all stop as soon as a matching item is
+     * found, so <code>itemMatcher</code> must be safe to use from several threads. Other
+     * {@link Iterable}s are traversed in a single pass.
+     * For example:
+     * <pre>assertThat(events, hasItem(isSuspicious(), pool))</pre>
+     *
+     * @param itemMatcher
+     *     the matcher to apply to items provided by the examined {@link Iterable}
+     * @param pool
+     *     the pool in which to evaluate the items
+     */
+    public static <T> Matcher<Iterable<? super T>> hasItem(Matcher<? super T> itemMatcher, ForkJoinPool pool) {
+        return new IsIterableContaining<>(itemMatcher, pool);
+    }
+
     /**
      * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
      * examined {@link Iterable} yields at least one item that is equal to the specified
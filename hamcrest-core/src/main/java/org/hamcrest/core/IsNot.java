@@ -22,6 +22,10 @@ public class IsNot<T> extends BaseMatcher<T>  {
         return !matcher.matches(arg);
     }
 
+    Matcher<T> matcher() {
+        return matcher;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("not ").appendDescriptionOf(matcher);
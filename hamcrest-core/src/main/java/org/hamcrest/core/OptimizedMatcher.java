@@ -0,0 +1,457 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.internal.Comparison;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Matches as another matcher does, using a simplified copy of its tree. The copy drops the
+ * wrappers that only change descriptions, flattens nested conjunctions and disjunctions,
+ * removes <code>anything()</code> from conjunctions and double negations, looks values up in a
+ * hash set for a disjunction of several <code>equalTo</code>, and intersects the comparisons of
+ * a conjunction that share a comparator into one interval check. Descriptions and mismatch
+ * descriptions are those of the original matcher, which describes a mismatch after the copy has
+ * found one.
+ * <p>
+ * Only matchers of the exact classes listed are rewritten, so subclasses keep their behaviour;
+ * concurrent and adaptive combinations are kept as they are.
+ */
+public class OptimizedMatcher<T> extends BaseMatcher<T> {
+    /** Disjunctions of fewer <code>equalTo</code> matchers than this are not worth hashing. */
+    static final int MIN_LOOKUP_SIZE = 4;
+
+    private final Matcher<T> original;
+    private final Matcher<?> plan;
+
+    private OptimizedMatcher(Matcher<T> original, Matcher<?> plan) {
+        this.original = original;
+        this.plan = plan;
+    }
+
+    /**
+     * @return the simplified tree that is evaluated
+     */
+    Matcher<?> plan() {
+        return plan;
+    }
+
+    @Override
+    public boolean matches(Object item) {
+        return plan.matches(item);
+    }
+
+    @Override
+    public boolean matchesWithDiagnosis(Object item, Description mismatchDescription) {
+        if (plan.matches(item)) {
+            return true;
+        }
+        original.describeMismatch(item, mismatchDescription);
+        return false;
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description description) {
+        original.describeMismatch(item, description);
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        original.describeTo(description);
+    }
+
+    /**
+     * Creates a matcher that matches, and describes itself and its mismatches, as
+     * <code>matcher</code> does, but evaluates a simplified copy of the matcher tree. Worth it
+     * for trees built from many small pieces, such as long <code>both(...).and(...)</code>
+     * chains, that are evaluated many times.
+     * For example:
+     * <pre>Matcher&lt;Order&gt; rule = optimize(both(hasProperty("total", greaterThan(100))).and(hasProperty("total", lessThan(1000))))</pre>
+     *
+     * @param matcher
+     *     the matcher to optimize
+     */
+    public static <T> Matcher<T> optimize(Matcher<T> matcher) {
+        if (matcher.getClass() == OptimizedMatcher.class) {
+            return matcher;
+        }
+        return new OptimizedMatcher<>(matcher, plan(matcher));
+    }
+
+    private static Matcher<?> plan(Matcher<?> matcher) {
+        final Class<?> type = matcher.getClass();
+        if (type == Is.class) {
+            return plan(((Is<?>) matcher).matcher());
+        }
+        if (type == DescribedAs.class) {
+            return plan(((DescribedAs<?>) matcher).matcher());
+        }
+        if (type == DescribedOnce.class) {
+            return plan(((DescribedOnce<?>) matcher).matcher());
+        }
+        if (type == OptimizedMatcher.class) {
+            return ((OptimizedMatcher<?>) matcher).plan;
+        }
+        if (type == CombinableMatcher.class) {
+            return new NotNull(withoutNullChecks(plan(((CombinableMatcher<?>) matcher).matcher())));
+        }
+        if (type == IsNot.class) {
+            final Matcher<?> negated = plan(((IsNot<?>) matcher).matcher());
+            return negated instanceof Negation ? ((Negation) negated).matcher : new Negation(negated);
+        }
+        if (type == AllOf.class && !((AllOf<?>) matcher).isConcurrent()) {
+            return conjunction(plans(((AllOf<?>) matcher).matchers()));
+        }
+        if (type == AnyOf.class && !((AnyOf<?>) matcher).isConcurrent()) {
+            return disjunction(plans(((AnyOf<?>) matcher).matchers()));
+        }
+        return matcher;
+    }
+
+    private static List<Matcher<?>> plans(List<? extends Matcher<?>> matchers) {
+        final List<Matcher<?>> plans = new ArrayList<>(matchers.size());
+        for (Matcher<?> matcher : matchers) {
+            plans.add(plan(matcher));
+        }
+        return plans;
+    }
+
+    /**
+     * Removes the null checks that a plan for a value already known not to be null does not need,
+     * which lets the combinations they separated be flattened.
+     */
+    private static Matcher<?> withoutNullChecks(Matcher<?> plan) {
+        if (plan instanceof NotNull) {
+            return withoutNullChecks(((NotNull) plan).matcher);
+        }
+        if (plan instanceof Combination) {
+            final List<Matcher<?>> terms = new ArrayList<>();
+            for (Matcher<?> term : ((Combination) plan).matchers) {
+                terms.add(withoutNullChecks(term));
+            }
+            return plan instanceof Conjunction ? conjunction(terms) : disjunction(terms);
+        }
+        return plan;
+    }
+
+    private static Matcher<?> conjunction(List<Matcher<?>> plans) {
+        final List<Matcher<?>> terms = new ArrayList<>();
+        boolean checksNull = false;
+        for (Matcher<?> plan : plans) {
+            if (plan instanceof NotNull) {
+                checksNull = true;
+                addTerms(terms, ((NotNull) plan).matcher, Conjunction.class);
+            } else {
+                addTerms(terms, plan, Conjunction.class);
+            }
+        }
+        // anything() never decides a conjunction.
+        for (int i = terms.size() - 1; i >= 0; i--) {
+            if (terms.get(i).getClass() == IsAnything.class) {
+                terms.remove(i);
+            }
+        }
+        intersectComparisons(terms);
+        final Matcher<?> conjunction;
+        if (terms.isEmpty()) {
+            conjunction = new IsAnything<>();
+        } else if (terms.size() == 1) {
+            conjunction = terms.get(0);
+        } else {
+            conjunction = new Conjunction(terms);
+        }
+        return checksNull ? new NotNull(conjunction) : conjunction;
+    }
+
+    private static Matcher<?> disjunction(List<Matcher<?>> plans) {
+        final List<Matcher<?>> terms = new ArrayList<>();
+        for (Matcher<?> plan : plans) {
+            if (plan.getClass() == IsAnything.class) {
+                return plan;
+            }
+            addTerms(terms, plan, Disjunction.class);
+        }
+        mergeEqualities(terms);
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        return new Disjunction(terms);
+    }
+
+    /** Adds a term, or the terms of a nested combination of the same kind. */
+    private static void addTerms(List<Matcher<?>> terms, Matcher<?> term, Class<? extends Combination> kind) {
+        if (term.getClass() == kind) {
+            for (Matcher<?> nested : ((Combination) term).matchers) {
+                terms.add(nested);
+            }
+        } else {
+            terms.add(term);
+        }
+    }
+
+    /**
+     * Replaces the <code>equalTo</code> terms of a disjunction with one hash set lookup, placed
+     * where the first of them was, if there are enough of them. Array values are left alone,
+     * since <code>equalTo</code> compares them element by element.
+     */
+    private static void mergeEqualities(List<Matcher<?>> terms) {
+        int count = 0;
+        for (Matcher<?> term : terms) {
+            if (isHashableEquality(term)) {
+                count++;
+            }
+        }
+        if (count < MIN_LOOKUP_SIZE) {
+            return;
+        }
+        final Set<Object> values = new HashSet<>();
+        final OneOf lookup = new OneOf(values);
+        final List<Matcher<?>> merged = new ArrayList<>();
+        for (Matcher<?> term : terms) {
+            if (isHashableEquality(term)) {
+                if (values.isEmpty()) {
+                    merged.add(lookup);
+                }
+                values.add(((IsEqual<?>) term).expectedValue());
+            } else {
+                merged.add(term);
+            }
+        }
+        terms.clear();
+        terms.addAll(merged);
+    }
+
+    private static boolean isHashableEquality(Matcher<?> term) {
+        if (term.getClass() != IsEqual.class) {
+            return false;
+        }
+        final Object expected = ((IsEqual<?>) term).expectedValue();
+        return expected == null || !expected.getClass().isArray();
+    }
+
+    /**
+     * Replaces the comparisons of a conjunction that share a comparator, and whose expected
+     * values are of the same class, with one interval check, placed where the first of them was.
+     */
+    private static void intersectComparisons(List<Matcher<?>> terms) {
+        for (int i = 0; i < terms.size(); i++) {
+            if (!isComparison(terms.get(i))) {
+                continue;
+            }
+            final Comparison<?> first = (Comparison<?>) terms.get(i);
+            final Interval interval = new Interval(first.comparator());
+            final List<Matcher<?>> rest = new ArrayList<>();
+            int merged = 0;
+            for (Matcher<?> term : terms.subList(i, terms.size())) {
+                if (isComparison(term) && isComparableWith(first, (Comparison<?>) term)) {
+                    interval.intersect((Comparison<?>) term);
+                    merged++;
+                } else {
+                    rest.add(term);
+                }
+            }
+            if (merged > 1) {
+                terms.subList(i, terms.size()).clear();
+                terms.add(interval);
+                terms.addAll(rest);
+            }
+        }
+    }
+
+    private static boolean isComparison(Matcher<?> term) {
+        return term instanceof Comparison && ((Comparison<?>) term).expected() != null;
+    }
+
+    private static boolean isComparableWith(Comparison<?> first, Comparison<?> other) {
+        return other.comparator() == first.comparator()
+            && other.expected().getClass() == first.expected().getClass();
+    }
+
+    abstract static class Combination extends BaseMatcher<Object> {
+        final Matcher<?>[] matchers;
+
+        Combination(List<Matcher<?>> matchers) {
+            this.matchers = matchers.toArray(new Matcher<?>[0]);
+        }
+
+        void describeTo(Description description, String operator) {
+            description.appendList("(", " " + operator + " ", ")", Arrays.asList(matchers));
+        }
+    }
+
+    static final class Conjunction extends Combination {
+        Conjunction(List<Matcher<?>> matchers) {
+            super(matchers);
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            for (Matcher<?> matcher : matchers) {
+                if (!matcher.matches(item)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            describeTo(description, "and");
+        }
+    }
+
+    static final class Disjunction extends Combination {
+        Disjunction(List<Matcher<?>> matchers) {
+            super(matchers);
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            for (Matcher<?> matcher : matchers) {
+                if (matcher.matches(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            describeTo(description, "or");
+        }
+    }
+
+    static final class Negation extends BaseMatcher<Object> {
+        final Matcher<?> matcher;
+
+        Negation(Matcher<?> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return !matcher.matches(item);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("not ").appendDescriptionOf(matcher);
+        }
+    }
+
+    /** The null check of the type-safe matchers that the plan unwraps. */
+    static final class NotNull extends BaseMatcher<Object> {
+        final Matcher<?> matcher;
+
+        NotNull(Matcher<?> matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return item != null && matcher.matches(item);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("not null and ").appendDescriptionOf(matcher);
+        }
+    }
+
+    static final class OneOf extends BaseMatcher<Object> {
+        final Set<Object> values;
+
+        OneOf(Set<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return values.contains(item);
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendValueList("one of {", ", ", "}", values);
+        }
+    }
+
+    /**
+     * The intersection of comparisons with the same comparator: the tightest lower bound and the
+     * tightest upper bound, each inclusive or not.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final class Interval extends BaseMatcher<Object> {
+        final Comparator comparator;
+        private Object lower;
+        private boolean lowerInclusive;
+        private boolean hasLower;
+        private Object upper;
+        private boolean upperInclusive;
+        private boolean hasUpper;
+
+        Interval(Comparator<?> comparator) {
+            this.comparator = comparator;
+        }
+
+        void intersect(Comparison<?> comparison) {
+            final Object expected = comparison.expected();
+            if (comparison.minCompare() >= 0) {
+                final boolean inclusive = comparison.minCompare() == 0;
+                final int order = hasLower ? comparator.compare(expected, lower) : 1;
+                if (order > 0 || (order == 0 && !inclusive)) {
+                    lower = expected;
+                    lowerInclusive = inclusive;
+                    hasLower = true;
+                }
+            }
+            if (comparison.maxCompare() <= 0) {
+                final boolean inclusive = comparison.maxCompare() == 0;
+                final int order = hasUpper ? comparator.compare(expected, upper) : -1;
+                if (order < 0 || (order == 0 && !inclusive)) {
+                    upper = expected;
+                    upperInclusive = inclusive;
+                    hasUpper = true;
+                }
+            }
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            if (item == null) {
+                return false;
+            }
+            try {
+                if (hasLower) {
+                    final int order = comparator.compare(item, lower);
+                    if (order < 0 || (order == 0 && !lowerInclusive)) {
+                        return false;
+                    }
+                }
+                if (hasUpper) {
+                    final int order = comparator.compare(item, upper);
+                    if (order > 0 || (order == 0 && !upperInclusive)) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (ClassCastException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("a value in ")
+                .appendText(lowerInclusive ? "[" : "(").appendValue(hasLower ? lower : "-infinity").appendText(", ")
+                .appendValue(hasUpper ? upper : "+infinity").appendText(upperInclusive ? "]" : ")");
+        }
+    }
+}
@@ -4,12 +4,25 @@ import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 abstract class ShortcutCombination<T> extends BaseMatcher<T> {
 
-    private final Iterable<Matcher<? super T>> matchers;
+    private final List<Matcher<? super T>> matchers;
+    private final Executor executor;
 
     public ShortcutCombination(Iterable<Matcher<? super T>> matchers) {
-        this.matchers = matchers;
+        this(matchers, null);
+    }
+
+    /**
+     * @param executor
+     *     where to evaluate the matchers concurrently, or null to evaluate them in turn
+     */
+    public ShortcutCombination(Iterable<Matcher<? super T>> matchers, Executor executor) {
+        this.matchers = AllOf.copyOf(matchers);
+        this.executor = executor;
     }
     
     @Override
@@ -19,14 +32,25 @@ abstract class ShortcutCombination<T> extends BaseMatcher<T> {
     public abstract void describeTo(Description description);
     
     protected boolean matches(Object o, boolean shortcut) {
-        for (Matcher<? super T> matcher : matchers) {
-            if (matcher.matches(o) == shortcut) {
+        if (executor != null && matchers.size() > 1) {
+            return ConcurrentMatching.anyIndex(executor, matchers, o, shortcut) >= 0 ? shortcut : !shortcut;
+        }
+        for (int i = 0; i < matchers.size(); i++) {
+            if (matchers.get(i).matches(o) == shortcut) {
                 return shortcut;
             }
         }
         return !shortcut;
     }
     
+    List<Matcher<? super T>> matchers() {
+        return matchers;
+    }
+
+    boolean isConcurrent() {
+        return executor != null;
+    }
+
     public void describeTo(Description description, String operator) {
         description.appendList("(", " " + operator + " ", ")", matchers);
     }
@@ -0,0 +1,27 @@
+package org.hamcrest.internal;
+
+import java.util.Comparator;
+
+/**
+ * Implemented by matchers that accept a value when comparing it with an expected value gives a
+ * result within a range, so that {@link org.hamcrest.core.OptimizedMatcher} can intersect the
+ * comparisons of a conjunction that share a comparator. Such matchers must not match
+ * <code>null</code>, nor values the comparator rejects with a {@link ClassCastException}.
+ */
+public interface Comparison<T> {
+    Comparator<T> comparator();
+
+    T expected();
+
+    /**
+     * @return the lowest accepted sign of <code>comparator().compare(actual, expected())</code>:
+     *     -1, 0 or 1
+     */
+    int minCompare();
+
+    /**
+     * @return the highest accepted sign of <code>comparator().compare(actual, expected())</code>:
+     *     -1, 0 or 1
+     */
+    int maxCompare();
+}
@@ -0,0 +1,122 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Composes method handles for compiled matchers. The handles of conjunctions and disjunctions
+ * are balanced trees of guards, so that the JIT can inline deep matcher trees, which it stops
+ * doing through the megamorphic calls of the interpreted matchers. Which matchers are composed
+ * is decided by {@link org.hamcrest.core.CompiledMatcher}; the others are called through their
+ * {@link Matcher#matches(Object)}, bound to the matcher.
+ */
+public final class MatcherCompiler {
+    /** The type of a compiled matcher: <code>(Object)boolean</code>. */
+    public static final MethodType PREDICATE = methodType(boolean.class, Object.class);
+
+    private static final MethodHandle MATCHES = findVirtual(MethodHandles.publicLookup(), Matcher.class, "matches", PREDICATE);
+    private static final MethodHandle IS_INSTANCE = findVirtual(MethodHandles.publicLookup(), Class.class, "isInstance", PREDICATE);
+    private static final MethodHandle IS_NULL = findStatic(MethodHandles.lookup(), MatcherCompiler.class, "isNull", PREDICATE);
+    private static final MethodHandle NOT = findStatic(MethodHandles.lookup(), MatcherCompiler.class, "not", methodType(boolean.class, boolean.class));
+    private static final MethodHandle TRUE = constant(true);
+    private static final MethodHandle FALSE = constant(false);
+
+    private MatcherCompiler() {
+    }
+
+    /**
+     * @return a handle of type {@link #PREDICATE} that calls {@link Matcher#matches(Object)} on
+     *     <code>matcher</code>
+     */
+    public static MethodHandle calling(Matcher<?> matcher) {
+        return MATCHES.bindTo(matcher);
+    }
+
+    /**
+     * @return a handle that calls the handles of <code>matchers</code> in turn while they return
+     *     <code>true</code>
+     */
+    public static MethodHandle and(List<MethodHandle> matchers) {
+        return combine(matchers, 0, matchers.size(), false);
+    }
+
+    /**
+     * @return a handle that calls the handles of <code>matchers</code> in turn while they return
+     *     <code>false</code>
+     */
+    public static MethodHandle or(List<MethodHandle> matchers) {
+        return combine(matchers, 0, matchers.size(), true);
+    }
+
+    private static MethodHandle combine(List<MethodHandle> matchers, int from, int to, boolean shortcut) {
+        if (to - from == 0) {
+            return constant(!shortcut);
+        }
+        if (to - from == 1) {
+            return matchers.get(from);
+        }
+        final int middle = (from + to) >>> 1;
+        final MethodHandle first = combine(matchers, from, middle, shortcut);
+        final MethodHandle second = combine(matchers, middle, to, shortcut);
+        return shortcut
+            ? MethodHandles.guardWithTest(first, TRUE, second)
+            : MethodHandles.guardWithTest(first, second, FALSE);
+    }
+
+    public static MethodHandle not(MethodHandle matcher) {
+        return MethodHandles.filterReturnValue(matcher, NOT);
+    }
+
+    public static MethodHandle isNull() {
+        return IS_NULL;
+    }
+
+    /**
+     * @return a handle that matches non-null instances of <code>type</code>
+     */
+    public static MethodHandle isInstance(Class<?> type) {
+        return IS_INSTANCE.bindTo(type);
+    }
+
+    /**
+     * @return a handle that matches as <code>matcher</code>, called only with non-null
+     *     instances of <code>type</code> cast to its parameter type, does
+     */
+    public static MethodHandle guarded(Class<?> type, MethodHandle matcher) {
+        return MethodHandles.guardWithTest(isInstance(type), matcher.asType(PREDICATE), FALSE);
+    }
+
+    public static MethodHandle constant(boolean result) {
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, result), 0, Object.class);
+    }
+
+    public static MethodHandle findVirtual(MethodHandles.Lookup lookup, Class<?> type, String name, MethodType methodType) {
+        try {
+            return lookup.findVirtual(type, name, methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot compile " + type.getName() + "." + name, e);
+        }
+    }
+
+    public static MethodHandle findStatic(MethodHandles.Lookup lookup, Class<?> type, String name, MethodType methodType) {
+        try {
+            return lookup.findStatic(type, name, methodType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Cannot compile " + type.getName() + "." + name, e);
+        }
+    }
+
+    private static boolean isNull(Object item) {
+        return item == null;
+    }
+
+    private static boolean not(boolean result) {
+        return !result;
+    }
+}
@@ -0,0 +1,108 @@
+package org.hamcrest.internal;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches the indexes of a list on a {@link ForkJoinPool}, for matchers that can be asked to
+ * evaluate the items of large collections in parallel. The range is split into a few chunks per
+ * worker, and workers stop taking items once a result is decided: any hit for
+ * {@link #anyIndex}, a hit at a lower index for {@link #firstIndex}. The test must be safe to
+ * call from several threads at once.
+ */
+public final class ParallelSearch {
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+    private static final int CHUNKS_PER_WORKER = 8;
+
+    private ParallelSearch() {
+    }
+
+    /**
+     * A test of the item at an index.
+     */
+    public interface IndexTest {
+        boolean test(int index);
+    }
+
+    /**
+     * @return true if the list can be searched by index without walking it, so that
+     *     splitting it between workers pays
+     */
+    public static boolean isSplittable(Iterable<?> iterable) {
+        return iterable instanceof List && iterable instanceof RandomAccess && ((List<?>) iterable).size() > 1;
+    }
+
+    /**
+     * @return the lowest index below <code>size</code> whose test passes, or -1. This is the
+     *     index a sequential search would find, whichever worker finds it.
+     */
+    public static int firstIndex(ForkJoinPool pool, int size, IndexTest test) {
+        return search(pool, size, test, true);
+    }
+
+    /**
+     * @return some index below <code>size</code> whose test passes, or -1
+     */
+    public static int anyIndex(ForkJoinPool pool, int size, IndexTest test) {
+        return search(pool, size, test, false);
+    }
+
+    private static int search(ForkJoinPool pool, int size, IndexTest test, boolean lowest) {
+        final AtomicInteger found = new AtomicInteger(NOT_FOUND);
+        final int grain = Math.max(1, size / (pool.getParallelism() * CHUNKS_PER_WORKER));
+        pool.invoke(new Search(test, lowest, found, grain, 0, size));
+        final int index = found.get();
+        return index == NOT_FOUND ? -1 : index;
+    }
+
+    private static final class Search extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IndexTest test;
+        private final boolean lowest;
+        private final AtomicInteger found;
+        private final int grain;
+        private final int from;
+        private final int to;
+
+        Search(IndexTest test, boolean lowest, AtomicInteger found, int grain, int from, int to) {
+            this.test = test;
+            this.lowest = lowest;
+            this.found = found;
+            this.grain = grain;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new Search(test, lowest, found, grain, from, middle),
+                          new Search(test, lowest, found, grain, middle, to));
+                return;
+            }
+            for (int i = from; i < to && !isDecidedBefore(i); i++) {
+                if (test.test(i)) {
+                    foundAt(i);
+                    return;
+                }
+            }
+        }
+
+        private boolean isDecidedBefore(int index) {
+            final int current = found.get();
+            return lowest ? current < index : current != NOT_FOUND;
+        }
+
+        private void foundAt(int index) {
+            int current = found.get();
+            while (index < current && !found.compareAndSet(current, index)) {
+                current = found.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * Passes everything on to another description, but writes a prefix before the first text.
+ * Used to evaluate an inner matcher with
+ * {@link org.hamcrest.BaseMatcher#matchesWithDiagnosis(org.hamcrest.Matcher, Object, Description)} while
+ * still introducing its mismatch, which is only known to exist once it has been written.
+ * When the inner matcher fails without describing why, {@link #flush(Description)} writes the
+ * prefix on its own.
+ */
+public class PrefixedDescription implements Description {
+    private final Description target;
+    private final SelfDescribing describedPrefix;
+    private final String prefix;
+    private final String separator;
+    private boolean started;
+
+    private PrefixedDescription(Description target, SelfDescribing describedPrefix, String prefix, String separator) {
+        this.target = target;
+        this.describedPrefix = describedPrefix;
+        this.prefix = prefix;
+        this.separator = separator;
+    }
+
+    /**
+     * @return a description that writes <code>prefix</code>, then <code>separator</code>, to
+     *     <code>target</code> before its first text, or {@link Description#NONE} if the target is
+     */
+    public static Description prefixed(Description target, String prefix, String separator) {
+        return target == Description.NONE ? Description.NONE : new PrefixedDescription(target, null, prefix, separator);
+    }
+
+    /**
+     * @return a description that writes the description of <code>prefix</code>, then
+     *     <code>separator</code>, to <code>target</code> before its first text, or
+     *     {@link Description#NONE} if the target is
+     */
+    public static Description prefixed(Description target, SelfDescribing prefix, String separator) {
+        return target == Description.NONE ? Description.NONE : new PrefixedDescription(target, prefix, null, separator);
+    }
+
+    /**
+     * Writes the prefix, if <code>description</code> is a prefixed description that has not
+     * written it yet. Called once an inner matcher has failed, so that its mismatch is introduced
+     * even if the matcher appended nothing.
+     */
+    public static void flush(Description description) {
+        if (description instanceof PrefixedDescription) {
+            ((PrefixedDescription) description).begin();
+        }
+    }
+
+    private Description begin() {
+        if (!started) {
+            started = true;
+            if (describedPrefix != null) {
+                target.appendDescriptionOf(describedPrefix);
+            } else {
+                target.appendText(prefix);
+            }
+            target.appendText(separator);
+        }
+        return target;
+    }
+
+    @Override
+    public Description appendText(String text) {
+        begin().appendText(text);
+        return this;
+    }
+
+    @Override
+    public Description appendDescriptionOf(SelfDescribing value) {
+        begin().appendDescriptionOf(value);
+        return this;
+    }
+
+    @Override
+    public Description appendValue(Object value) {
+        begin().appendValue(value);
+        return this;
+    }
+
+    // The values are only passed on to the target, so nothing unsafe can be stored in the array.
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, T... values) {
+        begin().appendValueList(start, separator, end, values);
+        return this;
+    }
+
+    @Override
+    public <T> Description appendValueList(String start, String separator, String end, Iterable<T> values) {
+        begin().appendValueList(start, separator, end, values);
+        return this;
+    }
+
+    @Override
+    public Description appendList(String start, String separator, String end, Iterable<? extends SelfDescribing> values) {
+        begin().appendList(start, separator, end, values);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return target.toString();
+    }
+}
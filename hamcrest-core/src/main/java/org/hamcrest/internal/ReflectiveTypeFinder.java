@@ -19,6 +19,10 @@
  * a method which is declared in <code>FeatureMatcher</code>.
  * 
  * In short, use this to extract a type from a method in the leaf class of a templated class hierarchy. 
+ * 
+ * Matchers are created far more often than new matcher classes appear, so results are cached per class
+ * and per (method name, number of parameters, typed parameter). The cache is held in a {@link ClassValue},
+ * so it does not keep classes, or their class loaders, alive. 
  *  
  * @author Steve Freeman
  * @author Nat Pryce
@@ -26,19 +30,60 @@
 package org.hamcrest.internal;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ReflectiveTypeFinder {
+  private static final ClassValue<ConcurrentMap<String, Class<?>>> EXPECTED_TYPES = new ClassValue<ConcurrentMap<String, Class<?>>>() {
+    @Override
+    protected ConcurrentMap<String, Class<?>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>(4);
+    }
+  };
+  private static final AtomicLong CACHE_HITS = new AtomicLong();
+  private static final AtomicLong CACHE_MISSES = new AtomicLong();
+
   private final String methodName;
   private final int expectedNumberOfParameters;
   private final int typedParameter;
+  private final String cacheKey;
 
   public ReflectiveTypeFinder(String methodName, int expectedNumberOfParameters, int typedParameter) {
     this.methodName = methodName;
     this.expectedNumberOfParameters = expectedNumberOfParameters;
     this.typedParameter = typedParameter;
+    this.cacheKey = methodName + "/" + expectedNumberOfParameters + "/" + typedParameter;
   }
   
   public Class<?> findExpectedType(Class<?> fromClass) {
+    final ConcurrentMap<String, Class<?>> expectedTypes = EXPECTED_TYPES.get(fromClass);
+    final Class<?> cached = expectedTypes.get(cacheKey);
+    if (cached != null) {
+      CACHE_HITS.incrementAndGet();
+      return cached;
+    }
+    CACHE_MISSES.incrementAndGet();
+    final Class<?> expectedType = reflectExpectedType(fromClass);
+    expectedTypes.putIfAbsent(cacheKey, expectedType);
+    return expectedType;
+  }
+
+  /**
+   * @return the number of lookups, across all type finders, answered from the cache
+   */
+  public static long cacheHits() {
+    return CACHE_HITS.get();
+  }
+
+  /**
+   * @return the number of lookups, across all type finders, that had to reflect on the class
+   */
+  public static long cacheMisses() {
+    return CACHE_MISSES.get();
+  }
+
+  private Class<?> reflectExpectedType(Class<?> fromClass) {
     for (Class<?> c = fromClass; c != Object.class; c = c.getSuperclass()) {
         for (Method method : c.getDeclaredMethods()) {
             if (canObtainExpectedTypeFrom(method)) {
@@ -0,0 +1,84 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Matcher;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Reads a value, such as a property or a field, from objects through a method handle, and
+ * tells whether it equals an expected value as {@link org.hamcrest.core.IsEqual} does.
+ * Values of primitive type are compared as they are read, rather than boxed first, so that
+ * comparing them does not allocate.
+ */
+public final class ValueReader {
+    private static final MethodType READ = methodType(Object.class, Object.class);
+    private static final MethodType HAS_VALUE = methodType(boolean.class, Object.class, Object.class);
+
+    private final MethodHandle read;
+    private final MethodHandle hasPrimitiveValue;
+
+    private ValueReader(MethodHandle read, MethodHandle hasPrimitiveValue) {
+        this.read = read;
+        this.hasPrimitiveValue = hasPrimitiveValue;
+    }
+
+    /**
+     * @param reader
+     *     a handle that takes an object and returns the value read from it
+     */
+    public static ValueReader of(MethodHandle reader) {
+        final Class<?> type = reader.type().returnType();
+        final MethodHandle hasPrimitiveValue = type.isPrimitive()
+            ? MethodHandles.filterArguments(same(type), 0, reader).asType(HAS_VALUE)
+            : null;
+        return new ValueReader(reader.asType(READ), hasPrimitiveValue);
+    }
+
+    /**
+     * @return the value read from <code>item</code>, boxed if it is primitive
+     * @throws Throwable whatever reading the value throws
+     */
+    public Object read(Object item) throws Throwable {
+        return read.invokeExact(item);
+    }
+
+    /**
+     * @param expected
+     *     a value read by this reader
+     * @param isEqualToExpected
+     *     a matcher equivalent to <code>equalTo(expected)</code>, for values that are not primitive
+     * @return whether the value read from <code>item</code> equals <code>expected</code>
+     * @throws Throwable whatever reading the value throws
+     */
+    public boolean hasValue(Object item, Object expected, Matcher<?> isEqualToExpected) throws Throwable {
+        if (hasPrimitiveValue != null) {
+            return (boolean) hasPrimitiveValue.invokeExact(item, expected);
+        }
+        return isEqualToExpected.matches(read(item));
+    }
+
+    private static MethodHandle same(Class<?> type) {
+        return MatcherCompiler.findStatic(MethodHandles.lookup(), ValueReader.class, "same", methodType(boolean.class, type, type));
+    }
+
+    private static boolean same(boolean actual, boolean expected) { return actual == expected; }
+    private static boolean same(char actual, char expected) { return actual == expected; }
+    private static boolean same(byte actual, byte expected) { return actual == expected; }
+    private static boolean same(short actual, short expected) { return actual == expected; }
+    private static boolean same(int actual, int expected) { return actual == expected; }
+    private static boolean same(long actual, long expected) { return actual == expected; }
+
+    /** As {@link Float#equals(Object)}, under which <code>NaN</code> equals itself, and 0.0 does not equal -0.0. */
+    private static boolean same(float actual, float expected) {
+        return Float.floatToIntBits(actual) == Float.floatToIntBits(expected);
+    }
+
+    /** As {@link Double#equals(Object)}, under which <code>NaN</code> equals itself, and 0.0 does not equal -0.0. */
+    private static boolean same(double actual, double expected) {
+        return Double.doubleToLongBits(actual) == Double.doubleToLongBits(expected);
+    }
+}
@@ -18,6 +18,9 @@ public abstract class AbstractMatcherTest extends TestCase {
     if (!matcher.matches(arg)) {
       Assert.fail(message + " because: '" + mismatchDescription(matcher, arg) + "'");
     }
+    Description description = new StringDescription();
+    Assert.assertTrue(message + " in a single pass", BaseMatcher.matchesWithDiagnosis(matcher, arg, description));
+    Assert.assertEquals("Single pass mismatch description of a match", "", description.toString());
   }
 
   public static <T> void assertDoesNotMatch(Matcher<? super T> c, T arg) {
@@ -26,6 +29,7 @@ public abstract class AbstractMatcherTest extends TestCase {
 
   public static <T> void assertDoesNotMatch(String message, Matcher<? super T> c, T arg) {
     Assert.assertFalse(message, c.matches(arg));
+    Assert.assertFalse(message + " in a single pass", BaseMatcher.matchesWithDiagnosis(c, arg, new StringDescription()));
   }
 
   public static void assertDescription(String expected, Matcher<?> matcher) {
@@ -37,6 +41,9 @@ public abstract class AbstractMatcherTest extends TestCase {
   public static <T> void assertMismatchDescription(String expected, Matcher<? super T> matcher, Object arg) {
     Assert.assertFalse("Precondition: Matcher should not match item.", matcher.matches(arg));
     Assert.assertEquals("Expected mismatch description", expected, mismatchDescription(matcher, arg));
+    Description description = new StringDescription();
+    Assert.assertFalse("Matcher should not match item in a single pass.", BaseMatcher.matchesWithDiagnosis(matcher, arg, description));
+    Assert.assertEquals("Expected single pass mismatch description", expected, description.toString().trim());
   }
   
   public static void assertNullSafe(Matcher<?> matcher) {
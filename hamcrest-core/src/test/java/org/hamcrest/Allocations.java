@@ -0,0 +1,72 @@
+package org.hamcrest;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Assertions on the heap allocated by the boolean-only match path of matchers, measured by the
+ * HotSpot {@link com.sun.management.ThreadMXBean}. Where the JVM cannot count the bytes a thread
+ * allocates, the assertions are skipped as failed assumptions rather than passed.
+ */
+public final class Allocations {
+    private static final int MATCHES = 20000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private Allocations() { }
+
+    /**
+     * Checks that matching <code>matching</code> and <code>mismatching</code> many times, once
+     * warmed up, allocates less than one byte per match. Any allocation per match would cost at
+     * least an object header, so this leaves room only for the cost of measuring.
+     */
+    public static void assertAllocationFree(Matcher<?> matcher, Object matching, Object mismatching) {
+        assertAllocatesLessThan(2 * MATCHES, MATCHES, matcher, matching, mismatching);
+    }
+
+    /**
+     * Checks that matching <code>matching</code> and then <code>mismatching</code>
+     * <code>repetitions</code> times, after as many times to warm up, allocates less than
+     * <code>limit</code> bytes in all.
+     */
+    public static void assertAllocatesLessThan(long limit, int repetitions,
+                                               Matcher<?> matcher, Object matching, Object mismatching) {
+        Assume.assumeTrue("allocation counting is supported", THREADS != null);
+        final long threadId = Thread.currentThread().getId();
+        final boolean[] results = new boolean[2];
+
+        matchRepeatedly(repetitions, matcher, matching, mismatching, results);
+        final long before = THREADS.getThreadAllocatedBytes(threadId);
+        matchRepeatedly(repetitions, matcher, matching, mismatching, results);
+        final long allocated = THREADS.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(matcher + " should match", results[0]);
+        assertFalse(matcher + " should not match", results[1]);
+        assertTrue(matcher + " allocated " + allocated + " bytes in " + (2 * repetitions) + " matches",
+                   allocated < limit);
+    }
+
+    private static void matchRepeatedly(int repetitions, Matcher<?> matcher, Object matching, Object mismatching,
+                                        boolean[] results) {
+        for (int i = 0; i < repetitions; i++) {
+            results[0] = matcher.matches(matching);
+            results[1] = matcher.matches(mismatching);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean hotSpotThreads = (com.sun.management.ThreadMXBean) threads;
+            if (hotSpotThreads.isThreadAllocatedMemorySupported() && hotSpotThreads.isThreadAllocatedMemoryEnabled()) {
+                return hotSpotThreads;
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,10 @@ package org.hamcrest;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 
 public final class BaseDescriptionTest {
@@ -105,4 +109,27 @@ public final class BaseDescriptionTest {
         baseDescription.appendValue(value);
         assertEquals("<" + expected + ">", result.toString());
     }
+
+    @Test public void
+    escapesCharactersWithinAStringValue() {
+        baseDescription.appendValue("a\tb\"c\\\n");
+        assertEquals("\"a\\tb\\\"c\\\\\\n\"", result.toString());
+    }
+
+    @Test public void
+    appendsUnescapedRunsOfAStringValueInBulk() {
+        final List<String> appended = new ArrayList<>();
+        final BaseDescription chunked = new BaseDescription() {
+            @Override protected void append(CharSequence chars, int start, int end) {
+                appended.add(chars.subSequence(start, end).toString());
+            }
+
+            @Override protected void append(char c) {
+                appended.add(String.valueOf(c));
+            }
+        };
+
+        chunked.appendText("text").appendValue("one\ttwo");
+        assertEquals(asList("text", "\"", "one", "\\t", "two", "\""), appended);
+    }
 }
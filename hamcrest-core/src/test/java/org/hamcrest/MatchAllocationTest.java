@@ -0,0 +1,63 @@
+package org.hamcrest;
+
+import org.junit.Test;
+
+import static org.hamcrest.Allocations.assertAllocationFree;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.anyOf;
+import static org.hamcrest.CoreMatchers.both;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.startsWith;
+
+/**
+ * Checks that the boolean-only match path of the common matchers does not allocate.
+ */
+public final class MatchAllocationTest {
+    @Test public void
+    equalityAndIdentityMatchersDoNotAllocate() {
+        assertAllocationFree(equalTo("value"), "value", "other");
+        assertAllocationFree(is("value"), "value", "other");
+        assertAllocationFree(not("other"), "value", "other");
+        assertAllocationFree(nullValue(), null, "value");
+        assertAllocationFree(notNullValue(), "value", null);
+        assertAllocationFree(instanceOf(String.class), "value", 1);
+    }
+
+    @Test public void
+    stringMatchersDoNotAllocate() {
+        assertAllocationFree(startsWith("val"), "value", "other");
+        assertAllocationFree(endsWith("lue"), "value", "other");
+        assertAllocationFree(containsString("alu"), "value", "other");
+    }
+
+    @Test public void
+    combinationsDoNotAllocate() {
+        assertAllocationFree(allOf(startsWith("v"), endsWith("e")), "value", "other");
+        assertAllocationFree(anyOf(startsWith("x"), endsWith("e")), "value", "other");
+        assertAllocationFree(both(startsWith("v")).and(endsWith("e")), "value", "other");
+    }
+
+    @Test public void
+    diagnosingAndFeatureMatchersDoNotAllocate() {
+        assertAllocationFree(new Length(equalTo(5)), "value", "other!");
+        assertAllocationFree(new Length(both(not(equalTo(0))).and(not(equalTo(6)))), "value", "other!");
+    }
+
+    private static final class Length extends FeatureMatcher<String, Integer> {
+        Length(Matcher<? super Integer> subMatcher) {
+            super(subMatcher, "a string with length", "length");
+        }
+
+        @Override
+        protected Integer featureValueOf(String actual) {
+            return actual.length();
+        }
+    }
+}
@@ -2,7 +2,15 @@ package org.hamcrest;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Every.everyItem;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.*;
 
@@ -89,6 +97,106 @@ public final class MatcherAssertTest {
         }
     }
 
+    @Test public void
+    evaluatesDiagnosingMatchersOnceWhenTheyFail() {
+        final int[] evaluations = {0};
+        Matcher<String> matcher = new TypeSafeDiagnosingMatcher<String>() {
+            @Override
+            protected boolean matchesSafely(String item, Description mismatchDescription) {
+                evaluations[0]++;
+                mismatchDescription.appendText("evaluated");
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("never");
+            }
+        };
+
+        try {
+            assertThat("value", matcher);
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals("\nExpected: never\n     but: evaluated", e.getMessage());
+        }
+        assertEquals(1, evaluations[0]);
+    }
+
+    @Test public void
+    describesMismatchesOfIterablesThatCanOnlyBeReadOnce() {
+        final Iterator<String> items = Arrays.asList("a", "b").iterator();
+        Iterable<String> oneShot = new Iterable<String>() {
+            private boolean read;
+
+            @Override
+            public Iterator<String> iterator() {
+                if (read) {
+                    throw new IllegalStateException("already read");
+                }
+                read = true;
+                return items;
+            }
+        };
+
+        try {
+            assertThat(oneShot, everyItem(equalTo("a")));
+            fail("should have failed");
+        }
+        catch (AssertionError e) {
+            assertEquals("\nExpected: every item is \"a\"\n     but: an item was \"b\"", e.getMessage());
+        }
+    }
+
+    @Test public void
+    rendersTheMessageWhenFirstReadWhenLazy() {
+        final int[] descriptions = {0};
+        Matcher<String> matcher = new BaseMatcher<String>() {
+            @Override
+            public boolean matches(Object item) {
+                return false;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                descriptions[0]++;
+                description.appendText("never");
+            }
+        };
+
+        AssertionError error = null;
+        try {
+            MatcherAssert.assertThat("reason", "value", matcher, true, Integer.MAX_VALUE);
+        }
+        catch (AssertionError e) {
+            error = e;
+        }
+
+        assertNotNull("should have failed", error);
+        assertEquals(0, descriptions[0]);
+        assertEquals("reason\nExpected: never\n     but: was \"value\"", error.getMessage());
+        assertTrue(error.toString().endsWith(error.getMessage()));
+        assertEquals(1, descriptions[0]);
+    }
+
+    @Test public void
+    serializesLazyMessagesAsText() throws Exception {
+        AssertionError error = null;
+        try {
+            MatcherAssert.assertThat("", new Object() { @Override public String toString() { return "unserializable"; } },
+                                     equalTo(null), true, Integer.MAX_VALUE);
+        }
+        catch (AssertionError e) {
+            error = e;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new ObjectOutputStream(bytes).writeObject(error);
+        Throwable copy = (Throwable) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertEquals("\nExpected: null\n     but: was <unserializable>", copy.getMessage());
+    }
+
     @Test public void
     canAssertSubtypes() {
         assertThat(1, equalTo((Number) 1));
@@ -0,0 +1,71 @@
+package org.hamcrest;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class StringDescriptionTest {
+
+    @Test public void
+    keepsAllTextWithoutAMaximumLength() {
+        assertEquals("a \"b\" <1>", new StringDescription().appendText("a ").appendValue("b").appendText(" ").appendValue(1).toString());
+    }
+
+    @Test public void
+    elidesTextBeyondTheMaximumLength() {
+        assertEquals("abcd...", new StringDescription(4).appendText("ab").appendText("cdef").appendText("gh").toString());
+        assertEquals("abcd", new StringDescription(4).appendText("abcd").toString());
+        assertEquals("\"ab...", new StringDescription(3).appendValue("abcdef").toString());
+        assertEquals("...", new StringDescription(0).appendText("a").toString());
+    }
+
+    @Test public void
+    doesNotSplitSurrogatePairs() {
+        assertEquals("a...", new StringDescription(2).appendText("a\uD83D\uDE00").toString());
+        assertEquals("a\uD83D\uDE00...", new StringDescription(3).appendText("a\uD83D\uDE00b").toString());
+    }
+
+    @Test public void
+    stopsDescribingListsOnceFull() {
+        final Iterator<Integer> endless = new Iterator<Integer>() {
+            private int next;
+            @Override public boolean hasNext() { return true; }
+            @Override public Integer next() { return next++; }
+            @Override public void remove() { throw new UnsupportedOperationException(); }
+        };
+        final StringDescription description = new StringDescription(10);
+        description.appendValueList("[", ", ", "]", new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() { return endless; }
+        });
+        assertEquals("[<0>, <1>,...", description.toString());
+        assertTrue(endless.next() < 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsANegativeMaximumLength() {
+        new StringDescription(-1);
+    }
+
+    @Test public void
+    assertThatLimitsItsMessageWhenConfigured() {
+        try {
+            MatcherAssert.assertThat("", "abcdefghijklmnopqrstuvwxyz", org.hamcrest.core.IsEqual.equalTo("z"),
+                                     false, MatcherAssert.maxDescriptionLength("21"));
+            fail("should have failed");
+        } catch (AssertionError e) {
+            assertEquals("\nExpected: \"z\"\n     b...", e.getMessage());
+        }
+    }
+
+    @Test public void
+    assertThatIgnoresAnInvalidMaximumLength() {
+        assertEquals(Integer.MAX_VALUE, MatcherAssert.maxDescriptionLength(null));
+        assertEquals(Integer.MAX_VALUE, MatcherAssert.maxDescriptionLength("-1"));
+        assertEquals(Integer.MAX_VALUE, MatcherAssert.maxDescriptionLength("lots"));
+        assertEquals(0, MatcherAssert.maxDescriptionLength("0"));
+    }
+}
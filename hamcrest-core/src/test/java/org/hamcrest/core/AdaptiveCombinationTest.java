@@ -0,0 +1,143 @@
+package org.hamcrest.core;
+
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.AdaptiveCombination.adaptiveAllOf;
+import static org.hamcrest.core.AdaptiveCombination.adaptiveAnyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class AdaptiveCombinationTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = adaptiveAllOf(Arrays.<Matcher<? super String>>asList(equalTo("irrelevant"), startsWith("irr")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    evaluatesToTheLogicalConjunctionOrDisjunction() {
+        final List<Matcher<? super String>> matchers = Arrays.<Matcher<? super String>>asList(startsWith("goo"), endsWith("ood"));
+        final Matcher<String> all = adaptiveAllOf(matchers);
+        final Matcher<String> any = adaptiveAnyOf(matchers);
+
+        for (int i = 0; i < 10000; i++) {
+            assertMatches(all, "good");
+            assertDoesNotMatch(all, "mood");
+            assertMatches(any, "mood");
+            assertDoesNotMatch(any, "flan");
+        }
+    }
+
+    @Test public void
+    describesInTheOrderTheMatchersWereGiven() {
+        final Counting expensive = new Counting(startsWith("g"));
+        final Matcher<String> matcher = adaptiveAllOf(Arrays.<Matcher<? super String>>asList(expensive, endsWith("ood")));
+        for (int i = 0; i < 50000; i++) {
+            matcher.matches("flan");
+        }
+
+        assertDescription("(counted a string starting with \"g\" and a string ending with \"ood\")", matcher);
+        assertMismatchDescription("counted a string starting with \"g\" was \"flan\"", matcher, "flan");
+        assertDescription("(\"a\" or \"b\")", adaptiveAnyOf(Arrays.<Matcher<? super String>>asList(equalTo("a"), equalTo("b"))));
+    }
+
+    @Test public void
+    learnsToTryTheMatcherThatDecidesFirst() {
+        final Counting neverDecides = new Counting(startsWith("g"));
+        final Matcher<String> matcher = adaptiveAllOf(Arrays.<Matcher<? super String>>asList(neverDecides, endsWith("x")));
+        for (int i = 0; i < 50000; i++) {
+            matcher.matches("good");
+        }
+
+        neverDecides.count.set(0);
+        for (int i = 0; i < 10000; i++) {
+            matcher.matches("good");
+        }
+
+        assertTrue("evaluated " + neverDecides.count + " times", neverDecides.count.get() < 1000);
+    }
+
+    @Test public void
+    givesTheSameResultsFromSeveralThreads() throws Exception {
+        final List<Matcher<? super Integer>> matchers = new ArrayList<>();
+        for (int i = 2; i < 8; i++) {
+            matchers.add(new DivisibleBy(i));
+        }
+        final Matcher<Integer> all = adaptiveAllOf(matchers);
+        final Matcher<Integer> any = adaptiveAnyOf(matchers);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> wrong = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                wrong.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        int wrong = 0;
+                        for (int n = 1; n < 100000; n++) {
+                            if (all.matches(n) != (n % 420 == 0)) {
+                                wrong++;
+                            }
+                            if (any.matches(n) != (n % 2 == 0 || n % 3 == 0 || n % 5 == 0 || n % 7 == 0)) {
+                                wrong++;
+                            }
+                        }
+                        return wrong;
+                    }
+                }));
+            }
+            for (Future<Integer> result : wrong) {
+                assertEquals(Integer.valueOf(0), result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Counting extends CustomMatcher<String> {
+        final AtomicInteger count = new AtomicInteger();
+        private final Matcher<String> matcher;
+
+        Counting(Matcher<String> matcher) {
+            super("counted " + matcher);
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            count.incrementAndGet();
+            return matcher.matches(item);
+        }
+    }
+
+    private static final class DivisibleBy extends CustomMatcher<Integer> {
+        private final int divisor;
+
+        DivisibleBy(int divisor) {
+            super("divisible by " + divisor);
+            this.divisor = divisor;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return item instanceof Integer && (Integer) item % divisor == 0;
+        }
+    }
+}
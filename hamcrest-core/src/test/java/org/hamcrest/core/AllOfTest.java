@@ -1,15 +1,29 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CustomMatcher;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.AbstractMatcherTest.*;
 import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AllOf.allOfConcurrently;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class AllOfTest {
 
@@ -60,4 +74,132 @@ public final class AllOfTest {
     hasAMismatchDescriptionDescribingTheFirstFailingMatch() {
         assertMismatchDescription("\"good\" was \"bad\"", allOf(equalTo("bad"), equalTo("good")), "bad");
     }
+
+    @Test public void
+    evaluatesMatchersConcurrentlyOnAnExecutor() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch allStarted = new CountDownLatch(3);
+            final List<Matcher<? super String>> matchers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                matchers.add(new CustomMatcher<String>("all started") {
+                    @Override
+                    public boolean matches(Object item) {
+                        allStarted.countDown();
+                        return awaitUninterruptibly(allStarted, 10);
+                    }
+                });
+            }
+
+            assertTrue(allOfConcurrently(matchers, executor).matches("good"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    describesTheFirstFailingMatcherWhenConcurrent() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch laterFailed = new CountDownLatch(1);
+            final Matcher<String> slowFailure = new CustomMatcher<String>("slow failure") {
+                @Override
+                public boolean matches(Object item) {
+                    awaitUninterruptibly(laterFailed, 10);
+                    return false;
+                }
+            };
+            final Matcher<String> fastFailure = new CustomMatcher<String>("fast failure") {
+                @Override
+                public boolean matches(Object item) {
+                    laterFailed.countDown();
+                    return false;
+                }
+            };
+            final List<Matcher<? super String>> matchers = Arrays.<Matcher<? super String>>asList(startsWith("g"), slowFailure, fastFailure);
+
+            assertMismatchDescription("slow failure was \"good\"", allOfConcurrently(matchers, executor), "good");
+            assertMatches(allOfConcurrently(Arrays.<Matcher<? super String>>asList(startsWith("g"), endsWith("d")), executor), "good");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    cancelsTheMatchersAfterTheFirstFailure() throws InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final Matcher<String> blocking = new CustomMatcher<String>("blocking") {
+                @Override
+                public boolean matches(Object item) {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return true;
+                }
+            };
+            final Matcher<String> deciding = new CustomMatcher<String>("deciding once the other has started") {
+                @Override
+                public boolean matches(Object item) {
+                    awaitUninterruptibly(started, 10);
+                    return startsWith("x").matches(item);
+                }
+            };
+
+            assertFalse(allOfConcurrently(Arrays.<Matcher<? super String>>asList(deciding, blocking), executor).matches("good"));
+            assertTrue("blocking matcher was not interrupted", interrupted.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    ignoresAMatcherThatThrowsAfterTheFirstFailure() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch thrown = new CountDownLatch(1);
+            final Matcher<String> throwing = throwing(thrown);
+            final Matcher<String> failingOnceTheOtherHasThrown = new CustomMatcher<String>("failing once the other has thrown") {
+                @Override
+                public boolean matches(Object item) {
+                    awaitUninterruptibly(thrown, 10);
+                    return false;
+                }
+            };
+
+            assertFalse(allOfConcurrently(Arrays.<Matcher<? super String>>asList(failingOnceTheOtherHasThrown, throwing), executor).matches("good"));
+            try {
+                allOfConcurrently(Arrays.<Matcher<? super String>>asList(throwing, startsWith("x")), executor).matches("good");
+                fail("should have thrown");
+            } catch (IllegalStateException expected) {
+                assertEquals("broken", expected.getMessage());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Matcher<String> throwing(final CountDownLatch thrown) {
+        return new CustomMatcher<String>("throwing") {
+            @Override
+            public boolean matches(Object item) {
+                thrown.countDown();
+                throw new IllegalStateException("broken");
+            }
+        };
+    }
+
+    static boolean awaitUninterruptibly(CountDownLatch latch, int seconds) {
+        try {
+            return latch.await(seconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -1,13 +1,24 @@
 package org.hamcrest.core;
 
+import org.hamcrest.CustomMatcher;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.AbstractMatcherTest.*;
 import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.AnyOf.anyOfConcurrently;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.StringEndsWith.endsWith;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class AnyOfTest {
 
@@ -53,4 +64,64 @@ public final class AnyOfTest {
         assertDescription("(\"good\" or \"bad\" or \"ugly\")",
                 anyOf(equalTo("good"), equalTo("bad"), equalTo("ugly")));
     }
+
+    @Test public void
+    stopsEvaluatingOnceAMatcherMatchesConcurrently() throws InterruptedException {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final Matcher<String> blocking = new CustomMatcher<String>("blocking") {
+                @Override
+                public boolean matches(Object item) {
+                    started.countDown();
+                    try {
+                        new CountDownLatch(1).await();
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return false;
+                }
+            };
+            final Matcher<String> deciding = new CustomMatcher<String>("deciding once the other has started") {
+                @Override
+                public boolean matches(Object item) {
+                    AllOfTest.awaitUninterruptibly(started, 10);
+                    return startsWith("g").matches(item);
+                }
+            };
+
+            assertTrue(anyOfConcurrently(Arrays.<Matcher<? super String>>asList(blocking, deciding), executor).matches("good"));
+            assertTrue("blocking matcher was not interrupted", interrupted.await(10, TimeUnit.SECONDS));
+            assertDoesNotMatch(anyOfConcurrently(Arrays.<Matcher<? super String>>asList(startsWith("x"), endsWith("y")), executor), "good");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void
+    throwsOnlyIfNoMatcherMatchesConcurrently() {
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CountDownLatch thrown = new CountDownLatch(1);
+            final Matcher<String> throwing = AllOfTest.throwing(thrown);
+            final Matcher<String> matchingOnceTheOtherHasThrown = new CustomMatcher<String>("matching once the other has thrown") {
+                @Override
+                public boolean matches(Object item) {
+                    AllOfTest.awaitUninterruptibly(thrown, 10);
+                    return true;
+                }
+            };
+
+            assertTrue(anyOfConcurrently(Arrays.<Matcher<? super String>>asList(matchingOnceTheOtherHasThrown, throwing), executor).matches("good"));
+            try {
+                anyOfConcurrently(Arrays.<Matcher<? super String>>asList(startsWith("x"), throwing), executor).matches("good");
+                fail("should have thrown");
+            } catch (IllegalStateException expected) {
+                assertEquals("broken", expected.getMessage());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package org.hamcrest.core;
+
+import org.hamcrest.CustomMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AllOf.allOfConcurrently;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.CompiledMatcher.compiled;
+import static org.hamcrest.core.DescribedAs.describedAs;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.OptimizedMatcher.optimize;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public final class CompiledMatcherTest {
+    private static final List<Object> ITEMS = Arrays.<Object>asList(
+        null, "", "good", "goad", "mood", "GOOD", 4, 4L, 'g', new int[] {1}, new Object());
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = compiled(both(startsWith("a")).and(endsWith("z")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesAsTheInterpretedMatcher() {
+        assertMatchesAsOriginal(allOf(startsWith("g"), containsString("o"), endsWith("d")));
+        assertMatchesAsOriginal(anyOf(startsWith("m"), endsWith("ad"), equalTo("GOOD")));
+        assertMatchesAsOriginal(both(startsWith("g")).and(not(containsString("a"))).and(is(endsWith("d"))));
+        assertMatchesAsOriginal(either(nullValue()).or(instanceOf(int.class)));
+        assertMatchesAsOriginal(allOf(notNullValue(), not(instanceOf(String.class)), anything()));
+        assertMatchesAsOriginal(anyOf(equalTo((Object) new int[] {1}), equalTo(null)));
+        assertMatchesAsOriginal(describedAs("four letters", length(equalTo(4))));
+        assertMatchesAsOriginal(not(anyOf(Arrays.<Matcher<? super Object>>asList())));
+        assertMatchesAsOriginal(allOf(Arrays.<Matcher<? super Object>>asList()));
+    }
+
+    @Test public void
+    compilesOptimizedMatchers() {
+        assertMatchesAsOriginal(optimize(either(equalTo("a")).or(equalTo("good")).or(equalTo("c")).or(equalTo("d"))));
+        assertMatchesAsOriginal(optimize(both(not(not(startsWith("g")))).and(length(equalTo(4)))));
+    }
+
+    @Test public void
+    describesAsTheOriginalMatcher() {
+        final Matcher<String> matcher = both(startsWith("g")).and(length(equalTo(3)));
+        final Matcher<String> compiled = compiled(matcher);
+
+        assertEquals(StringDescription.toString(matcher), StringDescription.toString(compiled));
+        assertMismatchDescription("a string of length <3> length was <4>", compiled, "good");
+        assertMismatchDescription("was null", compiled, null);
+    }
+
+    @Test public void
+    callsMatchersThatCannotBeCompiled() {
+        final Matcher<Object> custom = new CustomMatcher<Object>("custom") {
+            @Override
+            public boolean matches(Object item) {
+                return "mood".equals(item);
+            }
+        };
+        final Executor caller = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        final Matcher<String> subclass = new AllOf<String>(Arrays.<Matcher<? super String>>asList(startsWith("g"))) {
+            @Override
+            public boolean matches(Object o, Description mismatch) {
+                return !super.matches(o, mismatch);
+            }
+        };
+
+        assertMatchesAsOriginal(anyOf(custom, startsWith("go")));
+        assertMatchesAsOriginal(allOfConcurrently(Arrays.<Matcher<? super String>>asList(startsWith("g"), endsWith("d")), caller));
+        assertMatchesAsOriginal(subclass);
+    }
+
+    @Test public void
+    propagatesExceptionsFromMatchers() {
+        final Matcher<Object> failing = new CustomMatcher<Object>("failing") {
+            @Override
+            public boolean matches(Object item) {
+                throw new UnsupportedOperationException("failed");
+            }
+        };
+        try {
+            compiled(allOf(notNullValue(), failing)).matches("item");
+            fail("should have thrown");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals("failed", expected.getMessage());
+        }
+    }
+
+    @Test public void
+    doesNotCompileCompiledMatchersAgain() {
+        final Matcher<String> compiled = compiled(startsWith("g"));
+
+        assertSame(compiled, compiled(compiled));
+    }
+
+    private static void assertMatchesAsOriginal(Matcher<?> matcher) {
+        final Matcher<?> compiled = compiled(matcher);
+        for (Object item : ITEMS) {
+            assertEquals(matcher + " for " + item, matcher.matches(item), compiled.matches(item));
+        }
+    }
+
+    private static Matcher<String> length(Matcher<? super Integer> matcher) {
+        return new FeatureMatcher<String, Integer>(matcher, "a string of length", "length") {
+            @Override
+            protected Integer featureValueOf(String actual) {
+                return actual.length();
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package org.hamcrest.core;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.junit.Test;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.DescribedOnce.describedOnce;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertEquals;
+
+public final class DescribedOnceTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Object> matcher = describedOnce(anything());
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    describesAsTheOtherMatcherDoes() {
+        Matcher<String> matcher = describedOnce(equalTo("hi"));
+
+        assertDescription("\"hi\"", matcher);
+        assertDescription("\"hi\"", matcher);
+    }
+
+    @Test public void
+    describesTheOtherMatcherOnlyOnce() {
+        CountingDescriptions counting = new CountingDescriptions("description");
+        Matcher<Object> matcher = describedOnce(counting);
+
+        assertDescription("description", matcher);
+        assertDescription("description", matcher);
+        assertEquals(1, counting.descriptions);
+    }
+
+    @Test public void
+    keepsNoDescriptionLongerThanTheLimit() {
+        CountingDescriptions counting = new CountingDescriptions("description");
+        Matcher<Object> matcher = describedOnce(counting, 10);
+
+        assertDescription("description", matcher);
+        assertDescription("description", matcher);
+        assertEquals(2, counting.descriptions);
+    }
+
+    @Test public void
+    delegatesMatchingToAnotherMatcher() {
+        Matcher<String> matcher = describedOnce(equalTo("hi"));
+
+        assertMatches(matcher, "hi");
+        assertDoesNotMatch("matched", matcher, "oi");
+    }
+
+    @Test public void
+    delegatesMismatchDescriptionToAnotherMatcher() {
+        Matcher<Integer> matcher = describedOnce(equalTo(2));
+
+        assertMismatchDescription("was <1>", matcher, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void
+    rejectsANegativeLimit() {
+        describedOnce(anything(), -1);
+    }
+
+    private static final class CountingDescriptions extends BaseMatcher<Object> {
+        private final String text;
+        int descriptions;
+
+        CountingDescriptions(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public boolean matches(Object item) {
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            descriptions++;
+            description.appendText(text);
+        }
+    }
+}
@@ -4,6 +4,10 @@ import org.hamcrest.Matcher;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -40,5 +44,22 @@ public final class EveryTest {
     describesAMismatch() {
         assertMismatchDescription("an item was \"BXB\"", matcher, singletonList("BXB"));
     }
+
+    @Test public void
+    describesTheFirstMismatchWhenMatchingInParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Matcher<Iterable<? extends String>> parallel = Every.everyItem(containsString("a"), pool);
+            final List<String> items = new ArrayList<>(Collections.nCopies(10000, "a"));
+            assertMatches(parallel, items);
+
+            items.set(9000, "X9000");
+            items.set(5000, "X5000");
+            assertMismatchDescription("an item was \"X5000\"", parallel, items);
+            assertMismatchDescription("an item was \"X5000\"", parallel, new LinkedList<>(items));
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
 
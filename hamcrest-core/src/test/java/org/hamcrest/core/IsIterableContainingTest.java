@@ -6,8 +6,12 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.AbstractMatcherTest.*;
@@ -85,6 +89,23 @@ public final class IsIterableContainingTest {
         assertMismatchDescription("a collection containing <4> mismatches were: [was <1>, was <2>, was <3>]",
                                   matcher, asList(1, 2, 3));
     }
+    
+    @Test public void
+    matchesInParallelAsItDoesSequentially() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<String> items = new ArrayList<>(Collections.nCopies(10000, "b"));
+            final Matcher<Iterable<? super String>> parallel = hasItem(equalTo("a"), pool);
+            assertDoesNotMatch(parallel, items);
+            assertMismatchDescription("mismatches were: [was \"c\", was \"b\"]", parallel, asList("c", "b"));
+            
+            items.set(7000, "a");
+            assertMatches(parallel, items);
+            assertMatches(parallel, new LinkedList<>(items));
+        } finally {
+            pool.shutdown();
+        }
+    }
 
     private static Matcher<? super String> mismatchable(final String string) {
         return new TypeSafeDiagnosingMatcher<String>() {
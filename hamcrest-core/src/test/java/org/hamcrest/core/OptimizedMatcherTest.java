@@ -0,0 +1,117 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.CombinableMatcher.both;
+import static org.hamcrest.core.CombinableMatcher.either;
+import static org.hamcrest.core.DescribedAs.describedAs;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsAnything.anything;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.OptimizedMatcher.optimize;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class OptimizedMatcherTest {
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<String> matcher = optimize(both(startsWith("a")).and(endsWith("z")));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    flattensChainsOfCombinations() {
+        final Matcher<String> chain = both(startsWith("g")).and(containsString("o")).and(endsWith("d"));
+        final Matcher<String> optimized = optimize(chain);
+
+        assertPlan("not null and (a string starting with \"g\" and a string containing \"o\" and a string ending with \"d\")", optimized);
+        assertPlan("(\"a\" or \"b\" or \"c\")", optimize(anyOf(equalTo("a"), anyOf(equalTo("b"), equalTo("c")))));
+        assertPlan("not null and (\"a\" or \"b\" or \"c\")", optimize(either(equalTo("a")).or(equalTo("b")).or(equalTo("c"))));
+        assertMatches(optimized, "good");
+        assertDoesNotMatch(optimized, "mood");
+        assertDoesNotMatch(optimized, null);
+    }
+
+    @Test public void
+    describesAsTheOriginalMatcher() {
+        final Matcher<String> chain = is(both(startsWith("g")).and(containsString("o")).and(endsWith("d")));
+        final Matcher<String> optimized = optimize(chain);
+
+        assertEquals(StringDescription.toString(chain), StringDescription.toString(optimized));
+        assertMismatchDescription(mismatchOf(chain, "goon"), optimized, "goon");
+        assertMismatchDescription("was null", optimized, null);
+        assertDescription("ok", optimize(describedAs("ok", allOf(startsWith("o"), endsWith("k")))));
+    }
+
+    @Test public void
+    removesAnythingAndDoubleNegations() {
+        assertPlan("a string starting with \"g\"", optimize(allOf(anything(), startsWith("g"), anything())));
+        assertPlan("ANYTHING", optimize(anyOf(startsWith("g"), anything())));
+        assertPlan("ANYTHING", optimize(allOf(Arrays.<Matcher<? super String>>asList())));
+        assertPlan("a string starting with \"g\"", optimize(not(is(not(startsWith("g"))))));
+        assertPlan("not a string starting with \"g\"", optimize(not(not(not(startsWith("g"))))));
+        assertDoesNotMatch(optimize(anyOf(Arrays.<Matcher<? super String>>asList())), "good");
+    }
+
+    @Test public void
+    looksUpSeveralEqualValuesInAHashSet() {
+        final Matcher<Object> oneOf = optimize(anyOf(value("a"), value("b"), nullValue(), value("c"), value(null), value(1)));
+
+        assertPlan("(one of {\"a\", \"b\", \"c\", \"d\"} or null)",
+            optimize(anyOf(value("a"), value("b"), nullValue(), value("c"), value("d"))));
+        assertMatches(oneOf, "b");
+        assertMatches(oneOf, 1);
+        assertMatches(oneOf, null);
+        assertDoesNotMatch(oneOf, 1L);
+        assertDoesNotMatch(oneOf, "d");
+        assertPlan("(\"a\" or \"b\" or \"c\")", optimize(anyOf(equalTo("a"), equalTo("b"), equalTo("c"))));
+    }
+
+    @Test public void
+    comparesArraysElementByElement() {
+        final Matcher<Object> arrays = optimize(anyOf(value(new int[] {1}), value(new int[] {2}),
+            value(new int[] {3}), value(new int[] {4})));
+
+        assertMatches(arrays, new int[] {3});
+        assertDoesNotMatch(arrays, new int[] {5});
+    }
+
+    @Test public void
+    leavesSubclassesAndOptimizedMatchersAlone() {
+        final Matcher<String> optimized = optimize(allOf(startsWith("g"), endsWith("d")));
+        final Matcher<String> subclass = new AllOf<String>(Arrays.<Matcher<? super String>>asList(startsWith("g"))) {
+        };
+
+        assertSame(optimized, optimize(optimized));
+        assertSame(subclass, ((OptimizedMatcher<?>) optimize(subclass)).plan());
+    }
+
+    private static Matcher<Object> value(Object value) {
+        return equalTo(value);
+    }
+
+    private static void assertPlan(String expected, Matcher<?> optimized) {
+        assertEquals(expected, StringDescription.toString(((OptimizedMatcher<?>) optimized).plan()));
+    }
+
+    private static String mismatchOf(Matcher<?> matcher, Object item) {
+        final StringDescription description = new StringDescription();
+        matcher.describeMismatch(item, description);
+        return description.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package org.hamcrest.internal;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class ParallelSearchTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass public static void
+    shutDownPool() {
+        POOL.shutdown();
+    }
+
+    @Test public void
+    findsTheSameFirstIndexAsASequentialSearch() {
+        final Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            final boolean[] hits = new boolean[random.nextInt(5000)];
+            for (int i = 0; i < random.nextInt(4); i++) {
+                if (hits.length > 0) {
+                    hits[random.nextInt(hits.length)] = true;
+                }
+            }
+            assertEquals(sequentialFirst(hits), ParallelSearch.firstIndex(POOL, hits.length, testOf(hits)));
+            final int any = ParallelSearch.anyIndex(POOL, hits.length, testOf(hits));
+            assertTrue(any == -1 ? sequentialFirst(hits) == -1 : hits[any]);
+        }
+    }
+
+    @Test public void
+    stopsTestingOnceTheResultIsDecided() {
+        final AtomicInteger tests = new AtomicInteger();
+        final int found = ParallelSearch.anyIndex(POOL, 1000000, new ParallelSearch.IndexTest() {
+            @Override
+            public boolean test(int index) {
+                tests.incrementAndGet();
+                return true;
+            }
+        });
+
+        assertTrue(found >= 0);
+        assertTrue("tested " + tests.get() + " items", tests.get() < 1000);
+    }
+
+    @Test public void
+    splitsOnlyRandomAccessListsOfSeveralItems() {
+        assertTrue(ParallelSearch.isSplittable(asList(1, 2)));
+        assertFalse(ParallelSearch.isSplittable(asList(1)));
+        assertFalse(ParallelSearch.isSplittable(new LinkedList<>(asList(1, 2))));
+    }
+
+    private static int sequentialFirst(boolean[] hits) {
+        for (int i = 0; i < hits.length; i++) {
+            if (hits[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ParallelSearch.IndexTest testOf(final boolean[] hits) {
+        return new ParallelSearch.IndexTest() {
+            @Override
+            public boolean test(int index) {
+                return hits[index];
+            }
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package org.hamcrest.internal;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public final class ReflectiveTypeFinderTest {
+    private final ReflectiveTypeFinder typeFinder = new ReflectiveTypeFinder("matchesSafely", 2, 0);
+
+    @Test public void
+    findsTypeFromLeafClass() {
+        assertSame(String.class, typeFinder.findExpectedType(StringMatcher.class));
+    }
+
+    @Test public void
+    reflectsOnlyOnceForRepeatedLookups() {
+        typeFinder.findExpectedType(RepeatedMatcher.class);
+        final long misses = ReflectiveTypeFinder.cacheMisses();
+        final long hits = ReflectiveTypeFinder.cacheHits();
+
+        assertSame(Integer.class, typeFinder.findExpectedType(RepeatedMatcher.class));
+        assertSame(Integer.class, new ReflectiveTypeFinder("matchesSafely", 2, 0).findExpectedType(RepeatedMatcher.class));
+
+        assertEquals(misses, ReflectiveTypeFinder.cacheMisses());
+        assertEquals(hits + 2, ReflectiveTypeFinder.cacheHits());
+    }
+
+    @Test public void
+    cachesSeparatelyForEachMethodSignature() {
+        assertSame(Long.class, typeFinder.findExpectedType(TwoMethodMatcher.class));
+        assertSame(Double.class, new ReflectiveTypeFinder("other", 1, 0).findExpectedType(TwoMethodMatcher.class));
+    }
+
+    @Test(expected = Error.class) public void
+    failsWhenNoMethodMatches() {
+        new ReflectiveTypeFinder("missing", 1, 0).findExpectedType(StringMatcher.class);
+    }
+
+    private static class StringMatcher extends TypeSafeDiagnosingMatcher<String> {
+        @Override protected boolean matchesSafely(String item, Description mismatchDescription) { return true; }
+        @Override public void describeTo(Description description) { }
+    }
+
+    private static class RepeatedMatcher extends TypeSafeDiagnosingMatcher<Integer> {
+        @Override protected boolean matchesSafely(Integer item, Description mismatchDescription) { return true; }
+        @Override public void describeTo(Description description) { }
+    }
+
+    private static class TwoMethodMatcher extends TypeSafeDiagnosingMatcher<Long> {
+        @Override protected boolean matchesSafely(Long item, Description mismatchDescription) { return true; }
+        @SuppressWarnings("unused") void other(Double value) { }
+        @Override public void describeTo(Description description) { }
+    }
+}
@@ -74,6 +74,32 @@ public class Matchers {
     return org.hamcrest.core.AllOf.allOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+   * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+   * that are slow, such as those that do I/O. Once a matcher fails, the tasks of the matchers
+   * after it are cancelled; those before it still finish, so that the mismatch described is
+   * that of the first matcher to fail, as for {@link #allOf(Iterable)}. The matchers must be
+   * safe to use from several threads. On JDKs that have them, an executor of virtual threads
+   * suits I/O-bound matchers.
+   * For example:
+   * <pre>assertThat(document, allOfConcurrently(asList(hasXPath("//order"), hasXPath("//customer")), executor))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> allOfConcurrently(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers, java.util.concurrent.Executor executor) {
+    return org.hamcrest.core.AllOf.allOfConcurrently(matchers, executor);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ALL</b> of the specified
+   * matchers, trying first those that have been cheapest and most likely to fail so far.
+   * The description and mismatch description are those of {@link #allOf(Iterable)}.
+   * For example:
+   * <pre>rules.add(adaptiveAllOf(asList(hasProperty("region", equalTo("EU")), hasXPath("//order[@total &gt; 100]"))))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAllOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AdaptiveCombination.adaptiveAllOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified matchers.
    * For example:
@@ -138,6 +164,30 @@ public class Matchers {
     return org.hamcrest.core.AnyOf.anyOf(first, second, third, fourth, fifth, sixth);
   }
 
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+   * matchers, evaluating them at the same time as tasks on <code>executor</code>, for matchers
+   * that are slow, such as those that do I/O. Once a matcher matches, the tasks of all the
+   * others are cancelled. The matchers must be safe to use from several threads. On JDKs that
+   * have them, an executor of virtual threads suits I/O-bound matchers.
+   * For example:
+   * <pre>assertThat(host, anyOfConcurrently(asList(answersPing(), acceptsConnectionsOn(443)), executor))</pre>
+   */
+  public static <T> org.hamcrest.core.AnyOf<T> anyOfConcurrently(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers, java.util.concurrent.Executor executor) {
+    return org.hamcrest.core.AnyOf.anyOfConcurrently(matchers, executor);
+  }
+
+  /**
+   * Creates a matcher that matches if the examined object matches <b>ANY</b> of the specified
+   * matchers, trying first those that have been cheapest and most likely to match so far.
+   * The description and mismatch description are those of {@link #anyOf(Iterable)}.
+   * For example:
+   * <pre>rules.add(adaptiveAnyOf(asList(hasXPath("//refund"), hasProperty("flagged", is(true)))))</pre>
+   */
+  public static <T> org.hamcrest.Matcher<T> adaptiveAnyOf(java.lang.Iterable<org.hamcrest.Matcher<? super T>> matchers) {
+    return org.hamcrest.core.AdaptiveCombination.adaptiveAnyOf(matchers);
+  }
+
   /**
    * Creates a matcher that matches when both of the specified matchers match the examined object.
    * For example:
@@ -173,6 +223,68 @@ public class Matchers {
     return org.hamcrest.core.DescribedAs.describedAs(description, matcher, values);
   }
 
+  /**
+   * Wraps an existing matcher, keeping the text of its description after the first time it is
+   * described, unless that is more than {@link org.hamcrest.core.DescribedOnce#DEFAULT_MAX_LENGTH} characters long. All other
+   * functions are delegated to the decorated matcher. The description of the decorated matcher
+   * must not change.
+   * For example:
+   * <pre>describedOnce(allOf(hasProperty("name", ...), hasProperty("age", ...), ...))</pre>
+   * 
+   * @param matcher
+   *     the matcher to wrap
+   */
+  public static <T> org.hamcrest.Matcher<T> describedOnce(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.DescribedOnce.describedOnce(matcher);
+  }
+
+  /**
+   * Wraps an existing matcher, keeping the text of its description after the first time it is
+   * described, unless that is more than <code>maxLength</code> characters long. All other
+   * functions are delegated to the decorated matcher. The description of the decorated matcher
+   * must not change.
+   * For example:
+   * <pre>describedOnce(containsInAnyOrder(expectedRows), 1024 * 1024)</pre>
+   * 
+   * @param matcher
+   *     the matcher to wrap
+   * @param maxLength
+   *     the longest description, in characters, to keep
+   */
+  public static <T> org.hamcrest.Matcher<T> describedOnce(org.hamcrest.Matcher<T> matcher, int maxLength) {
+    return org.hamcrest.core.DescribedOnce.describedOnce(matcher, maxLength);
+  }
+
+  /**
+   * Creates a matcher that matches, and describes itself and its mismatches, as
+   * <code>matcher</code> does, but evaluates a simplified copy of the matcher tree. Worth it
+   * for trees built from many small pieces, such as long <code>both(...).and(...)</code>
+   * chains, that are evaluated many times.
+   * For example:
+   * <pre>Matcher&lt;Order&gt; rule = optimize(both(hasProperty("total", greaterThan(100))).and(hasProperty("total", lessThan(1000))))</pre>
+   * 
+   * @param matcher
+   *     the matcher to optimize
+   */
+  public static <T> org.hamcrest.Matcher<T> optimize(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.OptimizedMatcher.optimize(matcher);
+  }
+
+  /**
+   * Creates a matcher that matches, and describes itself and its mismatches, as
+   * <code>matcher</code> does, but evaluates the tree as one composed method handle. Worth it
+   * for deep trees that are evaluated many times; combine with
+   * {@link #optimize(org.hamcrest.Matcher)} to simplify the tree first.
+   * For example:
+   * <pre>Matcher&lt;Order&gt; rule = compiled(optimize(allOf(hasProperty("region", equalTo("EU")), ...)))</pre>
+   * 
+   * @param matcher
+   *     the matcher to compile
+   */
+  public static <T> org.hamcrest.Matcher<T> compiled(org.hamcrest.Matcher<T> matcher) {
+    return org.hamcrest.core.CompiledMatcher.compiled(matcher);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields items that are all matched by the specified
@@ -187,6 +299,25 @@ public class Matchers {
     return org.hamcrest.core.Every.everyItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the items of the examined
+   * {@link Iterable} are all matched by the specified <code>itemMatcher</code>. The items of
+   * {@link java.util.RandomAccess} lists are split between the workers of <code>pool</code>,
+   * which stop once an item fails, so <code>itemMatcher</code> must be safe to use from several
+   * threads. The mismatch described is that of the first item to fail, as for
+   * {@link #everyItem(Matcher)}. Other {@link Iterable}s are traversed in a single pass.
+   * For example:
+   * <pre>assertThat(readings, everyItem(isValidReading(), pool))</pre>
+   * 
+   * @param itemMatcher
+   *     the matcher to apply to every item provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to evaluate the items
+   */
+  public static <U> org.hamcrest.Matcher<java.lang.Iterable<? extends U>> everyItem(org.hamcrest.Matcher<U> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return org.hamcrest.core.Every.everyItem(itemMatcher, pool);
+  }
+
   /**
    * Decorates another Matcher, retaining its behaviour, but allowing tests
    * to be slightly more expressive.
@@ -254,6 +385,25 @@ public class Matchers {
     return IsIterableContaining.hasItem(itemMatcher);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that only matches when the examined
+   * {@link Iterable} yields at least one item that is matched by the specified
+   * <code>itemMatcher</code>. The items of {@link java.util.RandomAccess} lists are split
+   * between the workers of <code>pool</code>, which all stop as soon as a matching item is
+   * found, so <code>itemMatcher</code> must be safe to use from several threads. Other
+   * {@link Iterable}s are traversed in a single pass.
+   * For example:
+   * <pre>assertThat(events, hasItem(isSuspicious(), pool))</pre>
+   * 
+   * @param itemMatcher
+   *     the matcher to apply to items provided by the examined {@link Iterable}
+   * @param pool
+   *     the pool in which to evaluate the items
+   */
+  public static <T> org.hamcrest.Matcher<java.lang.Iterable<? super T>> hasItem(org.hamcrest.Matcher<? super T> itemMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return IsIterableContaining.hasItem(itemMatcher, pool);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that only matches when a single pass over the
    * examined {@link Iterable} yields at least one item that is equal to the specified
@@ -600,6 +750,23 @@ public class Matchers {
     return ArrayMatching.hasItemInArray(elementMatcher);
   }
 
+  /**
+   * Creates a matcher for arrays that matches when the examined array contains at least one item
+   * that is matched by the specified <code>elementMatcher</code>. The elements are split between
+   * the workers of <code>pool</code>, which all stop as soon as a matching element is found, so
+   * <code>elementMatcher</code> must be safe to use from several threads.
+   * For example:
+   * <pre>assertThat(samples, hasItemInArray(isOutlier(), pool))</pre>
+   * 
+   * @param elementMatcher
+   *     the matcher to apply to elements in examined arrays
+   * @param pool
+   *     the pool in which to evaluate the elements
+   */
+  public static <T> org.hamcrest.Matcher<T[]> hasItemInArray(org.hamcrest.Matcher<? super T> elementMatcher, java.util.concurrent.ForkJoinPool pool) {
+    return ArrayMatching.hasItemInArray(elementMatcher, pool);
+  }
+
   /**
    * A shortcut to the frequently used <code>hasItemInArray(equalTo(x))</code>.
    * For example:
@@ -666,9 +833,8 @@ public class Matchers {
    * specified matchers.
    * </p>
    * <p>
-   * N.B. each of the specified matchers will only be used once during a given examination, so be
-   * careful when specifying matchers that may be satisfied by more than one entry in an examined
-   * array.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>
    * For example:
@@ -691,9 +857,8 @@ public class Matchers {
    * of matchers.
    * </p>
    * <p>
-   * N.B. each matcher in the specified collection will only be used once during a given
-   * examination, so be careful when specifying matchers that may be satisfied by more than
-   * one entry in an examined array.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>
    * For example:
@@ -756,6 +921,267 @@ public class Matchers {
     return org.hamcrest.collection.IsArrayWithSize.arrayWithSize(size);
   }
 
+  /**
+   * Creates a matcher for <code>int[]</code>s that matches when the examined array has the same
+   * elements, in the same order, as the specified array.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 3}, arrayEqualTo(new int[] {1, 2, 3}))</pre>
+   *
+   * @param expected
+   *     the array that examined arrays must equal
+   */
+  public static org.hamcrest.Matcher<int[]> arrayEqualTo(int[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher for <code>long[]</code>s that matches when the examined array has the same
+   * elements, in the same order, as the specified array.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayEqualTo(new long[] {1L, 2L, 3L}))</pre>
+   *
+   * @param expected
+   *     the array that examined arrays must equal
+   */
+  public static org.hamcrest.Matcher<long[]> arrayEqualTo(long[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher for <code>double[]</code>s that matches when the examined array has the same
+   * elements, in the same order, as the specified array.
+   * For example:
+   * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayEqualTo(new double[] {1.0, 2.0, 3.0}))</pre>
+   *
+   * @param expected
+   *     the array that examined arrays must equal
+   */
+  public static org.hamcrest.Matcher<double[]> arrayEqualTo(double[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher for <code>byte[]</code>s that matches when the examined array has the same
+   * elements, in the same order, as the specified array.
+   * For example:
+   * <pre>assertThat(new byte[] {1, 2, 3}, arrayEqualTo(new byte[] {1, 2, 3}))</pre>
+   *
+   * @param expected
+   *     the array that examined arrays must equal
+   */
+  public static org.hamcrest.Matcher<byte[]> arrayEqualTo(byte[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher for <code>char[]</code>s that matches when the examined array has the same
+   * elements, in the same order, as the specified array.
+   * For example:
+   * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayEqualTo(new char[] {'a', 'b', 'c'}))</pre>
+   *
+   * @param expected
+   *     the array that examined arrays must equal
+   */
+  public static org.hamcrest.Matcher<char[]> arrayEqualTo(char[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo(expected);
+  }
+
+  /**
+   * Creates a matcher for <code>int[]</code>s that matches when the examined array has the same
+   * length as the specified array, and each element is within +/- <code>error</code> of the
+   * element at the same index.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 3}, arrayCloseTo(new int[] {1, 2, 3}, 1))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined elements must be close to
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<int[]> arrayCloseTo(int[] expected, int error) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo(expected, error);
+  }
+
+  /**
+   * Creates a matcher for <code>long[]</code>s that matches when the examined array has the same
+   * length as the specified array, and each element is within +/- <code>error</code> of the
+   * element at the same index.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayCloseTo(new long[] {1L, 2L, 3L}, 1L))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined elements must be close to
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<long[]> arrayCloseTo(long[] expected, long error) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo(expected, error);
+  }
+
+  /**
+   * Creates a matcher for <code>double[]</code>s that matches when the examined array has the same
+   * length as the specified array, and each element is within +/- <code>error</code> of the
+   * element at the same index.
+   * For example:
+   * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayCloseTo(new double[] {1.0, 2.0, 3.0}, 0.01))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined elements must be close to
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<double[]> arrayCloseTo(double[] expected, double error) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo(expected, error);
+  }
+
+  /**
+   * Creates a matcher for <code>byte[]</code>s that matches when the examined array has the same
+   * length as the specified array, and each element is within +/- <code>error</code> of the
+   * element at the same index.
+   * For example:
+   * <pre>assertThat(new byte[] {1, 2, 3}, arrayCloseTo(new byte[] {1, 2, 3}, 1))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined elements must be close to
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<byte[]> arrayCloseTo(byte[] expected, int error) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo(expected, error);
+  }
+
+  /**
+   * Creates a matcher for <code>char[]</code>s that matches when the examined array has the same
+   * length as the specified array, and each element is within +/- <code>error</code> of the
+   * element at the same index.
+   * For example:
+   * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayCloseTo(new char[] {'a', 'b', 'c'}, 1))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined elements must be close to
+   * @param error
+   *     the delta (+/-) within which matches will be allowed
+   */
+  public static org.hamcrest.Matcher<char[]> arrayCloseTo(char[] expected, int error) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo(expected, error);
+  }
+
+  /**
+   * Creates a matcher for <code>int[]</code>s that matches when each element of the examined array
+   * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 3}, is(ascendingIntArray()))</pre>
+   */
+  public static org.hamcrest.Matcher<int[]> ascendingIntArray() {
+    return org.hamcrest.collection.PrimitiveArrayMatching.ascendingIntArray();
+  }
+
+  /**
+   * Creates a matcher for <code>long[]</code>s that matches when each element of the examined array
+   * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 3L}, is(ascendingLongArray()))</pre>
+   */
+  public static org.hamcrest.Matcher<long[]> ascendingLongArray() {
+    return org.hamcrest.collection.PrimitiveArrayMatching.ascendingLongArray();
+  }
+
+  /**
+   * Creates a matcher for <code>double[]</code>s that matches when each element of the examined array
+   * is no less than the one before it, as <code>Arrays.sort</code> would leave them,
+   * where <code>NaN</code> sorts last and <code>-0.0</code> before <code>0.0</code>.
+   * For example:
+   * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, is(ascendingDoubleArray()))</pre>
+   */
+  public static org.hamcrest.Matcher<double[]> ascendingDoubleArray() {
+    return org.hamcrest.collection.PrimitiveArrayMatching.ascendingDoubleArray();
+  }
+
+  /**
+   * Creates a matcher for <code>byte[]</code>s that matches when each element of the examined array
+   * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+   * For example:
+   * <pre>assertThat(new byte[] {1, 2, 3}, is(ascendingByteArray()))</pre>
+   */
+  public static org.hamcrest.Matcher<byte[]> ascendingByteArray() {
+    return org.hamcrest.collection.PrimitiveArrayMatching.ascendingByteArray();
+  }
+
+  /**
+   * Creates a matcher for <code>char[]</code>s that matches when each element of the examined array
+   * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+   * For example:
+   * <pre>assertThat(new char[] {'a', 'b', 'c'}, is(ascendingCharArray()))</pre>
+   */
+  public static org.hamcrest.Matcher<char[]> ascendingCharArray() {
+    return org.hamcrest.collection.PrimitiveArrayMatching.ascendingCharArray();
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>int[]</code>s that matches when the examined array
+   * has the same elements as the specified array, each as many times, in any order.
+   * For example:
+   * <pre>assertThat(new int[] {1, 2, 3}, arrayEqualToInAnyOrder(new int[] {1, 2, 3}))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined arrays must have
+   */
+  public static org.hamcrest.Matcher<int[]> arrayEqualToInAnyOrder(int[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder(expected);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>long[]</code>s that matches when the examined array
+   * has the same elements as the specified array, each as many times, in any order.
+   * For example:
+   * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayEqualToInAnyOrder(new long[] {1L, 2L, 3L}))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined arrays must have
+   */
+  public static org.hamcrest.Matcher<long[]> arrayEqualToInAnyOrder(long[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder(expected);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>double[]</code>s that matches when the examined array
+   * has the same elements as the specified array, each as many times, in any order.
+   * For example:
+   * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayEqualToInAnyOrder(new double[] {1.0, 2.0, 3.0}))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined arrays must have
+   */
+  public static org.hamcrest.Matcher<double[]> arrayEqualToInAnyOrder(double[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder(expected);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>byte[]</code>s that matches when the examined array
+   * has the same elements as the specified array, each as many times, in any order.
+   * For example:
+   * <pre>assertThat(new byte[] {1, 2, 3}, arrayEqualToInAnyOrder(new byte[] {1, 2, 3}))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined arrays must have
+   */
+  public static org.hamcrest.Matcher<byte[]> arrayEqualToInAnyOrder(byte[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder(expected);
+  }
+
+  /**
+   * Creates an order agnostic matcher for <code>char[]</code>s that matches when the examined array
+   * has the same elements as the specified array, each as many times, in any order.
+   * For example:
+   * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayEqualToInAnyOrder(new char[] {'a', 'b', 'c'}))</pre>
+   *
+   * @param expected
+   *     the array whose elements examined arrays must have
+   */
+  public static org.hamcrest.Matcher<char[]> arrayEqualToInAnyOrder(char[] expected) {
+    return org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder(expected);
+  }
+
   /**
    * Creates a matcher for arrays that matches when the <code>length</code> of the array
    * is zero.
@@ -919,6 +1345,26 @@ public class Matchers {
     return org.hamcrest.collection.IsIterableContainingInOrder.contains(itemMatchers);
   }
 
+  /**
+   * Creates a matcher for {@link Iterable}s that matches when the examined {@link Iterable}
+   * yields a series of items, each satisfying the corresponding matcher in the specified list
+   * of matchers. The items of {@link java.util.RandomAccess} lists are split between the
+   * workers of <code>pool</code>, which stop once an item fails, so the matchers must be safe
+   * to use from several threads. The mismatch described is the first, as for
+   * {@link #contains(java.util.List)}. Other {@link Iterable}s are traversed in a single pass.
+   * For example:
+   * <pre>assertThat(rows, containsInParallel(expectedRowMatchers, pool))</pre>
+   * 
+   * @param itemMatchers
+   *     a list of matchers, each of which must be satisfied by the corresponding item provided by
+   *     an examined {@link Iterable}
+   * @param pool
+   *     the pool in which to evaluate the items
+   */
+  public static <E> org.hamcrest.Matcher<java.lang.Iterable<? extends E>> containsInParallel(java.util.List<org.hamcrest.Matcher<? super E>> itemMatchers, java.util.concurrent.ForkJoinPool pool) {
+    return org.hamcrest.collection.IsIterableContainingInOrder.containsInParallel(itemMatchers, pool);
+  }
+
   /**
    * Creates a matcher for {@link Iterable}s that matches when a single pass over the
    * examined {@link Iterable} yields a series of items, each satisfying the corresponding
@@ -943,9 +1389,8 @@ public class Matchers {
    * length as the number of specified matchers.
    * </p>
    * <p>
-   * N.B. each of the specified matchers will only be used once during a given examination, so be
-   * careful when specifying matchers that may be satisfied by more than one entry in an examined
-   * iterable.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>
    * For example:
@@ -993,9 +1438,8 @@ public class Matchers {
    * must be of the same length as the specified collection of matchers.
    * </p>
    * <p>
-   * N.B. each matcher in the specified collection will only be used once during a given
-   * examination, so be careful when specifying matchers that may be satisfied by more than
-   * one entry in an examined iterable.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>For example:</p>
    * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
@@ -1166,7 +1610,8 @@ public class Matchers {
 
   /**
    * Creates a matcher that matches when the examined object is found within the
-   * specified collection.
+   * specified collection. The collection's own <code>contains</code> is used, so pass a
+   * {@link java.util.Set} to look up large collections quickly.
    * For example:
    * <pre>assertThat("foo", is(in(Arrays.asList("bar", "foo"))))</pre>
    * 
@@ -1190,6 +1635,22 @@ public class Matchers {
     return org.hamcrest.collection.IsIn.in(elements);
   }
 
+  /**
+   * Creates a matcher that matches when the examined object is found within the
+   * specified array. Rather than the hash table that {@link #in(Object[])} builds, it
+   * keeps a sorted copy of the elements to search, which takes less memory for large
+   * arrays. The natural ordering of the elements must be consistent with
+   * <code>equals</code>, which for example that of {@link java.math.BigDecimal} is not.
+   * For example:
+   * <pre>assertThat(42, is(inSorted(new Integer[]{7, 42, 3})))</pre>
+   * 
+   * @param elements
+   *     the array in which matching items must be found
+   */
+  public static <T extends java.lang.Comparable<? super T>> org.hamcrest.Matcher<T> inSorted(T[] elements) {
+    return org.hamcrest.collection.IsIn.inSorted(elements);
+  }
+
   /**
    * Creates a matcher that matches when the examined object is found within the
    * specified collection.
@@ -1677,5 +2138,98 @@ public class Matchers {
     return org.hamcrest.xml.HasXPath.hasXPath(xPath, namespaceContext);
   }
 
+  /**
+   * Creates a matcher of XML documents, read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a
+   * {@link java.nio.file.Path}, that matches when the document has a value at the specified <code>xPath</code>
+   * that satisfies the specified <code>valueMatcher</code>. The document is streamed, not parsed
+   * into a DOM, and read only as far as needed.
+   * For example:
+   * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", equalTo("Cheddar")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset described by {@link org.hamcrest.xml.HasStreamedXPath}
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> hasStreamedXPath(java.lang.String xPath, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath(xPath, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of XML documents, read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a
+   * {@link java.nio.file.Path}, that matches when the document has a value at the specified <code>xPath</code>,
+   * within the specified <code>namespaceContext</code>, that satisfies the specified <code>valueMatcher</code>.
+   * For example:
+   * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", myNs, equalTo("Cheddar")))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset described by {@link org.hamcrest.xml.HasStreamedXPath}
+   * @param namespaceContext
+   *     the namespace for matching nodes
+   * @param valueMatcher
+   *     matcher for the value at the specified xpath
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> hasStreamedXPath(java.lang.String xPath, javax.xml.namespace.NamespaceContext namespaceContext, Matcher<java.lang.String> valueMatcher) {
+    return org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath(xPath, namespaceContext, valueMatcher);
+  }
+
+  /**
+   * Creates a matcher of XML documents, read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a
+   * {@link java.nio.file.Path}, that matches when the document contains a node at the specified <code>xPath</code>,
+   * with any content. The document is read only up to that node.
+   * For example:
+   * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese"))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset described by {@link org.hamcrest.xml.HasStreamedXPath}
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> hasStreamedXPath(java.lang.String xPath) {
+    return org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath(xPath);
+  }
+
+  /**
+   * Creates a matcher of XML documents, read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a
+   * {@link java.nio.file.Path}, that matches when the document contains a node at the specified <code>xPath</code>
+   * within the specified namespace context, with any content.
+   * For example:
+   * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", myNs))</pre>
+   *
+   * @param xPath
+   *     the target xpath, in the streamable subset described by {@link org.hamcrest.xml.HasStreamedXPath}
+   * @param namespaceContext
+   *     the namespace for matching nodes
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> hasStreamedXPath(java.lang.String xPath, javax.xml.namespace.NamespaceContext namespaceContext) {
+    return org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath(xPath, namespaceContext);
+  }
+
+  /**
+   * Creates a matcher of XML documents that matches when the document satisfies all the specified
+   * XPath matchers, checked together in one pass over the document. The document may be a
+   * {@link org.w3c.dom.Node}, or be read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a {@link java.nio.file.Path}.
+   * For example:
+   * <pre>assertThat(xml, allXPaths(hasXPath("/root/name", equalTo("Cheddar")), hasStreamedXPath("//price")))</pre>
+   *
+   * @param xPathMatchers
+   *     matchers made by <code>hasXPath</code> or <code>hasStreamedXPath</code>
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> allXPaths(org.hamcrest.Matcher<?>... xPathMatchers) {
+    return org.hamcrest.xml.HasXPaths.allXPaths(xPathMatchers);
+  }
+
+  /**
+   * Creates a matcher of XML documents that matches when the document satisfies all the specified
+   * XPath matchers, checked together in one pass over the document. The document may be a
+   * {@link org.w3c.dom.Node}, or be read from an {@link java.io.InputStream}, a {@link java.io.Reader} or a {@link java.nio.file.Path}.
+   * For example:
+   * <pre>assertThat(xml, allXPaths(Arrays.asList(hasXPath("/root/name", equalTo("Cheddar")), hasXPath("//price"))))</pre>
+   *
+   * @param xPathMatchers
+   *     matchers made by <code>hasXPath</code> or <code>hasStreamedXPath</code>
+   */
+  public static org.hamcrest.Matcher<java.lang.Object> allXPaths(java.lang.Iterable<? extends org.hamcrest.Matcher<?>> xPathMatchers) {
+    return org.hamcrest.xml.HasXPaths.allXPaths(xPathMatchers);
+  }
+
 
 }
@@ -0,0 +1,41 @@
+package org.hamcrest.beans;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The JavaBean properties of one class, as introspected once by {@link PropertyUtil}: the
+ * descriptors in the order the {@link java.beans.Introspector} returns them, and an accessor
+ * for each, indexed by property name. Never changes once made, so it can be shared between
+ * threads without locking.
+ */
+final class BeanProperties {
+    private final PropertyDescriptor[] descriptors;
+    private final Map<String, PropertyAccessor> accessors;
+
+    BeanProperties(PropertyDescriptor[] descriptors) {
+        final Map<String, PropertyAccessor> accessors = new HashMap<>(descriptors.length * 2);
+        for (PropertyDescriptor descriptor : descriptors) {
+            accessors.put(descriptor.getName(), PropertyAccessor.of(descriptor));
+        }
+        this.descriptors = descriptors;
+        this.accessors = Collections.unmodifiableMap(accessors);
+    }
+
+    /**
+     * @return the descriptors, which callers must not change
+     */
+    PropertyDescriptor[] descriptors() {
+        return descriptors;
+    }
+
+    /**
+     * @return the accessor of the property called <code>propertyName</code>, or null if there
+     *     is no such property
+     */
+    PropertyAccessor accessor(String propertyName) {
+        return accessors.get(propertyName);
+    }
+}
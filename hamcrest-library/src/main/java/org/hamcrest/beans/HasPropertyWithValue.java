@@ -1,20 +1,17 @@
 package org.hamcrest.beans;
 
-import org.hamcrest.Condition;
+import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
 
-import static org.hamcrest.Condition.matched;
-import static org.hamcrest.Condition.notMatched;
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
 
 /**
  * <p>Matcher that asserts that a JavaBean property on an argument passed to the
@@ -58,6 +55,10 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * when trying to invoke it then this is treated as an evaluation failure and
  * the matches method will return false.
  * </p>
+ * <p>The property is looked up, and a method handle made for its read method,
+ * once per bean class, so a successful match does no reflection and allocates nothing
+ * beyond what the property's getter and the value matcher do.
+ * </p>
  * <p>This matcher class will also work with JavaBean objects that have explicit
  * bean descriptions via an associated BeanInfo description class. See the
  * JavaBeans specification for more information:
@@ -70,10 +71,9 @@ import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
  * @author cristcost at github
  */
 public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
-    private static final Condition.Step<PropertyDescriptor,Method> WITH_READ_METHOD = withReadMethod();
     private final String propertyName;
     private final Matcher<Object> valueMatcher;
-    private final String messageFormat;
+    private final String message;
 
     public HasPropertyWithValue(String propertyName, Matcher<?> valueMatcher) {
         this(propertyName, valueMatcher, " property '%s' ");
@@ -82,15 +82,37 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
     public HasPropertyWithValue(String propertyName, Matcher<?> valueMatcher, String messageFormat) {
         this.propertyName = propertyName;
         this.valueMatcher = nastyGenericsWorkaround(valueMatcher);
-        this.messageFormat = messageFormat;
+        this.message = String.format(messageFormat, propertyName);
     }
 
     @Override
     public boolean matchesSafely(T bean, Description mismatch) {
-        return propertyOn(bean, mismatch)
-                  .and(WITH_READ_METHOD)
-                  .and(withPropertyValue(bean))
-                  .matching(valueMatcher, String.format(messageFormat, propertyName));
+        final PropertyAccessor property = PropertyUtil.accessorOf(propertyName, bean.getClass());
+        if (property == null) {
+            mismatch.appendText("No property \"" + propertyName + "\"");
+            return false;
+        }
+        if (!property.isReadable()) {
+            mismatch.appendText("property \"" + property.name() + "\" is not readable");
+            return false;
+        }
+        final Object value;
+        try {
+            value = property.read(bean);
+        } catch (InvocationTargetException e) {
+            mismatch
+              .appendText("Calling '")
+              .appendText(property.readMethod().toString())
+              .appendText("': ")
+              .appendValue(e.getTargetException().getMessage());
+            return false;
+        }
+        final Description valueMismatch = prefixed(mismatch, message, "");
+        if (BaseMatcher.matchesWithDiagnosis(valueMatcher, value, valueMismatch)) {
+            return true;
+        }
+        flush(valueMismatch);
+        return false;
     }
 
     @Override
@@ -99,56 +121,11 @@ public class HasPropertyWithValue<T> extends TypeSafeDiagnosingMatcher<T> {
                    .appendDescriptionOf(valueMatcher).appendText(")");
     }
 
-    private Condition<PropertyDescriptor> propertyOn(T bean, Description mismatch) {
-        PropertyDescriptor property = PropertyUtil.getPropertyDescriptor(propertyName, bean);
-        if (property == null) {
-            mismatch.appendText("No property \"" + propertyName + "\"");
-            return notMatched();
-        }
-
-        return matched(property, mismatch);
-    }
-
-    private Condition.Step<Method, Object> withPropertyValue(final T bean) {
-        return new Condition.Step<Method, Object>() {
-            @Override
-            public Condition<Object> apply(Method readMethod, Description mismatch) {
-                try {
-                    return matched(readMethod.invoke(bean, NO_ARGUMENTS), mismatch);
-                } catch (InvocationTargetException e) {
-                    mismatch
-                      .appendText("Calling '")
-                      .appendText(readMethod.toString())
-                      .appendText("': ")
-                      .appendValue(e.getTargetException().getMessage());
-                    return notMatched();
-                } catch (Exception e) {
-                    throw new IllegalStateException(
-                      "Calling: '" + readMethod + "' should not have thrown " + e);
-                }
-            }
-        };
-    }
-
     @SuppressWarnings("unchecked")
     private static Matcher<Object> nastyGenericsWorkaround(Matcher<?> valueMatcher) {
         return (Matcher<Object>) valueMatcher;
     }
 
-    private static Condition.Step<PropertyDescriptor,Method> withReadMethod() {
-        return new Condition.Step<PropertyDescriptor, java.lang.reflect.Method>() {
-            @Override
-            public Condition<Method> apply(PropertyDescriptor property, Description mismatch) {
-                final Method readMethod = property.getReadMethod();
-                if (null == readMethod) {
-                    mismatch.appendText("property \"" + property.getName() + "\" is not readable");
-                    return notMatched();
-                }
-                return matched(readMethod, mismatch);
-            }
-        };
-    }
-
     /**
      * Creates a matcher that matches when the examined object has a JavaBean property
      * with the specified name whose value satisfies the specified matcher.
@@ -0,0 +1,92 @@
+package org.hamcrest.beans;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.internal.ValueReader;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Reads one JavaBean property of the beans of one class through a method handle to its read
+ * method, made once when {@link PropertyUtil} introspects the class, rather than by a
+ * reflective call on every read.
+ */
+final class PropertyAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final PropertyDescriptor property;
+    private final ValueReader reader;
+    private final IllegalAccessException inaccessible;
+
+    private PropertyAccessor(PropertyDescriptor property, ValueReader reader, IllegalAccessException inaccessible) {
+        this.property = property;
+        this.reader = reader;
+        this.inaccessible = inaccessible;
+    }
+
+    static PropertyAccessor of(PropertyDescriptor property) {
+        final Method readMethod = property.getReadMethod();
+        if (readMethod == null) {
+            return new PropertyAccessor(property, null, null);
+        }
+        try {
+            return new PropertyAccessor(property, ValueReader.of(LOOKUP.unreflect(readMethod)), null);
+        } catch (IllegalAccessException e) {
+            return new PropertyAccessor(property, null, e);
+        }
+    }
+
+    PropertyDescriptor descriptor() {
+        return property;
+    }
+
+    boolean isReadable() {
+        return reader != null || inaccessible != null;
+    }
+
+    String name() {
+        return property.getName();
+    }
+
+    Method readMethod() {
+        return property.getReadMethod();
+    }
+
+    /**
+     * @return the value of the property of <code>bean</code>, which must be an instance of the
+     *     class this accessor was made for
+     * @throws InvocationTargetException if the read method throws
+     */
+    Object read(Object bean) throws InvocationTargetException {
+        checkAccessible();
+        try {
+            return reader.read(bean);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * @return whether the value of the property of <code>bean</code> equals
+     *     <code>expected</code>, a value of this property, compared without boxing if it is primitive
+     * @throws InvocationTargetException if the read method throws
+     * @see ValueReader#hasValue(Object, Object, Matcher)
+     */
+    boolean hasValue(Object bean, Object expected, Matcher<?> isEqualToExpected) throws InvocationTargetException {
+        checkAccessible();
+        try {
+            return reader.hasValue(bean, expected, isEqualToExpected);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private void checkAccessible() {
+        if (inaccessible != null) {
+            throw new IllegalStateException(
+              "Calling: '" + readMethod() + "' should not have thrown " + inaccessible);
+        }
+    }
+}
@@ -1,19 +1,46 @@
 package org.hamcrest.beans;
 
+import java.beans.IndexedPropertyDescriptor;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.util.Enumeration;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for accessing properties on JavaBean objects.
  * See http://java.sun.com/products/javabeans/docs/index.html for
  * more information on JavaBeans.
+ * <p>
+ * Each class is introspected once. Its properties are kept, indexed by name, in a
+ * {@link ClassValue}, which is held by the class itself rather than by a map of classes,
+ * so the cache does not keep classes, or their class loaders, alive after they are
+ * redeployed. The {@link Introspector}'s own cache, which is left as it is, holds them until
+ * {@link Introspector#flushCaches()} is called. The properties are immutable, so concurrent
+ * lookups need no locking; if two threads introspect a class at once, one result is kept for
+ * both. Descriptors are mutable, so callers are given copies of the cached ones.
+ * </p>
  *
  * @author Iain McGinniss
  * @author Steve Freeman
  * @since 1.1.0
  */
 public class PropertyUtil {
+    private static final ClassValue<BeanProperties> ALL_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> beanClass) {
+            return introspect(beanClass, null);
+        }
+    };
+    private static final ClassValue<BeanProperties> OWN_PROPERTIES = new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> beanClass) {
+            return introspect(beanClass, Object.class);
+        }
+    };
+    private static final AtomicLong LOOKUPS = new AtomicLong();
+    private static final AtomicLong CACHE_MISSES = new AtomicLong();
+
     /**
      * Returns the description of the property with the provided
      * name on the provided object's interface.
@@ -22,13 +49,8 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's a introspection failure
      */
     public static PropertyDescriptor getPropertyDescriptor(String propertyName, Object fromObj) throws IllegalArgumentException {
-        for (PropertyDescriptor property : propertyDescriptorsFor(fromObj, null)) {
-            if (property.getName().equals(propertyName)) {
-                return property;
-            }
-        }
-
-        return null;
+        final PropertyAccessor property = accessorOf(propertyName, fromObj.getClass());
+        return property == null ? null : copyOf(property.descriptor());
     }
 
     /**
@@ -40,10 +62,81 @@ public class PropertyUtil {
      * @throws IllegalArgumentException if there's a introspection failure
      */
     public static PropertyDescriptor[] propertyDescriptorsFor(Object fromObj, Class<Object> stopClass) throws IllegalArgumentException {
+      final PropertyDescriptor[] descriptors = propertiesOf(fromObj.getClass(), stopClass).descriptors();
+      final PropertyDescriptor[] copies = new PropertyDescriptor[descriptors.length];
+      for (int i = 0; i < descriptors.length; i++) {
+        copies[i] = copyOf(descriptors[i]);
+      }
+      return copies;
+    }
+
+    /**
+     * @return the number of lookups of the properties of a class answered without introspecting it
+     */
+    public static long cacheHits() {
+        return LOOKUPS.get() - CACHE_MISSES.get();
+    }
+
+    /**
+     * @return the number of lookups of the properties of a class that had to introspect it
+     */
+    public static long cacheMisses() {
+        return CACHE_MISSES.get();
+    }
+
+    /**
+     * @return the accessor of the property called <code>propertyName</code> of
+     *     <code>beanClass</code>, or null if there is no such property
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    static PropertyAccessor accessorOf(String propertyName, Class<?> beanClass) throws IllegalArgumentException {
+        return propertiesOf(beanClass, null).accessor(propertyName);
+    }
+
+    /**
+     * @param stopClass either null, for all the properties of <code>beanClass</code>, or
+     *     <code>Object.class</code>, for all but those of <code>Object</code>
+     * @throws IllegalArgumentException if there's a introspection failure
+     */
+    static BeanProperties propertiesOf(Class<?> beanClass, Class<Object> stopClass) throws IllegalArgumentException {
+        LOOKUPS.incrementAndGet();
+        return stopClass == null ? ALL_PROPERTIES.get(beanClass) : OWN_PROPERTIES.get(beanClass);
+    }
+
+    private static BeanProperties introspect(Class<?> beanClass, Class<Object> stopClass) {
+      CACHE_MISSES.incrementAndGet();
+      try {
+        return new BeanProperties(Introspector.getBeanInfo(beanClass, stopClass).getPropertyDescriptors());
+      } catch (IntrospectionException e) {
+        throw new IllegalArgumentException("Could not get property descriptors for " + beanClass, e);
+      }
+    }
+
+    private static PropertyDescriptor copyOf(PropertyDescriptor property) {
       try {
-        return Introspector.getBeanInfo(fromObj.getClass(), stopClass).getPropertyDescriptors();
+        final PropertyDescriptor copy;
+        if (property instanceof IndexedPropertyDescriptor) {
+          final IndexedPropertyDescriptor indexed = (IndexedPropertyDescriptor) property;
+          copy = new IndexedPropertyDescriptor(indexed.getName(), indexed.getReadMethod(), indexed.getWriteMethod(),
+                                               indexed.getIndexedReadMethod(), indexed.getIndexedWriteMethod());
+        } else {
+          copy = new PropertyDescriptor(property.getName(), property.getReadMethod(), property.getWriteMethod());
+        }
+        copy.setDisplayName(property.getDisplayName());
+        copy.setShortDescription(property.getShortDescription());
+        copy.setExpert(property.isExpert());
+        copy.setHidden(property.isHidden());
+        copy.setPreferred(property.isPreferred());
+        copy.setBound(property.isBound());
+        copy.setConstrained(property.isConstrained());
+        copy.setPropertyEditorClass(property.getPropertyEditorClass());
+        for (Enumeration<String> names = property.attributeNames(); names.hasMoreElements(); ) {
+          final String name = names.nextElement();
+          copy.setValue(name, property.getValue(name));
+        }
+        return copy;
       } catch (IntrospectionException e) {
-        throw new IllegalArgumentException("Could not get property descriptors for " + fromObj.getClass(), e);
+        throw new IllegalArgumentException("Could not copy property descriptor " + property.getName(), e);
       }
     }
 
@@ -5,27 +5,32 @@ import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
 
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
-import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
-import static org.hamcrest.beans.PropertyUtil.propertyDescriptorsFor;
+import static org.hamcrest.beans.PropertyUtil.propertiesOf;
 import static org.hamcrest.core.IsEqual.equalTo;
 
+/**
+ * Compares beans by their JavaBean properties. The properties of the expected bean's class are
+ * introspected once, by {@link PropertyUtil}, and read through method handles, and primitive
+ * values are compared without being boxed, so that matching a bean of a class already
+ * seen does no introspection and allocates nothing.
+ */
 public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
     private final T expectedBean;
     private final Set<String> propertyNames;
-    private final List<PropertyMatcher> propertyMatchers;
+    private final PropertyMatcher[] propertyMatchers;
+    private volatile Class<?> lastClassWithoutExtraProperties;
 
     @SuppressWarnings("WeakerAccess")
     public SamePropertyValuesAs(T expectedBean) {
-        PropertyDescriptor[] descriptors = propertyDescriptorsFor(expectedBean, Object.class);
+        BeanProperties properties = propertiesOf(expectedBean.getClass(), Object.class);
         this.expectedBean = expectedBean;
-        this.propertyNames = propertyNamesFrom(descriptors);
-        this.propertyMatchers = propertyMatchersFor(expectedBean, descriptors);
+        this.propertyNames = propertyNamesFrom(properties.descriptors());
+        this.propertyMatchers = propertyMatchersFor(expectedBean, properties);
     }
 
     @Override
@@ -39,7 +44,7 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
     @Override
     public void describeTo(Description description) {
         description.appendText("same property values as " + expectedBean.getClass().getSimpleName())
-                   .appendList(" [", ", ", "]", propertyMatchers);
+                   .appendList(" [", ", ", "]", Arrays.asList(propertyMatchers));
     }
 
 
@@ -52,30 +57,39 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
         return false;
     }
 
+    /**
+     * A bean of the expected bean's class has no extra properties, and nor does one of the
+     * class last found to have none, so only beans of other subclasses are introspected.
+     */
     private boolean hasNoExtraProperties(Object actual, Description mismatchDescription) {
-        Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(actual, Object.class));
+        final Class<?> actualClass = actual.getClass();
+        if (actualClass == expectedBean.getClass() || actualClass == lastClassWithoutExtraProperties) {
+            return true;
+        }
+        Set<String> actualPropertyNames = propertyNamesFrom(propertiesOf(actualClass, Object.class).descriptors());
         actualPropertyNames.removeAll(propertyNames);
         if (!actualPropertyNames.isEmpty()) {
             mismatchDescription.appendText("has extra properties called " + actualPropertyNames);
             return false;
         }
+        lastClassWithoutExtraProperties = actualClass;
         return true;
     }
 
     private boolean hasMatchingValues(Object actual, Description mismatchDescription) {
         for (PropertyMatcher propertyMatcher : propertyMatchers) {
-            if (!propertyMatcher.matches(actual)) {
-                propertyMatcher.describeMismatch(actual, mismatchDescription);
+            if (!propertyMatcher.matchesWithDiagnosis(actual, mismatchDescription)) {
                 return false;
             }
         }
         return true;
     }
 
-    private static <T> List<PropertyMatcher> propertyMatchersFor(T bean, PropertyDescriptor[] descriptors) {
-        List<PropertyMatcher> result = new ArrayList<>(descriptors.length);
-        for (PropertyDescriptor propertyDescriptor : descriptors) {
-            result.add(new PropertyMatcher(propertyDescriptor, bean));
+    private static PropertyMatcher[] propertyMatchersFor(Object bean, BeanProperties properties) {
+        PropertyDescriptor[] descriptors = properties.descriptors();
+        PropertyMatcher[] result = new PropertyMatcher[descriptors.length];
+        for (int i = 0; i < descriptors.length; i++) {
+            result[i] = new PropertyMatcher(descriptors[i], properties.accessor(descriptors[i].getName()), bean);
         }
         return result;
     }
@@ -89,38 +103,51 @@ public class SamePropertyValuesAs<T> extends DiagnosingMatcher<T> {
     }
 
     private static class PropertyMatcher extends DiagnosingMatcher<Object> {
-        private final Method readMethod;
+        private final PropertyAccessor property;
+        private final Object expectedValue;
         private final Matcher<Object> matcher;
         private final String propertyName;
 
-        public PropertyMatcher(PropertyDescriptor descriptor, Object expectedObject) {
+        public PropertyMatcher(PropertyDescriptor descriptor, PropertyAccessor property, Object expectedObject) {
             this.propertyName = descriptor.getDisplayName();
-            this.readMethod = descriptor.getReadMethod();
-            this.matcher = equalTo(readProperty(readMethod, expectedObject));
+            this.property = property;
+            this.expectedValue = readProperty(property, expectedObject);
+            this.matcher = equalTo(expectedValue);
         }
 
         @Override
         public boolean matches(Object actual, Description mismatch) {
-            final Object actualValue = readProperty(readMethod, actual);
-            if (!matcher.matches(actualValue)) {
-                mismatch.appendText(propertyName + " ");
-                matcher.describeMismatch(actualValue, mismatch);
+            if (hasExpectedValue(actual)) {
+                return true;
+            }
+            if (mismatch == Description.NONE) {
                 return false;
             }
-            return true;
+            final Object actualValue = readProperty(property, actual);
+            mismatch.appendText(propertyName + " ");
+            matcher.describeMismatch(actualValue, mismatch);
+            return false;
         }
 
         @Override
         public void describeTo(Description description) {
             description.appendText(propertyName + ": ").appendDescriptionOf(matcher);
         }
+
+        private boolean hasExpectedValue(Object actual) {
+            try {
+                return property.hasValue(actual, expectedValue, matcher);
+            } catch (InvocationTargetException e) {
+                throw new IllegalArgumentException("Could not invoke " + property.readMethod() + " on " + actual, e);
+            }
+        }
     }
 
-    private static Object readProperty(Method method, Object target) {
+    private static Object readProperty(PropertyAccessor property, Object target) {
         try {
-            return method.invoke(target, NO_ARGUMENTS);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Could not invoke " + method + " on " + target, e);
+            return property.read(target);
+        } catch (InvocationTargetException | RuntimeException e) {
+            throw new IllegalArgumentException("Could not invoke " + property.readMethod() + " on " + target, e);
         }
     }
 
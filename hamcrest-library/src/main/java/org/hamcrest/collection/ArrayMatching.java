@@ -6,6 +6,7 @@ import org.hamcrest.internal.NullSafety;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -31,6 +32,23 @@ public class ArrayMatching {
       return new HasItemInArray<>(elementMatcher);
   }
 
+  /**
+   * Creates a matcher for arrays that matches when the examined array contains at least one item
+   * that is matched by the specified <code>elementMatcher</code>. The elements are split between
+   * the workers of <code>pool</code>, which all stop as soon as a matching element is found, so
+   * <code>elementMatcher</code> must be safe to use from several threads.
+   * For example:
+   * <pre>assertThat(samples, hasItemInArray(isOutlier(), pool))</pre>
+   *
+   * @param elementMatcher
+   *     the matcher to apply to elements in examined arrays
+   * @param pool
+   *     the pool in which to evaluate the elements
+   */
+  public static <T> Matcher<T[]> hasItemInArray(Matcher<? super T> elementMatcher, ForkJoinPool pool) {
+      return new HasItemInArray<>(elementMatcher, pool);
+  }
+
   /**
    * A shortcut to the frequently used <code>hasItemInArray(equalTo(x))</code>.
    * For example:
@@ -53,9 +71,8 @@ public class ArrayMatching {
    * specified matchers.
    * </p>
    * <p>
-   * N.B. each of the specified matchers will only be used once during a given examination, so be
-   * careful when specifying matchers that may be satisfied by more than one entry in an examined
-   * array.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>
    * For example:
@@ -78,9 +95,8 @@ public class ArrayMatching {
    * of matchers.
    * </p>
    * <p>
-   * N.B. each matcher in the specified collection will only be used once during a given
-   * examination, so be careful when specifying matchers that may be satisfied by more than
-   * one entry in an examined array.
+   * N.B. each of the specified matchers will only be used once during a given examination. Where
+   * matchers overlap, the items are matched if there is any way of giving each its own matcher.
    * </p>
    * <p>
    * For example:
@@ -114,7 +130,8 @@ public class ArrayMatching {
    */
   @SafeVarargs
   public static <E> Matcher<E[]> arrayContainingInAnyOrder(E... items) {
-    return arrayContainingInAnyOrder(asEqualMatchers(items));
+    final IsIterableContainingInAnyOrder<E> iterableMatcher = IsIterableContainingInAnyOrder.equalToItemsInAnyOrder(items);
+    return new ArrayAsIterableMatcher<>(iterableMatcher, asEqualMatchers(items), "in any order");
   }
 
   /**
@@ -0,0 +1,207 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Matcher;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Assigns examined items to matchers, using each matcher for at most one item, so that as many
+ * items as possible are matched. A first-fit pass, trying the matchers in order as
+ * {@link IsIterableContainingInAnyOrder} always has, usually settles the assignment at once.
+ * When it does not, for example because an earlier item took a matcher that only a later item
+ * can satisfy, Hopcroft-Karp augments the assignment to a maximum one in O(E&radic;V).
+ * Each matcher is asked about each item at most once.
+ *
+ * @param <T> The type of the examined items
+ */
+final class BipartiteMatching<T> {
+    private static final int NONE = -1;
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final List<? extends T> items;
+    private final List<? extends Matcher<? super T>> matchers;
+    private final int[] matcherOfItem;
+    private final int[] itemOfMatcher;
+    private int size;
+
+    // What the first-fit pass has already found out about each item, so no pair is evaluated twice.
+    private int[] firstFitOwner;
+    private int[] firstFitEnd;
+    private int[][] compatible;
+
+    private BipartiteMatching(List<? extends T> items, List<? extends Matcher<? super T>> matchers) {
+        this.items = items;
+        this.matchers = matchers;
+        this.matcherOfItem = new int[items.size()];
+        this.itemOfMatcher = new int[matchers.size()];
+        Arrays.fill(matcherOfItem, NONE);
+        Arrays.fill(itemOfMatcher, NONE);
+    }
+
+    static <T> BipartiteMatching<T> of(List<? extends T> items, List<? extends Matcher<? super T>> matchers) {
+        final BipartiteMatching<T> matching = new BipartiteMatching<>(items, matchers);
+        matching.assignFirstFit();
+        if (!matching.isComplete()) {
+            matching.augment();
+        }
+        return matching;
+    }
+
+    /** @return true if every item has been assigned a matcher, and every matcher an item */
+    boolean isComplete() {
+        return size == items.size() && size == matchers.size();
+    }
+
+    boolean isItemMatched(int item) {
+        return matcherOfItem[item] != NONE;
+    }
+
+    boolean isMatcherUsed(int matcher) {
+        return itemOfMatcher[matcher] != NONE;
+    }
+
+    private void assignFirstFit() {
+        final int matcherCount = matchers.size();
+        // The unused matchers, as a circular list in declaration order, so that skipping used ones is free.
+        final int head = matcherCount;
+        final int[] next = new int[matcherCount + 1];
+        final int[] previous = new int[matcherCount + 1];
+        for (int j = 0; j <= matcherCount; j++) {
+            next[j] = (j + 1) % (matcherCount + 1);
+            previous[j] = (j + matcherCount) % (matcherCount + 1);
+        }
+
+        firstFitEnd = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            final T item = items.get(i);
+            int j = next[head];
+            while (j != head && !matchers.get(j).matches(item)) {
+                j = next[j];
+            }
+            if (j == head) {
+                firstFitEnd[i] = matcherCount;
+            } else {
+                firstFitEnd[i] = j;
+                assign(i, j);
+                size++;
+                next[previous[j]] = next[j];
+                previous[next[j]] = previous[j];
+            }
+        }
+        firstFitOwner = itemOfMatcher.clone();
+    }
+
+    private void augment() {
+        compatible = new int[items.size()][];
+        final int[] distance = new int[items.size()];
+        final int[] queue = new int[items.size()];
+        final int[] nextEdge = new int[items.size()];
+        final int[] path = new int[items.size()];
+        while (layer(distance, queue)) {
+            Arrays.fill(nextEdge, 0);
+            for (int i = 0; i < items.size(); i++) {
+                if (matcherOfItem[i] == NONE && augmentFrom(i, distance, nextEdge, path)) {
+                    size++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Breadth first search from the unassigned items along alternating paths, as far as the
+     * nearest unused matcher.
+     * @return true if some path reaches an unused matcher
+     */
+    private boolean layer(int[] distance, int[] queue) {
+        int tail = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (matcherOfItem[i] == NONE) {
+                distance[i] = 0;
+                queue[tail++] = i;
+            } else {
+                distance[i] = UNREACHED;
+            }
+        }
+        int shortest = UNREACHED;
+        for (int head = 0; head < tail; head++) {
+            final int i = queue[head];
+            if (distance[i] > shortest) {
+                break;
+            }
+            for (int j : compatibleWith(i)) {
+                final int owner = itemOfMatcher[j];
+                if (owner == NONE) {
+                    shortest = distance[i];
+                } else if (distance[owner] == UNREACHED) {
+                    distance[owner] = distance[i] + 1;
+                    queue[tail++] = owner;
+                }
+            }
+        }
+        return shortest != UNREACHED;
+    }
+
+    /**
+     * Depth first search, with an explicit stack so long paths cannot overflow the call stack,
+     * for a shortest augmenting path from an unassigned item. Flips the path if one is found.
+     */
+    private boolean augmentFrom(int start, int[] distance, int[] nextEdge, int[] path) {
+        int depth = 0;
+        path[0] = start;
+        while (depth >= 0) {
+            final int i = path[depth];
+            final int[] candidates = compatibleWith(i);
+            if (nextEdge[i] == candidates.length) {
+                distance[i] = UNREACHED;
+                depth--;
+                continue;
+            }
+            final int j = candidates[nextEdge[i]++];
+            final int owner = itemOfMatcher[j];
+            if (owner == NONE) {
+                // Each item on the path hands its matcher down to the item before it.
+                int matcher = j;
+                for (int k = depth; k >= 0; k--) {
+                    final int released = matcherOfItem[path[k]];
+                    assign(path[k], matcher);
+                    matcher = released;
+                }
+                return true;
+            }
+            if (distance[owner] == distance[i] + 1) {
+                path[++depth] = owner;
+            }
+        }
+        return false;
+    }
+
+    private void assign(int item, int matcher) {
+        matcherOfItem[item] = matcher;
+        itemOfMatcher[matcher] = item;
+    }
+
+    /**
+     * The matchers that accept an item, in declaration order. Pairs that the first-fit pass
+     * evaluated are not asked again: it tried, in order, each matcher that no earlier item had
+     * taken, up to the first that accepted.
+     */
+    private int[] compatibleWith(int i) {
+        if (compatible[i] != null) {
+            return compatible[i];
+        }
+        final T item = items.get(i);
+        final int[] accepting = new int[matchers.size()];
+        int count = 0;
+        for (int j = 0; j < matchers.size(); j++) {
+            final boolean triedByFirstFit = j < firstFitEnd[i] && (firstFitOwner[j] == NONE || firstFitOwner[j] > i);
+            if (firstFitOwner[j] == i) {
+                accepting[count++] = j;
+            } else if (!triedByFirstFit && matchers.get(j).matches(item)) {
+                accepting[count++] = j;
+            }
+        }
+        compatible[i] = Arrays.copyOf(accepting, count);
+        return compatible[i];
+    }
+}
@@ -0,0 +1,280 @@
+package org.hamcrest.collection;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the elements given to {@link IsIn}, answering <code>contains</code>
+ * as <code>Arrays.asList(elements).contains(element)</code> would, but without scanning them all.
+ * Integer, Long and String elements get open addressed tables of their own, which avoid boxing
+ * the table entries and the per-entry nodes of a {@link HashSet}.
+ */
+abstract class ElementSet {
+    /** Below this, scanning the elements is as quick as hashing the examined one. */
+    private static final int SCAN_LIMIT = 8;
+
+    private final boolean containsNull;
+
+    private ElementSet(boolean containsNull) {
+        this.containsNull = containsNull;
+    }
+
+    final boolean contains(Object element) {
+        return element == null ? containsNull : containsNonNull(element);
+    }
+
+    abstract boolean containsNonNull(Object element);
+
+    /**
+     * Hashes the elements, which must have a <code>hashCode()</code> consistent with
+     * <code>equals()</code>.
+     */
+    static ElementSet hashed(Object[] elements) {
+        final Object[] nonNull = nonNull(elements);
+        final boolean containsNull = nonNull.length < elements.length;
+        if (nonNull.length < SCAN_LIMIT) {
+            return new Scan(nonNull, containsNull);
+        }
+        switch (commonFinalType(nonNull)) {
+            case "java.lang.Integer": return new IntTable(nonNull, containsNull);
+            case "java.lang.Long": return new LongTable(nonNull, containsNull);
+            case "java.lang.String": return new StringTable(nonNull, containsNull);
+            default: return new Hashed(nonNull, containsNull);
+        }
+    }
+
+    /**
+     * Sorts the elements and binary searches them, taking a single reference per element.
+     * Relies on their natural ordering being consistent with <code>equals()</code>.
+     */
+    static ElementSet sorted(Comparable<?>[] elements) {
+        final Object[] nonNull = nonNull(elements);
+        Arrays.sort(nonNull);
+        return new Sorted(nonNull, nonNull.length < elements.length);
+    }
+
+    private static Object[] nonNull(Object[] elements) {
+        final Object[] nonNull = new Object[elements.length];
+        int count = 0;
+        for (Object element : elements) {
+            if (element != null) {
+                nonNull[count++] = element;
+            }
+        }
+        return Arrays.copyOf(nonNull, count);
+    }
+
+    private static String commonFinalType(Object[] elements) {
+        final Class<?> type = elements[0].getClass();
+        for (Object element : elements) {
+            if (element.getClass() != type) {
+                return "";
+            }
+        }
+        return type.getName();
+    }
+
+    /** The smallest power of two table that keeps at least half its slots free. */
+    private static int tableSize(int elementCount) {
+        return Integer.highestOneBit(Math.max(elementCount, 1)) << 2;
+    }
+
+    private static int spread(int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Scan extends ElementSet {
+        private final Object[] elements;
+
+        Scan(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.elements = elements;
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            for (Object candidate : elements) {
+                if (element.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Hashed extends ElementSet {
+        private final Set<Object> elements;
+
+        Hashed(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.elements = new HashSet<>(Arrays.asList(elements));
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            return elements.contains(element);
+        }
+    }
+
+    /** Open addressing with linear probing. Zero marks a free slot, so is recorded separately. */
+    private static final class IntTable extends ElementSet {
+        private final int[] table;
+        private final int mask;
+        private boolean containsZero;
+
+        IntTable(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.table = new int[tableSize(elements.length)];
+            this.mask = table.length - 1;
+            for (Object element : elements) {
+                add((Integer) element);
+            }
+        }
+
+        private void add(int value) {
+            if (value == 0) {
+                containsZero = true;
+                return;
+            }
+            int slot = spread(value) & mask;
+            while (table[slot] != 0 && table[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            if (!(element instanceof Integer)) {
+                return false;
+            }
+            final int value = (Integer) element;
+            if (value == 0) {
+                return containsZero;
+            }
+            for (int slot = spread(value) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (table[slot] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** As {@link IntTable}, for longs. */
+    private static final class LongTable extends ElementSet {
+        private final long[] table;
+        private final int mask;
+        private boolean containsZero;
+
+        LongTable(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.table = new long[tableSize(elements.length)];
+            this.mask = table.length - 1;
+            for (Object element : elements) {
+                add((Long) element);
+            }
+        }
+
+        private void add(long value) {
+            if (value == 0) {
+                containsZero = true;
+                return;
+            }
+            int slot = spread(value) & mask;
+            while (table[slot] != 0 && table[slot] != value) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            if (!(element instanceof Long)) {
+                return false;
+            }
+            final long value = (Long) element;
+            if (value == 0) {
+                return containsZero;
+            }
+            for (int slot = spread(value) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+                if (table[slot] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static int spread(long value) {
+            return ElementSet.spread((int) (value ^ (value >>> 32)));
+        }
+    }
+
+    /** Open addressing over the strings themselves, using the hash code each string caches. */
+    private static final class StringTable extends ElementSet {
+        private final String[] table;
+        private final int mask;
+
+        StringTable(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.table = new String[tableSize(elements.length)];
+            this.mask = table.length - 1;
+            for (Object element : elements) {
+                add((String) element);
+            }
+        }
+
+        private void add(String value) {
+            int slot = spread(value.hashCode()) & mask;
+            while (table[slot] != null && !table[slot].equals(value)) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = value;
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            if (!(element instanceof String)) {
+                return false;
+            }
+            for (int slot = spread(element.hashCode()) & mask; table[slot] != null; slot = (slot + 1) & mask) {
+                if (table[slot].equals(element)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Sorted extends ElementSet {
+        private final Object[] elements;
+        private final Class<?> commonType;
+
+        Sorted(Object[] elements, boolean containsNull) {
+            super(containsNull);
+            this.elements = elements;
+            this.commonType = commonSuperclass(elements);
+        }
+
+        @Override
+        boolean containsNonNull(Object element) {
+            return commonType.isInstance(element) && Arrays.binarySearch(elements, element) >= 0;
+        }
+
+        /** Anything else cannot be compared with the elements, so cannot equal one of them. */
+        private static Class<?> commonSuperclass(Object[] elements) {
+            if (elements.length == 0) {
+                return Void.class;
+            }
+            Class<?> common = elements[0].getClass();
+            for (Object element : elements) {
+                while (!common.isInstance(element)) {
+                    common = common.getSuperclass();
+                }
+            }
+            return common;
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.TypeSafeMatcher;
 import org.hamcrest.core.IsIterableContaining;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static java.util.Arrays.asList;
 
 /**
@@ -16,8 +18,16 @@ public class HasItemInArray<T> extends TypeSafeMatcher<T[]> {
     private final TypeSafeDiagnosingMatcher<Iterable<? super T>> collectionMatcher;
 
     public HasItemInArray(Matcher<? super T> elementMatcher) {
+        this(elementMatcher, null);
+    }
+
+    /**
+     * @param pool
+     *     where to evaluate the elements in parallel, or null
+     */
+    public HasItemInArray(Matcher<? super T> elementMatcher, ForkJoinPool pool) {
         this.elementMatcher = elementMatcher;
-        this.collectionMatcher = new IsIterableContaining<>(elementMatcher);
+        this.collectionMatcher = new IsIterableContaining<>(elementMatcher, pool);
     }
 
     @Override
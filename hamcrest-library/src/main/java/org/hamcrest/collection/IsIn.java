@@ -9,19 +9,31 @@ import java.util.Collection;
 
 public class IsIn<T> extends BaseMatcher<T> {
     private final Collection<T> collection;
+    private final ElementSet elementSet;
 
     public IsIn(Collection<T> collection) {
         this.collection = collection;
+        this.elementSet = null;
     }
     
+    /**
+     * Copies the elements, and looks the examined object up in a hash table of them
+     * rather than comparing it with each in turn.
+     */
     public IsIn(T[] elements) {
-        collection = Arrays.asList(elements);
+        this.collection = Arrays.asList(elements.clone());
+        this.elementSet = ElementSet.hashed(collection.toArray());
+    }
+
+    private IsIn(Collection<T> collection, ElementSet elementSet) {
+        this.collection = collection;
+        this.elementSet = elementSet;
     }
     
     @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public boolean matches(Object o) {
-        return collection.contains(o);
+        return elementSet == null ? collection.contains(o) : elementSet.contains(o);
     }
 
     @Override
@@ -49,7 +61,8 @@ public class IsIn<T> extends BaseMatcher<T> {
     
     /**
      * Creates a matcher that matches when the examined object is found within the
-     * specified collection.
+     * specified collection. The collection's own <code>contains</code> is used, so pass a
+     * {@link java.util.Set} to look up large collections quickly.
      * For example:
      * <pre>assertThat("foo", is(in(Arrays.asList("bar", "foo"))))</pre>
      * 
@@ -91,6 +104,24 @@ public class IsIn<T> extends BaseMatcher<T> {
     public static <T> Matcher<T> in(T[] elements) {
         return new IsIn<>(elements);
     }
+
+    /**
+     * Creates a matcher that matches when the examined object is found within the
+     * specified array. Rather than the hash table that {@link #in(Object[])} builds, it
+     * keeps a sorted copy of the elements to search, which takes less memory for large
+     * arrays. The natural ordering of the elements must be consistent with
+     * <code>equals</code>, which for example that of {@link java.math.BigDecimal} is not.
+     * For example:
+     * <pre>assertThat(42, is(inSorted(new Integer[]{7, 42, 3})))</pre>
+     * 
+     * @param elements
+     *     the array in which matching items must be found
+     * 
+     */
+    public static <T extends Comparable<? super T>> Matcher<T> inSorted(T[] elements) {
+        final T[] copy = elements.clone();
+        return new IsIn<T>(Arrays.asList(copy), ElementSet.sorted(copy));
+    }
     
     /**
      * Creates a matcher that matches when the examined object is equal to one of the
@@ -7,27 +7,37 @@ import org.hamcrest.TypeSafeDiagnosingMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher<Iterable<? extends T>> {
     private final Collection<Matcher<? super T>> matchers;
+    private final EqualItems equalItems;
 
     public IsIterableContainingInAnyOrder(Collection<Matcher<? super T>> matchers) {
+        this(matchers, null);
+    }
+
+    private IsIterableContainingInAnyOrder(Collection<Matcher<? super T>> matchers, EqualItems equalItems) {
         this.matchers = matchers;
+        this.equalItems = equalItems;
     }
     
     @Override
     protected boolean matchesSafely(Iterable<? extends T> items, Description mismatchDescription) {
-      final Matching<T> matching = new Matching<>(matchers, mismatchDescription);
-      for (T item : items) {
-        if (! matching.matches(item)) {
-          return false;
+      if (equalItems != null) {
+        final EqualItemsMatching<T> matching = new EqualItemsMatching<>(equalItems, matchers, mismatchDescription);
+        for (T item : items) {
+          if (! matching.matches(item)) {
+            return false;
+          }
         }
+        return matching.isFinished(items);
       }
-      
-      return matching.isFinished(items);
+      return isAssigned(items, mismatchDescription);
     }
     
     @Override
@@ -37,45 +47,169 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
           .appendText(" in any order");
     }
 
-    private static class Matching<S> {
-      private final Collection<Matcher<? super S>> matchers;
+    /**
+     * Looks for an assignment of the items to the matchers, one each, rather than giving each item
+     * the first matcher that accepts it, which fails when an earlier item takes a matcher that only
+     * a later item can satisfy. Only one item more than there are matchers is read, which is
+     * enough to show the mismatch, so a long or endless iterable is not copied whole.
+     */
+    private boolean isAssigned(Iterable<? extends T> items, Description mismatchDescription) {
+      final List<Matcher<? super T>> expected = new ArrayList<>(matchers);
+      final List<T> examined = new ArrayList<>();
+      for (T item : items) {
+        examined.add(item);
+        if (examined.size() > expected.size()) {
+          break;
+        }
+      }
+      final BipartiteMatching<T> matching = BipartiteMatching.of(examined, expected);
+      if (matching.isComplete()) {
+        return true;
+      }
+
+      int matchedBefore = 0;
+      for (int i = 0; i < examined.size(); i++) {
+        if (!matching.isItemMatched(i)) {
+          mismatchDescription
+            .appendText(matchedBefore == expected.size() ? "no match for: " : "not matched: ")
+            .appendValue(examined.get(i));
+          return false;
+        }
+        matchedBefore++;
+      }
+
+      final List<Matcher<? super T>> unmatched = new ArrayList<>();
+      for (int j = 0; j < expected.size(); j++) {
+        if (!matching.isMatcherUsed(j)) {
+          unmatched.add(expected.get(j));
+        }
+      }
+      mismatchDescription
+        .appendText("no item matches: ").appendList("", ", ", "", unmatched)
+        .appendText(" in ").appendValueList("[", ", ", "]", examined);
+      return false;
+    }
+
+    /**
+     * The expected items of an <code>equalTo</code>-only matcher, indexed so that each examined
+     * item is looked up in constant time rather than tried against every remaining matcher.
+     * Equal items share a slot, which counts how many of them are expected.
+     */
+    private static final class EqualItems {
+      private final Map<Object, Integer> slots = new HashMap<>();
+      private final int[] slotOfItem;
+      private final int[] expectedCounts;
+
+      private EqualItems(Object[] items) {
+        this.slotOfItem = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+          Integer slot = slots.get(items[i]);
+          if (slot == null) {
+            slot = slots.size();
+            slots.put(items[i], slot);
+          }
+          slotOfItem[i] = slot;
+        }
+        this.expectedCounts = new int[slots.size()];
+        for (int slot : slotOfItem) {
+          expectedCounts[slot]++;
+        }
+      }
+
+      /**
+       * Hashing agrees with {@link org.hamcrest.core.IsEqual} for items whose <code>hashCode()</code>
+       * is consistent with <code>equals()</code>. That excludes arrays, which <code>equalTo</code>
+       * compares element by element.
+       */
+      static EqualItems of(Object[] items) {
+        for (Object item : items) {
+          if (item != null && item.getClass().isArray()) {
+            return null;
+          }
+        }
+        return new EqualItems(items);
+      }
+    }
+
+    /**
+     * Gives each item the first remaining matcher that is <code>equalTo</code> it. Equality is
+     * transitive, so unlike for arbitrary matchers this first fit is already the best assignment,
+     * and each item is looked up in constant time rather than tried against every remaining matcher.
+     */
+    private static class EqualItemsMatching<S> {
+      private final EqualItems equalItems;
+      private final List<Matcher<? super S>> matchers;
       private final Description mismatchDescription;
+      private final int[] remainingCounts;
+      private int remaining;
 
-      public Matching(Collection<Matcher<? super S>> matchers, Description mismatchDescription) {
+      public EqualItemsMatching(EqualItems equalItems, Collection<Matcher<? super S>> matchers, Description mismatchDescription) {
+        this.equalItems = equalItems;
         this.matchers = new ArrayList<>(matchers);
         this.mismatchDescription = mismatchDescription;
+        this.remainingCounts = equalItems.expectedCounts.clone();
+        this.remaining = matchers.size();
       }
-      
+
       public boolean matches(S item) {
-        if (matchers.isEmpty()) {
+        if (remaining == 0) {
           mismatchDescription.appendText("no match for: ").appendValue(item);
           return false;
         }
-        return isMatched(item);
+        final Integer slot = equalItems.slots.get(item);
+        if (slot == null || remainingCounts[slot] == 0) {
+          mismatchDescription.appendText("not matched: ").appendValue(item);
+          return false;
+        }
+        remainingCounts[slot]--;
+        remaining--;
+        return true;
       }
 
       public boolean isFinished(Iterable<? extends S> items) {
-        if (matchers.isEmpty()) {
+        if (remaining == 0) {
           return true;
         }
         mismatchDescription
-          .appendText("no item matches: ").appendList("", ", ", "", matchers)
+          .appendText("no item matches: ").appendList("", ", ", "", unmatched())
           .appendText(" in ").appendValueList("[", ", ", "]", items);
         return false;
       }
 
-      private boolean isMatched(S item) {
-        for (Matcher<? super S>  matcher : matchers) {
-          if (matcher.matches(item)) {
-            matchers.remove(matcher);
-            return true;
+      /**
+       * The matchers left over: each item uses the first remaining matcher for it, so of several
+       * equal items the last ones remain.
+       */
+      private List<Matcher<? super S>> unmatched() {
+        final int[] toSkip = new int[remainingCounts.length];
+        for (int slot = 0; slot < toSkip.length; slot++) {
+          toSkip[slot] = equalItems.expectedCounts[slot] - remainingCounts[slot];
+        }
+        final List<Matcher<? super S>> unmatched = new ArrayList<>(remaining);
+        for (int i = 0; i < matchers.size(); i++) {
+          final int slot = equalItems.slotOfItem[i];
+          if (toSkip[slot] > 0) {
+            toSkip[slot]--;
+          } else {
+            unmatched.add(matchers.get(i));
           }
         }
-        mismatchDescription.appendText("not matched: ").appendValue(item);
-        return false;
+        return unmatched;
       }
     }
 
+    /**
+     * Matches in any order against <code>equalTo</code> each of the items, using a hashed
+     * lookup when the items allow it.
+     */
+    static <T> IsIterableContainingInAnyOrder<T> equalToItemsInAnyOrder(T[] items) {
+        final List<Matcher<? super T>> matchers = new ArrayList<>(items.length);
+        for (T item : items) {
+            matchers.add(equalTo(item));
+        }
+        return new IsIterableContainingInAnyOrder<>(matchers, EqualItems.of(items));
+    }
+
     /**
      * <p>
      * Creates an order agnostic matcher for {@link Iterable}s that matches when a single pass over
@@ -84,9 +218,8 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * length as the number of specified matchers.
      * </p>
      * <p>
-     * N.B. each of the specified matchers will only be used once during a given examination, so be
-     * careful when specifying matchers that may be satisfied by more than one entry in an examined
-     * iterable.
+     * N.B. each of the specified matchers will only be used once during a given examination. Where
+     * matchers overlap, the items are matched if there is any way of giving each its own matcher.
      * </p>
      * <p>
      * For example:
@@ -123,12 +256,7 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      */
     @SafeVarargs
     public static <T> Matcher<Iterable<? extends T>> containsInAnyOrder(T... items) {
-        List<Matcher<? super T>> matchers = new ArrayList<>();
-        for (T item : items) {
-            matchers.add(equalTo(item));
-        }
-        
-        return new IsIterableContainingInAnyOrder<>(matchers);
+        return equalToItemsInAnyOrder(items);
     }
 
     /**
@@ -139,9 +267,8 @@ public class IsIterableContainingInAnyOrder<T> extends TypeSafeDiagnosingMatcher
      * must be of the same length as the specified collection of matchers.
      * </p>
      * <p>
-     * N.B. each matcher in the specified collection will only be used once during a given
-     * examination, so be careful when specifying matchers that may be satisfied by more than
-     * one entry in an examined iterable.
+     * N.B. each of the specified matchers will only be used once during a given examination. Where
+     * matchers overlap, the items are matched if there is any way of giving each its own matcher.
      * </p>
      * <p>For example:</p>
      * <pre>assertThat(Arrays.asList("foo", "bar"), containsInAnyOrder(Arrays.asList(equalTo("bar"), equalTo("foo"))))</pre>
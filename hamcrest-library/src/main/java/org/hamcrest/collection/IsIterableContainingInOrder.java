@@ -2,24 +2,45 @@ package org.hamcrest.collection;
 
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.SelfDescribing;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.internal.NullSafety;
+import org.hamcrest.internal.ParallelSearch;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.util.Collections.singletonList;
+import static org.hamcrest.BaseMatcher.matchesWithDiagnosis;
 import static org.hamcrest.collection.ArrayMatching.asEqualMatchers;
+import static org.hamcrest.internal.ParallelSearch.firstIndex;
+import static org.hamcrest.internal.ParallelSearch.isSplittable;
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
 
 public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<Iterable<? extends E>> {
     private final List<Matcher<? super E>> matchers;
+    private final ForkJoinPool pool;
 
     public IsIterableContainingInOrder(List<Matcher<? super E>> matchers) {
+        this(matchers, null);
+    }
+
+    /**
+     * @param pool
+     *     where to evaluate the items of {@link java.util.RandomAccess} lists in parallel, or null
+     */
+    public IsIterableContainingInOrder(List<Matcher<? super E>> matchers, ForkJoinPool pool) {
         this.matchers = matchers;
+        this.pool = pool;
     }
 
     @Override
     protected boolean matchesSafely(Iterable<? extends E> iterable, Description mismatchDescription) {
+        if (pool != null && isSplittable(iterable)) {
+            return matchesInParallel((List<? extends E>) iterable, mismatchDescription);
+        }
         final MatchSeries<E> matchSeries = new MatchSeries<>(matchers, mismatchDescription);
         for (E item : iterable) {
             if (!matchSeries.matches(item)) {
@@ -30,6 +51,38 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
         return matchSeries.isFinished();
     }
 
+    /**
+     * Searches the items that have a matcher for the first that fails, and describes the same
+     * mismatch as the sequential pass would.
+     */
+    private boolean matchesInParallel(final List<? extends E> items, Description mismatchDescription) {
+        if (items.size() != matchers.size() && mismatchDescription == Description.NONE) {
+            return false;
+        }
+        final int common = Math.min(items.size(), matchers.size());
+        final int mismatch = firstIndex(pool, common, new ParallelSearch.IndexTest() {
+            @Override
+            public boolean test(int index) {
+                return !matchers.get(index).matches(items.get(index));
+            }
+        });
+        if (mismatch < 0 && items.size() == matchers.size()) {
+            return true;
+        }
+        if (mismatchDescription == Description.NONE) {
+            return false;
+        }
+        if (mismatch >= 0) {
+            mismatchDescription.appendText("item " + mismatch + ": ");
+            matchers.get(mismatch).describeMismatch(items.get(mismatch), mismatchDescription);
+        } else if (items.size() > matchers.size()) {
+            mismatchDescription.appendText("not matched: ").appendValue(items.get(common));
+        } else {
+            mismatchDescription.appendText("no item was ").appendDescriptionOf(matchers.get(common));
+        }
+        return false;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText("iterable containing ").appendList("[", ", ", "]", matchers);
@@ -38,10 +91,17 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
     private static class MatchSeries<F> {
         private final List<Matcher<? super F>> matchers;
         private final Description mismatchDescription;
+        private final Description itemMismatch;
         private int nextMatchIx = 0;
 
         public MatchSeries(List<Matcher<? super F>> matchers, Description mismatchDescription) {
             this.mismatchDescription = mismatchDescription;
+            this.itemMismatch = prefixed(mismatchDescription, new SelfDescribing() {
+                @Override
+                public void describeTo(Description description) {
+                    description.appendText("item " + nextMatchIx + ":");
+                }
+            }, " ");
             if (matchers.isEmpty()) {
                 throw new IllegalArgumentException("Should specify at least one expected element");
             }
@@ -67,18 +127,13 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
 
         private boolean isMatched(F item) {
             final Matcher<? super F> matcher = matchers.get(nextMatchIx);
-            if (!matcher.matches(item)) {
-                describeMismatch(matcher, item);
+            if (!matchesWithDiagnosis(matcher, item, itemMismatch)) {
+                flush(itemMismatch);
                 return false;
             }
             nextMatchIx++;
             return true;
         }
-
-      private void describeMismatch(Matcher<? super F> matcher, F item) {
-            mismatchDescription.appendText("item " + nextMatchIx + ": ");
-            matcher.describeMismatch(item, mismatchDescription);
-        }
     }
 
     /**
@@ -147,4 +202,24 @@ public class IsIterableContainingInOrder<E> extends TypeSafeDiagnosingMatcher<It
     public static <E> Matcher<Iterable<? extends E>> contains(List<Matcher<? super E>> itemMatchers) {
         return new IsIterableContainingInOrder<>(itemMatchers);
     }
+
+    /**
+     * Creates a matcher for {@link Iterable}s that matches when the examined {@link Iterable}
+     * yields a series of items, each satisfying the corresponding matcher in the specified list
+     * of matchers. The items of {@link java.util.RandomAccess} lists are split between the
+     * workers of <code>pool</code>, which stop once an item fails, so the matchers must be safe
+     * to use from several threads. The mismatch described is the first, as for
+     * {@link #contains(List)}. Other {@link Iterable}s are traversed in a single pass.
+     * For example:
+     * <pre>assertThat(rows, containsInParallel(expectedRowMatchers, pool))</pre>
+     *
+     * @param itemMatchers
+     *     a list of matchers, each of which must be satisfied by the corresponding item provided by
+     *     an examined {@link Iterable}
+     * @param pool
+     *     the pool in which to evaluate the items
+     */
+    public static <E> Matcher<Iterable<? extends E>> containsInParallel(List<Matcher<? super E>> itemMatchers, ForkJoinPool pool) {
+        return new IsIterableContainingInOrder<>(itemMatchers, pool);
+    }
 }
@@ -0,0 +1,388 @@
+package org.hamcrest.collection;
+
+import java.util.Arrays;
+
+/**
+ * The whole-array operations that {@link PrimitiveArrayMatching} needs, written out for each
+ * primitive array type so that every loop runs over the raw elements. Only {@link #element}
+ * boxes, and it is used for descriptions alone.
+ *
+ * @param <A> The primitive array type
+ */
+abstract class PrimitiveArray<A> {
+    static final PrimitiveArray<int[]> INTS = new Ints();
+    static final PrimitiveArray<long[]> LONGS = new Longs();
+    static final PrimitiveArray<double[]> DOUBLES = new Doubles();
+    static final PrimitiveArray<byte[]> BYTES = new Bytes();
+    static final PrimitiveArray<char[]> CHARS = new Chars();
+
+    private final Class<A> type;
+
+    private PrimitiveArray(Class<A> type) {
+        this.type = type;
+    }
+
+    Class<A> type() {
+        return type;
+    }
+
+    /** @return the type as written in Java source, with an article, e.g. <code>an int[]</code> */
+    String describedType() {
+        final String name = type.getComponentType().getName();
+        return (name.startsWith("i") ? "an " : "a ") + name + "[]";
+    }
+
+    abstract int length(A array);
+
+    abstract Object element(A array, int index);
+
+    abstract boolean equal(A actual, A expected);
+
+    /** @return the first index at which two arrays of the same length differ, or -1 */
+    abstract int firstDifference(A actual, A expected);
+
+    /**
+     * @param error
+     *     the allowed difference, as passed to the factory
+     * @return the first index at which two arrays of the same length differ by more than the
+     *     error, or -1
+     */
+    abstract int firstNotWithin(A actual, A expected, Number error);
+
+    /** @return the first index whose element sorts before the one preceding it, or -1 */
+    abstract int firstDescent(A array);
+
+    /** @return true if <code>actual[index]</code> sorts before <code>expected[index]</code> */
+    abstract boolean sortsBefore(A actual, A expected, int index);
+
+    abstract A sortedCopy(A array);
+
+    private static final class Ints extends PrimitiveArray<int[]> {
+        Ints() {
+            super(int[].class);
+        }
+
+        @Override
+        int length(int[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object element(int[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean equal(int[] actual, int[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        int firstDifference(int[] actual, int[] expected) {
+            for (int i = 0; i < actual.length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstNotWithin(int[] actual, int[] expected, Number error) {
+            final long within = error.longValue();
+            for (int i = 0; i < actual.length; i++) {
+                if (Math.abs((long) actual[i] - expected[i]) > within) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstDescent(int[] array) {
+            for (int i = 1; i < array.length; i++) {
+                if (array[i] < array[i - 1]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean sortsBefore(int[] actual, int[] expected, int index) {
+            return actual[index] < expected[index];
+        }
+
+        @Override
+        int[] sortedCopy(int[] array) {
+            final int[] copy = array.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private static final class Longs extends PrimitiveArray<long[]> {
+        Longs() {
+            super(long[].class);
+        }
+
+        @Override
+        int length(long[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object element(long[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean equal(long[] actual, long[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        int firstDifference(long[] actual, long[] expected) {
+            for (int i = 0; i < actual.length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstNotWithin(long[] actual, long[] expected, Number error) {
+            final long within = error.longValue();
+            for (int i = 0; i < actual.length; i++) {
+                // The distance always fits in 64 bits when read as unsigned, and is compared as
+                // unsigned by offsetting both sides by Long.MIN_VALUE.
+                final long distance = actual[i] >= expected[i] ? actual[i] - expected[i] : expected[i] - actual[i];
+                if (within < 0 || distance + Long.MIN_VALUE > within + Long.MIN_VALUE) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstDescent(long[] array) {
+            for (int i = 1; i < array.length; i++) {
+                if (array[i] < array[i - 1]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean sortsBefore(long[] actual, long[] expected, int index) {
+            return actual[index] < expected[index];
+        }
+
+        @Override
+        long[] sortedCopy(long[] array) {
+            final long[] copy = array.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    /**
+     * Equality and order are those of {@link Double#equals} and {@link Double#compare}, as used
+     * by {@link Arrays#equals(double[], double[])} and {@link Arrays#sort(double[])}: NaN equals
+     * itself and sorts last, and -0.0 sorts before, and differs from, 0.0.
+     */
+    private static final class Doubles extends PrimitiveArray<double[]> {
+        Doubles() {
+            super(double[].class);
+        }
+
+        @Override
+        int length(double[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object element(double[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean equal(double[] actual, double[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        int firstDifference(double[] actual, double[] expected) {
+            for (int i = 0; i < actual.length; i++) {
+                if (Double.doubleToLongBits(actual[i]) != Double.doubleToLongBits(expected[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /** As for {@link org.hamcrest.number.IsCloseTo}, NaN is not close to anything. */
+        @Override
+        int firstNotWithin(double[] actual, double[] expected, Number error) {
+            final double within = error.doubleValue();
+            for (int i = 0; i < actual.length; i++) {
+                if (!(Math.abs(actual[i] - expected[i]) - within <= 0.0)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstDescent(double[] array) {
+            for (int i = 1; i < array.length; i++) {
+                if (Double.compare(array[i], array[i - 1]) < 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean sortsBefore(double[] actual, double[] expected, int index) {
+            return Double.compare(actual[index], expected[index]) < 0;
+        }
+
+        @Override
+        double[] sortedCopy(double[] array) {
+            final double[] copy = array.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private static final class Bytes extends PrimitiveArray<byte[]> {
+        Bytes() {
+            super(byte[].class);
+        }
+
+        @Override
+        int length(byte[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object element(byte[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean equal(byte[] actual, byte[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        int firstDifference(byte[] actual, byte[] expected) {
+            for (int i = 0; i < actual.length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstNotWithin(byte[] actual, byte[] expected, Number error) {
+            final int within = error.intValue();
+            for (int i = 0; i < actual.length; i++) {
+                if (Math.abs(actual[i] - expected[i]) > within) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstDescent(byte[] array) {
+            for (int i = 1; i < array.length; i++) {
+                if (array[i] < array[i - 1]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean sortsBefore(byte[] actual, byte[] expected, int index) {
+            return actual[index] < expected[index];
+        }
+
+        @Override
+        byte[] sortedCopy(byte[] array) {
+            final byte[] copy = array.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+
+    private static final class Chars extends PrimitiveArray<char[]> {
+        Chars() {
+            super(char[].class);
+        }
+
+        @Override
+        int length(char[] array) {
+            return array.length;
+        }
+
+        @Override
+        Object element(char[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        boolean equal(char[] actual, char[] expected) {
+            return Arrays.equals(actual, expected);
+        }
+
+        @Override
+        int firstDifference(char[] actual, char[] expected) {
+            for (int i = 0; i < actual.length; i++) {
+                if (actual[i] != expected[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstNotWithin(char[] actual, char[] expected, Number error) {
+            final int within = error.intValue();
+            for (int i = 0; i < actual.length; i++) {
+                if (Math.abs(actual[i] - expected[i]) > within) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int firstDescent(char[] array) {
+            for (int i = 1; i < array.length; i++) {
+                if (array[i] < array[i - 1]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        boolean sortsBefore(char[] actual, char[] expected, int index) {
+            return actual[index] < expected[index];
+        }
+
+        @Override
+        char[] sortedCopy(char[] array) {
+            final char[] copy = array.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
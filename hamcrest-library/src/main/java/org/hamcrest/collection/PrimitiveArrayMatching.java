@@ -0,0 +1,450 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matchers for <code>int[]</code>, <code>long[]</code>, <code>double[]</code>, <code>byte[]</code>
+ * and <code>char[]</code> that work on the raw elements. Unlike <code>equalTo</code> and the
+ * matchers for object arrays, they never box an element while matching, which makes them
+ * suitable for large buffers. Descriptions show the first few elements only.
+ */
+public class PrimitiveArrayMatching {
+    private static final int ELEMENTS_SHOWN = 10;
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has the same
+     * elements, in the same order, as the specified array.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, arrayEqualTo(new int[] {1, 2, 3}))</pre>
+     *
+     * @param expected
+     *     the array that examined arrays must equal
+     */
+    public static Matcher<int[]> arrayEqualTo(int[] expected) {
+        return new IsArrayEqual<>(PrimitiveArray.INTS, expected.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has the same
+     * elements, in the same order, as the specified array.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayEqualTo(new long[] {1L, 2L, 3L}))</pre>
+     *
+     * @param expected
+     *     the array that examined arrays must equal
+     */
+    public static Matcher<long[]> arrayEqualTo(long[] expected) {
+        return new IsArrayEqual<>(PrimitiveArray.LONGS, expected.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has the same
+     * elements, in the same order, as the specified array.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayEqualTo(new double[] {1.0, 2.0, 3.0}))</pre>
+     *
+     * @param expected
+     *     the array that examined arrays must equal
+     */
+    public static Matcher<double[]> arrayEqualTo(double[] expected) {
+        return new IsArrayEqual<>(PrimitiveArray.DOUBLES, expected.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the examined array has the same
+     * elements, in the same order, as the specified array.
+     * For example:
+     * <pre>assertThat(new byte[] {1, 2, 3}, arrayEqualTo(new byte[] {1, 2, 3}))</pre>
+     *
+     * @param expected
+     *     the array that examined arrays must equal
+     */
+    public static Matcher<byte[]> arrayEqualTo(byte[] expected) {
+        return new IsArrayEqual<>(PrimitiveArray.BYTES, expected.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>char[]</code>s that matches when the examined array has the same
+     * elements, in the same order, as the specified array.
+     * For example:
+     * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayEqualTo(new char[] {'a', 'b', 'c'}))</pre>
+     *
+     * @param expected
+     *     the array that examined arrays must equal
+     */
+    public static Matcher<char[]> arrayEqualTo(char[] expected) {
+        return new IsArrayEqual<>(PrimitiveArray.CHARS, expected.clone());
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when the examined array has the same
+     * length as the specified array, and each element is within +/- <code>error</code> of the
+     * element at the same index.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, arrayCloseTo(new int[] {1, 2, 3}, 1))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined elements must be close to
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<int[]> arrayCloseTo(int[] expected, int error) {
+        return new IsArrayCloseTo<>(PrimitiveArray.INTS, expected.clone(), error);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when the examined array has the same
+     * length as the specified array, and each element is within +/- <code>error</code> of the
+     * element at the same index.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayCloseTo(new long[] {1L, 2L, 3L}, 1L))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined elements must be close to
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<long[]> arrayCloseTo(long[] expected, long error) {
+        return new IsArrayCloseTo<>(PrimitiveArray.LONGS, expected.clone(), error);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when the examined array has the same
+     * length as the specified array, and each element is within +/- <code>error</code> of the
+     * element at the same index.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayCloseTo(new double[] {1.0, 2.0, 3.0}, 0.01))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined elements must be close to
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<double[]> arrayCloseTo(double[] expected, double error) {
+        return new IsArrayCloseTo<>(PrimitiveArray.DOUBLES, expected.clone(), error);
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when the examined array has the same
+     * length as the specified array, and each element is within +/- <code>error</code> of the
+     * element at the same index.
+     * For example:
+     * <pre>assertThat(new byte[] {1, 2, 3}, arrayCloseTo(new byte[] {1, 2, 3}, 1))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined elements must be close to
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<byte[]> arrayCloseTo(byte[] expected, int error) {
+        return new IsArrayCloseTo<>(PrimitiveArray.BYTES, expected.clone(), error);
+    }
+
+    /**
+     * Creates a matcher for <code>char[]</code>s that matches when the examined array has the same
+     * length as the specified array, and each element is within +/- <code>error</code> of the
+     * element at the same index.
+     * For example:
+     * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayCloseTo(new char[] {'a', 'b', 'c'}, 1))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined elements must be close to
+     * @param error
+     *     the delta (+/-) within which matches will be allowed
+     */
+    public static Matcher<char[]> arrayCloseTo(char[] expected, int error) {
+        return new IsArrayCloseTo<>(PrimitiveArray.CHARS, expected.clone(), error);
+    }
+
+    /**
+     * Creates a matcher for <code>int[]</code>s that matches when each element of the examined array
+     * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, is(ascendingIntArray()))</pre>
+     */
+    public static Matcher<int[]> ascendingIntArray() {
+        return new IsArrayInAscendingOrder<>(PrimitiveArray.INTS);
+    }
+
+    /**
+     * Creates a matcher for <code>long[]</code>s that matches when each element of the examined array
+     * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, is(ascendingLongArray()))</pre>
+     */
+    public static Matcher<long[]> ascendingLongArray() {
+        return new IsArrayInAscendingOrder<>(PrimitiveArray.LONGS);
+    }
+
+    /**
+     * Creates a matcher for <code>double[]</code>s that matches when each element of the examined array
+     * is no less than the one before it, as <code>Arrays.sort</code> would leave them,
+     * where <code>NaN</code> sorts last and <code>-0.0</code> before <code>0.0</code>.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, is(ascendingDoubleArray()))</pre>
+     */
+    public static Matcher<double[]> ascendingDoubleArray() {
+        return new IsArrayInAscendingOrder<>(PrimitiveArray.DOUBLES);
+    }
+
+    /**
+     * Creates a matcher for <code>byte[]</code>s that matches when each element of the examined array
+     * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+     * For example:
+     * <pre>assertThat(new byte[] {1, 2, 3}, is(ascendingByteArray()))</pre>
+     */
+    public static Matcher<byte[]> ascendingByteArray() {
+        return new IsArrayInAscendingOrder<>(PrimitiveArray.BYTES);
+    }
+
+    /**
+     * Creates a matcher for <code>char[]</code>s that matches when each element of the examined array
+     * is no less than the one before it, as <code>Arrays.sort</code> would leave them.
+     * For example:
+     * <pre>assertThat(new char[] {'a', 'b', 'c'}, is(ascendingCharArray()))</pre>
+     */
+    public static Matcher<char[]> ascendingCharArray() {
+        return new IsArrayInAscendingOrder<>(PrimitiveArray.CHARS);
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>int[]</code>s that matches when the examined array
+     * has the same elements as the specified array, each as many times, in any order.
+     * For example:
+     * <pre>assertThat(new int[] {1, 2, 3}, arrayEqualToInAnyOrder(new int[] {1, 2, 3}))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined arrays must have
+     */
+    public static Matcher<int[]> arrayEqualToInAnyOrder(int[] expected) {
+        return new IsArrayEqualInAnyOrder<>(PrimitiveArray.INTS, expected.clone());
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>long[]</code>s that matches when the examined array
+     * has the same elements as the specified array, each as many times, in any order.
+     * For example:
+     * <pre>assertThat(new long[] {1L, 2L, 3L}, arrayEqualToInAnyOrder(new long[] {1L, 2L, 3L}))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined arrays must have
+     */
+    public static Matcher<long[]> arrayEqualToInAnyOrder(long[] expected) {
+        return new IsArrayEqualInAnyOrder<>(PrimitiveArray.LONGS, expected.clone());
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>double[]</code>s that matches when the examined array
+     * has the same elements as the specified array, each as many times, in any order.
+     * For example:
+     * <pre>assertThat(new double[] {1.0, 2.0, 3.0}, arrayEqualToInAnyOrder(new double[] {1.0, 2.0, 3.0}))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined arrays must have
+     */
+    public static Matcher<double[]> arrayEqualToInAnyOrder(double[] expected) {
+        return new IsArrayEqualInAnyOrder<>(PrimitiveArray.DOUBLES, expected.clone());
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>byte[]</code>s that matches when the examined array
+     * has the same elements as the specified array, each as many times, in any order.
+     * For example:
+     * <pre>assertThat(new byte[] {1, 2, 3}, arrayEqualToInAnyOrder(new byte[] {1, 2, 3}))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined arrays must have
+     */
+    public static Matcher<byte[]> arrayEqualToInAnyOrder(byte[] expected) {
+        return new IsArrayEqualInAnyOrder<>(PrimitiveArray.BYTES, expected.clone());
+    }
+
+    /**
+     * Creates an order agnostic matcher for <code>char[]</code>s that matches when the examined array
+     * has the same elements as the specified array, each as many times, in any order.
+     * For example:
+     * <pre>assertThat(new char[] {'a', 'b', 'c'}, arrayEqualToInAnyOrder(new char[] {'a', 'b', 'c'}))</pre>
+     *
+     * @param expected
+     *     the array whose elements examined arrays must have
+     */
+    public static Matcher<char[]> arrayEqualToInAnyOrder(char[] expected) {
+        return new IsArrayEqualInAnyOrder<>(PrimitiveArray.CHARS, expected.clone());
+    }
+
+    private static <A> Description appendElements(Description description, PrimitiveArray<A> array, A values) {
+        final int length = array.length(values);
+        final List<Object> shown = new ArrayList<>();
+        for (int i = 0; i < Math.min(length, ELEMENTS_SHOWN); i++) {
+            shown.add(array.element(values, i));
+        }
+        if (length <= ELEMENTS_SHOWN) {
+            return description.appendValueList("[", ", ", "]", shown);
+        }
+        return description.appendValueList("[", ", ", ", ...]", shown)
+            .appendText(" (").appendText(String.valueOf(length)).appendText(" elements)");
+    }
+
+    private abstract static class PrimitiveArrayMatcher<A> extends TypeSafeDiagnosingMatcher<A> {
+        protected final PrimitiveArray<A> array;
+
+        protected PrimitiveArrayMatcher(PrimitiveArray<A> array) {
+            super(array.type());
+            this.array = array;
+        }
+
+        protected boolean hasLength(A actual, int length, Description mismatchDescription) {
+            final int actualLength = array.length(actual);
+            if (actualLength == length) {
+                return true;
+            }
+            mismatchDescription.appendText("length was ").appendValue(actualLength);
+            return false;
+        }
+
+        protected void describeElement(String text, A values, int index, Description description) {
+            description.appendText("element ").appendText(String.valueOf(index))
+                .appendText(text).appendValue(array.element(values, index));
+        }
+    }
+
+    private static class IsArrayEqual<A> extends PrimitiveArrayMatcher<A> {
+        private final A expected;
+
+        public IsArrayEqual(PrimitiveArray<A> array, A expected) {
+            super(array);
+            this.expected = expected;
+        }
+
+        @Override
+        protected boolean matchesSafely(A actual, Description mismatchDescription) {
+            if (array.equal(actual, expected)) {
+                return true;
+            }
+            if (mismatchDescription != Description.NONE && hasLength(actual, array.length(expected), mismatchDescription)) {
+                final int index = array.firstDifference(actual, expected);
+                describeElement(" was ", actual, index, mismatchDescription);
+                mismatchDescription.appendText(" instead of ").appendValue(array.element(expected, index));
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(array.describedType() + " equal to ");
+            appendElements(description, array, expected);
+        }
+    }
+
+    private static class IsArrayCloseTo<A> extends PrimitiveArrayMatcher<A> {
+        private final A expected;
+        private final Number error;
+
+        public IsArrayCloseTo(PrimitiveArray<A> array, A expected, Number error) {
+            super(array);
+            this.expected = expected;
+            this.error = error;
+        }
+
+        @Override
+        protected boolean matchesSafely(A actual, Description mismatchDescription) {
+            if (!hasLength(actual, array.length(expected), mismatchDescription)) {
+                return false;
+            }
+            final int index = array.firstNotWithin(actual, expected, error);
+            if (index < 0) {
+                return true;
+            }
+            if (mismatchDescription != Description.NONE) {
+                describeElement(" was ", actual, index, mismatchDescription);
+                mismatchDescription.appendText(", more than ").appendValue(error)
+                    .appendText(" from ").appendValue(array.element(expected, index));
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(array.describedType() + " with each element within ")
+                .appendValue(error).appendText(" of ");
+            appendElements(description, array, expected);
+        }
+    }
+
+    private static class IsArrayInAscendingOrder<A> extends PrimitiveArrayMatcher<A> {
+        public IsArrayInAscendingOrder(PrimitiveArray<A> array) {
+            super(array);
+        }
+
+        @Override
+        protected boolean matchesSafely(A actual, Description mismatchDescription) {
+            final int index = array.firstDescent(actual);
+            if (index < 0) {
+                return true;
+            }
+            if (mismatchDescription != Description.NONE) {
+                describeElement(" ", actual, index, mismatchDescription);
+                mismatchDescription.appendText(" was less than ");
+                describeElement(" ", actual, index - 1, mismatchDescription);
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(array.describedType() + " in ascending order");
+        }
+    }
+
+    /**
+     * Compares the examined array, sorted, with the expected one sorted once up front. An
+     * examined array that is equal to the expected one as given, or already in order, is
+     * compared without being copied.
+     */
+    private static class IsArrayEqualInAnyOrder<A> extends PrimitiveArrayMatcher<A> {
+        private final A expected;
+        private final A sortedExpected;
+
+        public IsArrayEqualInAnyOrder(PrimitiveArray<A> array, A expected) {
+            super(array);
+            this.expected = expected;
+            this.sortedExpected = array.sortedCopy(expected);
+        }
+
+        @Override
+        protected boolean matchesSafely(A actual, Description mismatchDescription) {
+            if (!hasLength(actual, array.length(expected), mismatchDescription)) {
+                return false;
+            }
+            if (array.equal(actual, expected)) {
+                return true;
+            }
+            final A sortedActual = array.firstDescent(actual) < 0 ? actual : array.sortedCopy(actual);
+            if (array.equal(sortedActual, sortedExpected)) {
+                return true;
+            }
+            if (mismatchDescription != Description.NONE) {
+                // Where the sorted arrays first differ, the smaller element is one too many on its side.
+                final int index = array.firstDifference(sortedActual, sortedExpected);
+                if (array.sortsBefore(sortedActual, sortedExpected, index)) {
+                    mismatchDescription.appendText("had an unexpected ").appendValue(array.element(sortedActual, index));
+                } else {
+                    mismatchDescription.appendText("was missing ").appendValue(array.element(sortedExpected, index));
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText(array.describedType() + " with elements ");
+            appendElements(description, array, expected);
+            description.appendText(" in any order");
+        }
+    }
+}
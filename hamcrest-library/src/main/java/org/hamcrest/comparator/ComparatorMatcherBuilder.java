@@ -3,12 +3,24 @@ package org.hamcrest.comparator;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
+import org.hamcrest.internal.Comparison;
 
 import java.util.Comparator;
 
 import static java.lang.Integer.signum;
 
 public final class ComparatorMatcherBuilder<T> {
+    /**
+     * Shared by all natural ordering builders, so that comparisons of the same values can be
+     * recognised as such when optimizing a conjunction of them.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final Comparator NATURAL_ORDERING = new Comparator<Comparable<Object>>() {
+        @Override
+        public int compare(Comparable<Object> o1, Comparable<Object> o2) {
+            return o1.compareTo(o2);
+        }
+    };
 
     private final Comparator<T> comparator;
     private final boolean includeComparatorInDescription;
@@ -18,13 +30,9 @@ public final class ComparatorMatcherBuilder<T> {
      * For example:
      * <pre>assertThat(1, ComparatorMatcherBuilder.&lt;Integer&gt;usingNaturalOrdering().lessThanOrEqualTo(1))</pre>
      */
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> ComparatorMatcherBuilder<T> usingNaturalOrdering() {
-        return new ComparatorMatcherBuilder<T>(new Comparator<T>() {
-            @Override
-            public int compare(T o1, T o2) {
-                return o1.compareTo(o2);
-            }
-        }, false);
+        return new ComparatorMatcherBuilder<T>(NATURAL_ORDERING, false);
     }
 
     /**
@@ -45,7 +53,7 @@ public final class ComparatorMatcherBuilder<T> {
         this.includeComparatorInDescription = includeComparatorInDescription;
     }
 
-    private static final class ComparatorMatcher<T> extends TypeSafeMatcher<T> {
+    private static final class ComparatorMatcher<T> extends TypeSafeMatcher<T> implements Comparison<T> {
         private static final int LESS_THAN = -1;
         private static final int GREATER_THAN = 1;
         private static final int EQUAL = 0;
@@ -70,6 +78,26 @@ public final class ComparatorMatcherBuilder<T> {
             this.includeComparatorInDescription = includeComparatorInDescription;
         }
 
+        @Override
+        public Comparator<T> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public T expected() {
+            return expected;
+        }
+
+        @Override
+        public int minCompare() {
+            return minCompare;
+        }
+
+        @Override
+        public int maxCompare() {
+            return maxCompare;
+        }
+
         @Override
         public boolean matchesSafely(T actual) {
             try {
@@ -0,0 +1,123 @@
+package org.hamcrest.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Reads the content of files in chunks of at most {@link #CHUNK} bytes, into one direct buffer
+ * per comparison or digest that is reused for every chunk, so that a file of any size is read in
+ * constant heap. The files are only read, never mapped, so nothing keeps them open or locked
+ * once the channels are closed.
+ */
+final class FileContent {
+    static final int CHUNK = 64 * 1024;
+
+    private FileContent() { }
+
+    /**
+     * @return the offset of the first byte that differs between the first <code>size</code> bytes
+     *     of the channels, or -1 if there is none
+     * @throws EOFException if either channel has fewer than <code>size</code> bytes
+     */
+    static long firstDifference(FileChannel actual, FileChannel expected, long size) throws IOException {
+        final int chunk = (int) Math.min(CHUNK, size);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(2 * chunk);
+        buffer.limit(chunk);
+        final ByteBuffer actualChunk = buffer.slice();
+        buffer.limit(2 * chunk).position(chunk);
+        final ByteBuffer expectedChunk = buffer.slice();
+        for (long position = 0; position < size; position += chunk) {
+            final int length = (int) Math.min(chunk, size - position);
+            read(actual, position, actualChunk, length);
+            read(expected, position, expectedChunk, length);
+            if (!actualChunk.equals(expectedChunk)) {
+                return position + firstDifference(actualChunk, expectedChunk);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the offset, from <code>offset</code>, of the first byte of the channel that differs
+     *     from <code>expected</code>, or -1 if there is none
+     * @throws EOFException if the channel has too few bytes
+     */
+    static long firstDifference(FileChannel actual, long offset, byte[] expected) throws IOException {
+        final ByteBuffer actualChunk = ByteBuffer.allocateDirect(Math.min(CHUNK, expected.length));
+        for (int position = 0; position < expected.length; position += actualChunk.capacity()) {
+            final int length = Math.min(actualChunk.capacity(), expected.length - position);
+            read(actual, offset + position, actualChunk, length);
+            final ByteBuffer expectedChunk = ByteBuffer.wrap(expected, position, length).slice();
+            if (!actualChunk.equals(expectedChunk)) {
+                return position + firstDifference(actualChunk, expectedChunk);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Updates <code>digest</code> with the first <code>size</code> bytes of the channel.
+     *
+     * @throws EOFException if the channel has fewer than <code>size</code> bytes
+     */
+    static void digest(FileChannel channel, long size, MessageDigest digest) throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocateDirect((int) Math.min(CHUNK, size));
+        for (long position = 0; position < size; position += chunk.capacity()) {
+            read(channel, position, chunk, (int) Math.min(chunk.capacity(), size - position));
+            digest.update(chunk);
+        }
+    }
+
+    static String hex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException if <code>hex</code> is not an even number of hexadecimal digits
+     */
+    static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Not a hexadecimal digest: " + hex);
+        }
+        final byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int high = Character.digit(hex.charAt(2 * i), 16);
+            final int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Not a hexadecimal digest: " + hex);
+            }
+            bytes[i] = (byte) (high << 4 | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * Fills <code>buffer</code>, from its start, with the <code>length</code> bytes of the
+     * channel at <code>position</code>, and flips it for reading.
+     */
+    private static void read(FileChannel channel, long position, ByteBuffer buffer, int length) throws IOException {
+        buffer.clear();
+        buffer.limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Expected " + length + " bytes at " + position);
+            }
+        }
+        buffer.flip();
+    }
+
+    private static int firstDifference(ByteBuffer actual, ByteBuffer expected) {
+        for (int i = 0; ; i++) {
+            if (actual.get(actual.position() + i) != expected.get(expected.position() + i)) {
+                return i;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
+
+/**
+ * The conjunction of matchers of paths, as {@link org.hamcrest.core.AllOf}, but reading the
+ * attributes of the path at most once for all the {@link PathAttributeMatcher}s among them.
+ * The attributes are read before the first matcher that needs them, and only if one does.
+ */
+final class PathAllOf extends TypeSafeDiagnosingMatcher<Path> {
+    private final List<Matcher<? super Path>> matchers;
+    private final boolean posix;
+
+    PathAllOf(Iterable<? extends Matcher<? super Path>> matchers) {
+        super(Path.class);
+        final List<Matcher<? super Path>> copy = new ArrayList<>();
+        boolean posix = false;
+        for (Matcher<? super Path> matcher : matchers) {
+            copy.add(matcher);
+            if (matcher instanceof PathAttributeMatcher) {
+                posix |= ((PathAttributeMatcher) matcher).needsPosixAttributes();
+            }
+        }
+        this.matchers = copy;
+        this.posix = posix;
+    }
+
+    @Override
+    protected boolean matchesSafely(Path path, Description mismatch) {
+        PathAttributes attributes = null;
+        // Indexed loop, so that matching does not allocate an iterator.
+        for (int i = 0; i < matchers.size(); i++) {
+            final Matcher<? super Path> matcher = matchers.get(i);
+            final Description matcherMismatch = prefixed(mismatch, matcher, " ");
+            final boolean matches;
+            if (matcher instanceof PathAttributeMatcher) {
+                if (attributes == null) {
+                    attributes = PathAttributes.read(path, posix);
+                }
+                matches = ((PathAttributeMatcher) matcher).matches(path, attributes, matcherMismatch);
+            } else {
+                matches = matchesWithDiagnosis(matcher, path, matcherMismatch);
+            }
+            if (!matches) {
+                flush(matcherMismatch);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendList("(", " and ", ")", matchers);
+    }
+}
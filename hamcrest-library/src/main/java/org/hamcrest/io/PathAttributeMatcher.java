@@ -0,0 +1,34 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+import java.nio.file.Path;
+
+/**
+ * A matcher of paths that checks their attributes. On its own it reads the attributes of each
+ * path it is given; in {@link PathMatchers#aPath} it is given the attributes already read.
+ */
+abstract class PathAttributeMatcher extends TypeSafeDiagnosingMatcher<Path> {
+    private final boolean posix;
+
+    /**
+     * @param posix
+     *     whether the check needs the POSIX attributes
+     */
+    PathAttributeMatcher(boolean posix) {
+        super(Path.class);
+        this.posix = posix;
+    }
+
+    boolean needsPosixAttributes() {
+        return posix;
+    }
+
+    @Override
+    protected final boolean matchesSafely(Path path, Description mismatch) {
+        return matches(path, PathAttributes.read(path, posix), mismatch);
+    }
+
+    abstract boolean matches(Path path, PathAttributes attributes, Description mismatch);
+}
@@ -0,0 +1,76 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributes;
+
+/**
+ * The attributes of a path, read in one call to {@link Files#readAttributes(Path, Class, java.nio.file.LinkOption...)}
+ * so that several checks of the same path need only one <code>stat</code>. Symbolic links are followed,
+ * as {@link java.io.File} does.
+ */
+final class PathAttributes {
+    private final BasicFileAttributes attributes;
+    private final IOException failure;
+
+    private PathAttributes(BasicFileAttributes attributes, IOException failure) {
+        this.attributes = attributes;
+        this.failure = failure;
+    }
+
+    /**
+     * @param posix
+     *     whether to read the POSIX attributes, if the file system has them, rather than only the basic ones
+     */
+    static PathAttributes read(Path path, boolean posix) {
+        try {
+            return new PathAttributes(posix ? readPosix(path) : Files.readAttributes(path, BasicFileAttributes.class), null);
+        } catch (NoSuchFileException e) {
+            return new PathAttributes(null, null);
+        } catch (IOException e) {
+            return new PathAttributes(null, e);
+        }
+    }
+
+    private static BasicFileAttributes readPosix(Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, PosixFileAttributes.class);
+        } catch (UnsupportedOperationException e) {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        }
+    }
+
+    boolean exists() {
+        return attributes != null;
+    }
+
+    /**
+     * @return the attributes, or null if the path does not exist or could not be read
+     */
+    BasicFileAttributes basic() {
+        return attributes;
+    }
+
+    /**
+     * @return the POSIX attributes, or null if they were not read or the file system does not have them
+     */
+    PosixFileAttributes posix() {
+        return attributes instanceof PosixFileAttributes ? (PosixFileAttributes) attributes : null;
+    }
+
+    /**
+     * Describes why there are no attributes: the path does not exist, or could not be read.
+     */
+    void describeMissing(Description mismatch) {
+        if (failure == null) {
+            mismatch.appendText("does not exist");
+        } else {
+            mismatch.appendText("could not be read: ").appendText(String.valueOf(failure));
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package org.hamcrest.io;
+
+import org.hamcrest.Description;
+import org.hamcrest.FeatureMatcher;
+import org.hamcrest.Matcher;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Set;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
+
+/**
+ * The {@link FileMatchers} for {@link Path}s, built on {@link Files#readAttributes(Path, Class, java.nio.file.LinkOption...)}:
+ * each matcher reads all the attributes it needs in one call. Combined with {@link #aPath}, they
+ * share one read of the attributes for each path matched, so that
+ * <code>aPath(anExistingFile(), aReadableFile(), aFileWithSize(10))</code> costs one <code>stat</code>,
+ * and one <code>access</code> for the readability, where the {@link java.io.File} matchers make three calls.
+ */
+public final class PathMatchers {
+
+    public static Matcher<Path> anExistingDirectory() {
+        return pathChecker(IS_DIRECTORY, "an existing directory", "is not a directory");
+    }
+
+    public static Matcher<Path> anExistingFileOrDirectory() {
+        return pathChecker(EXISTS, "an existing file or directory", "does not exist");
+    }
+
+    public static Matcher<Path> anExistingFile() {
+        return pathChecker(IS_FILE, "an existing File", "is not a file");
+    }
+
+    /**
+     * Whether the file can be read is asked of the operating system, after the attributes, since
+     * it depends on more than the permissions, such as who the user is and any access control lists.
+     */
+    public static Matcher<Path> aReadableFile() {
+        return pathChecker(CAN_READ, "a readable File", "cannot be read");
+    }
+
+    /**
+     * Whether the file can be written is asked of the operating system, after the attributes, since
+     * it depends on more than the permissions, such as who the user is and any access control lists.
+     */
+    public static Matcher<Path> aWritableFile() {
+        return pathChecker(CAN_WRITE, "a writable File", "cannot be written to");
+    }
+
+    public static Matcher<Path> aFileWithSize(long size) {
+        return aFileWithSize(equalTo(size));
+    }
+
+    public static Matcher<Path> aFileWithSize(final Matcher<Long> expected) {
+        return new PathAttributeMatcher(false) {
+            @Override
+            boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+                if (!attributes.exists()) {
+                    attributes.describeMissing(mismatch);
+                    return false;
+                }
+                final Description sizeMismatch = prefixed(mismatch, "size", " ");
+                if (!matchesWithDiagnosis(expected, attributes.basic().size(), sizeMismatch)) {
+                    flush(sizeMismatch);
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("A file with size ").appendDescriptionOf(expected);
+            }
+        };
+    }
+
+    /**
+     * @param permissions
+     *     the permissions in the form of <code>ls -l</code>, such as <code>"rw-r--r--"</code>
+     */
+    public static Matcher<Path> aFileWithPermissions(String permissions) {
+        return aFileWithPermissions(PosixFilePermissions.fromString(permissions));
+    }
+
+    public static Matcher<Path> aFileWithPermissions(final Set<PosixFilePermission> permissions) {
+        return new PathAttributeMatcher(true) {
+            @Override
+            boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+                if (!attributes.exists()) {
+                    attributes.describeMissing(mismatch);
+                    return false;
+                }
+                if (attributes.posix() == null) {
+                    mismatch.appendText("has no POSIX permissions");
+                    return false;
+                }
+                final Set<PosixFilePermission> actual = attributes.posix().permissions();
+                if (!actual.equals(permissions)) {
+                    mismatch.appendText("permissions were ").appendText(PosixFilePermissions.toString(actual));
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("A file with permissions ").appendText(PosixFilePermissions.toString(permissions));
+            }
+        };
+    }
+
+    public static Matcher<Path> aFileNamed(final Matcher<String> expected) {
+        return new FeatureMatcher<Path, String>(expected, "A file with name", "name") {
+            @Override protected String featureValueOf(Path actual) {
+                final Path name = actual.getFileName();
+                return name == null ? "" : name.toString();
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of paths that matches when the file has the same content as the
+     * <code>expected</code> file. Files of different sizes are rejected before any content is read;
+     * otherwise the files are compared in chunks, read into one reused direct buffer, so the heap
+     * used does not depend on their size.
+     */
+    public static Matcher<Path> aFileWithSameContentAs(final Path expected) {
+        return new PathAttributeMatcher(false) {
+            @Override
+            boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+                if (!isFile(attributes, mismatch)) {
+                    return false;
+                }
+                try (FileChannel expectedContent = FileChannel.open(expected, READ)) {
+                    final long size = expectedContent.size();
+                    if (attributes.basic().size() != size) {
+                        mismatch.appendText("size was ").appendValue(attributes.basic().size())
+                                .appendText(", not ").appendValue(size);
+                        return false;
+                    }
+                    try (FileChannel content = FileChannel.open(path, READ)) {
+                        return hasNoDifference(FileContent.firstDifference(content, expectedContent, size), mismatch);
+                    }
+                } catch (IOException e) {
+                    mismatch.appendText("could not be compared: ").appendText(String.valueOf(e));
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("A file with the same content as ").appendValue(expected);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of paths that matches when the digest of the file, by the specified
+     * <code>algorithm</code>, is <code>hex</code>. The file is read in chunks, into one
+     * reused direct buffer, so the heap used does not depend on its size.
+     * For example:
+     * <pre>assertThat(artifact, aFileWithDigest("SHA-256", "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08"))</pre>
+     *
+     * @param algorithm
+     *     the name of a {@link MessageDigest} algorithm
+     * @param hex
+     *     the expected digest, in hexadecimal, of either case
+     * @throws IllegalArgumentException if there is no such algorithm, or <code>hex</code> is not hexadecimal
+     */
+    public static Matcher<Path> aFileWithDigest(final String algorithm, String hex) {
+        final byte[] expected = FileContent.fromHex(hex);
+        final MessageDigest prototype = messageDigest(algorithm);
+        return new PathAttributeMatcher(false) {
+            @Override
+            boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+                if (!isFile(attributes, mismatch)) {
+                    return false;
+                }
+                final MessageDigest digest = copyOf(prototype);
+                try (FileChannel content = FileChannel.open(path, READ)) {
+                    FileContent.digest(content, content.size(), digest);
+                } catch (IOException e) {
+                    mismatch.appendText("could not be read: ").appendText(String.valueOf(e));
+                    return false;
+                }
+                final byte[] actual = digest.digest();
+                if (!MessageDigest.isEqual(actual, expected)) {
+                    mismatch.appendText(algorithm).appendText(" digest was ").appendText(FileContent.hex(actual));
+                    return false;
+                }
+                return true;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("A file with ").appendText(algorithm)
+                           .appendText(" digest ").appendText(FileContent.hex(expected));
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of paths that matches when the file has the specified <code>bytes</code>
+     * starting at <code>offset</code>. A file too short to hold them is rejected before any
+     * content is read; otherwise only the bytes at that offset are read.
+     *
+     * @throws IllegalArgumentException if <code>offset</code> is negative
+     */
+    public static Matcher<Path> aFileWithBytesAt(final long offset, byte[] bytes) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Negative offset: " + offset);
+        }
+        final byte[] expected = bytes.clone();
+        return new PathAttributeMatcher(false) {
+            @Override
+            boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+                if (!isFile(attributes, mismatch)) {
+                    return false;
+                }
+                if (attributes.basic().size() < offset + expected.length) {
+                    mismatch.appendText("size was ").appendValue(attributes.basic().size());
+                    return false;
+                }
+                try (FileChannel content = FileChannel.open(path, READ)) {
+                    final long difference = FileContent.firstDifference(content, offset, expected);
+                    return hasNoDifference(difference < 0 ? difference : offset + difference, mismatch);
+                } catch (IOException e) {
+                    mismatch.appendText("could not be read: ").appendText(String.valueOf(e));
+                    return false;
+                }
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("A file with bytes ").appendText(FileContent.hex(expected))
+                           .appendText(" at ").appendValue(offset);
+            }
+        };
+    }
+
+    /**
+     * Creates a matcher of paths that matches if the path matches <b>ALL</b> of the specified
+     * matchers, reading the attributes of the path once for all the matchers of this class.
+     * For example:
+     * <pre>assertThat(path, aPath(anExistingFile(), aReadableFile(), aFileWithSize(10)))</pre>
+     */
+    @SafeVarargs
+    public static Matcher<Path> aPath(Matcher<? super Path>... matchers) {
+        return aPath(Arrays.asList(matchers));
+    }
+
+    /**
+     * Creates a matcher of paths that matches if the path matches <b>ALL</b> of the specified
+     * matchers, reading the attributes of the path once for all the matchers of this class.
+     */
+    public static Matcher<Path> aPath(Iterable<? extends Matcher<? super Path>> matchers) {
+        return new PathAllOf(matchers);
+    }
+
+    private interface PathStatus {
+        boolean check(Path actual, PathAttributes attributes);
+    }
+
+    private static final PathStatus CAN_WRITE = new PathStatus() {
+        @Override public boolean check(Path actual, PathAttributes attributes) { return attributes.exists() && Files.isWritable(actual); }
+    };
+    private static final PathStatus CAN_READ = new PathStatus() {
+        @Override public boolean check(Path actual, PathAttributes attributes) { return attributes.exists() && Files.isReadable(actual); }
+    };
+
+    private static final PathStatus IS_FILE = new PathStatus() {
+        @Override public boolean check(Path actual, PathAttributes attributes) { return attributes.exists() && attributes.basic().isRegularFile(); }
+    };
+
+    private static final PathStatus IS_DIRECTORY = new PathStatus() {
+        @Override public boolean check(Path actual, PathAttributes attributes) { return attributes.exists() && attributes.basic().isDirectory(); }
+    };
+
+    private static final PathStatus EXISTS = new PathStatus() {
+        @Override public boolean check(Path actual, PathAttributes attributes) { return attributes.exists(); }
+    };
+
+    private static boolean isFile(PathAttributes attributes, Description mismatch) {
+        if (!attributes.exists()) {
+            attributes.describeMissing(mismatch);
+            return false;
+        }
+        if (!attributes.basic().isRegularFile()) {
+            mismatch.appendText("is not a file");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean hasNoDifference(long firstDifference, Description mismatch) {
+        if (firstDifference >= 0) {
+            mismatch.appendText("differs at byte ").appendValue(firstDifference);
+            return false;
+        }
+        return true;
+    }
+
+    private static MessageDigest messageDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("Unknown digest algorithm: " + algorithm, e);
+        }
+    }
+
+    /**
+     * A MessageDigest may only be used by one thread at a time, so each match uses its own.
+     */
+    private static MessageDigest copyOf(MessageDigest prototype) {
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return messageDigest(prototype.getAlgorithm());
+        }
+    }
+
+    private static Matcher<Path> pathChecker(final PathStatus pathStatus, final String successDescription, final String failureDescription) {
+        return new PathAttributeMatcher(false) {
+            @Override
+            boolean matches(Path actual, PathAttributes attributes, Description mismatchDescription) {
+                final boolean result = pathStatus.check(actual, attributes);
+                if (!result) {
+                    mismatchDescription.appendText(failureDescription);
+                }
+                return result;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText(successDescription);
+            }
+        };
+    }
+}
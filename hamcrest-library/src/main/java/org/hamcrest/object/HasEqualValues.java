@@ -5,16 +5,31 @@ import org.hamcrest.DiagnosingMatcher;
 import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.internal.ValueReader;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 
 import static java.lang.String.format;
 
+/**
+ * Compares objects by their public fields. The fields of each class are found once, and read
+ * through method handles, and primitive values are compared without being boxed, so that
+ * matching does no reflection and allocates nothing.
+ */
 public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
+    private static final ClassValue<PublicFields> PUBLIC_FIELDS = new ClassValue<PublicFields>() {
+        @Override
+        protected PublicFields computeValue(Class<?> type) {
+            return new PublicFields(type.getFields());
+        }
+    };
+
     private final T expectedObject;
-    private final List<FieldMatcher> fieldMatchers;
+    private final FieldMatcher[] fieldMatchers;
 
     public HasEqualValues(T expectedObject) {
         super(expectedObject.getClass());
@@ -36,21 +51,28 @@ public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
     public void describeTo(Description description) {
         description.appendText(expectedObject.getClass().getSimpleName())
                 .appendText(" has values ")
-                .appendList("[", ", ", "]", fieldMatchers);
+                .appendList("[", ", ", "]", Arrays.asList(fieldMatchers));
     }
 
     private static class FieldMatcher extends DiagnosingMatcher<Object> {
         private final Field field;
+        private final ValueReader reader;
+        private final Object expectedValue;
         private final Matcher<Object> matcher;
 
-        public FieldMatcher(Field field, Object expectedObject) {
+        public FieldMatcher(Field field, ValueReader reader, Object expectedObject) {
             this.field = field;
-            this.matcher = IsEqual.equalTo(uncheckedGet(field, expectedObject));
+            this.reader = reader;
+            this.expectedValue = uncheckedGet(field, reader, expectedObject);
+            this.matcher = IsEqual.equalTo(expectedValue);
         }
         @Override
         protected boolean matches(Object item, Description mismatch) {
-            final Object actual = uncheckedGet(field, item);
-            if (!matcher.matches(actual)) {
+            if (!hasExpectedValue(item)) {
+                if (mismatch == Description.NONE) {
+                    return false;
+                }
+                final Object actual = uncheckedGet(field, reader, item);
                 mismatch.appendText("'").appendText(field.getName()).appendText("' ");
                 matcher.describeMismatch(actual, mismatch);
                 return false;
@@ -64,20 +86,66 @@ public class HasEqualValues<T> extends TypeSafeDiagnosingMatcher<T> {
                     .appendText(": ")
                     .appendDescriptionOf(matcher);
         }
+
+        private boolean hasExpectedValue(Object item) {
+            if (reader == null) {
+                return matcher.matches(uncheckedGet(field, null, item));
+            }
+            try {
+                return reader.hasValue(item, expectedValue, matcher);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * The public fields of a class, and a reader for each, or null for a field that cannot be
+     * read through a method handle and is read reflectively instead.
+     */
+    private static final class PublicFields {
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+        private final Field[] fields;
+        private final ValueReader[] readers;
+
+        PublicFields(Field[] fields) {
+            this.fields = fields;
+            this.readers = new ValueReader[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                readers[i] = readerOf(fields[i]);
+            }
+        }
+
+        private static ValueReader readerOf(Field field) {
+            try {
+                final MethodHandle getter = LOOKUP.unreflectGetter(field);
+                return ValueReader.of(Modifier.isStatic(field.getModifiers())
+                        ? MethodHandles.dropArguments(getter, 0, Object.class)
+                        : getter);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
     }
 
-    private static List<FieldMatcher> fieldMatchers(Object expectedObject) {
-        final List<FieldMatcher> result = new ArrayList<>();
-        for (Field field : expectedObject.getClass().getFields()) {
-            result.add(new FieldMatcher(field, expectedObject));
+    private static FieldMatcher[] fieldMatchers(Object expectedObject) {
+        final PublicFields publicFields = PUBLIC_FIELDS.get(expectedObject.getClass());
+        final FieldMatcher[] result = new FieldMatcher[publicFields.fields.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new FieldMatcher(publicFields.fields[i], publicFields.readers[i], expectedObject);
         }
         return result;
     }
 
-    private static Object uncheckedGet(Field field, Object object) {
+    private static Object uncheckedGet(Field field, ValueReader reader, Object object) {
         try {
-            return field.get(object);
-        } catch (Exception e) {
+            return reader == null ? field.get(object) : reader.read(object);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new AssertionError(format("IllegalAccess, reading field '%s' from %s", field.getName(), object));
         }
     }
@@ -0,0 +1,208 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.core.IsAnything;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Applies a Matcher to the value at an XPath in an XML document read from an {@link InputStream},
+ * a {@link Reader} or a {@link Path}, without parsing the document into a DOM.
+ * <p>
+ * The document is read as a stream of StAX events, through the cursor API of
+ * {@link XMLStreamReader}, which allocates no event objects, and only as far as the first node
+ * the XPath selects: the memory used depends on the depth of the document, not its size. Only the
+ * XPaths that can be answered in one pass are supported: child and descendant steps, with names,
+ * <code>*</code>, attribute predicates such as <code>[@id]</code> or <code>[@id='a']</code> and
+ * position predicates such as <code>[2]</code>, optionally ending in <code>@attribute</code> or
+ * <code>text()</code>. Other XPaths are rejected when the matcher is made.
+ * </p>
+ * <p>
+ * Unlike {@link HasXPath}, an XPath that selects nothing never matches, even if the value matcher
+ * would match an empty string. A stream can only be read once, so the mismatch is described from
+ * the same pass that decided the match; streams are read but not closed, files are opened and closed.
+ * </p>
+ */
+public class HasStreamedXPath extends TypeSafeDiagnosingMatcher<Object> {
+    private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
+    private static final XMLInputFactory INPUT_FACTORY = inputFactory();
+    private final StreamingXPath xpath;
+    private final String xpathString;
+    private final NamespaceContext namespaceContext;
+    private final Matcher<String> valueMatcher;
+
+    /**
+     * @param xPathExpression XPath expression, in the streamable subset.
+     * @param namespaceContext Resolves XML namespace prefixes in the XPath expression.
+     *                         May be null if the expression has no prefixes.
+     * @param valueMatcher Matcher to use at given XPath.
+     *                     May be null to specify that the XPath must exist but the value is irrelevant.
+     */
+    public HasStreamedXPath(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        super(Object.class);
+        this.xpath = StreamingXPath.compile(xPathExpression, namespaceContext);
+        this.xpathString = xPathExpression;
+        this.namespaceContext = namespaceContext;
+        this.valueMatcher = valueMatcher;
+    }
+
+    @Override
+    protected boolean matchesSafely(Object item, Description mismatch) {
+        if (item instanceof Path) {
+            try (InputStream in = Files.newInputStream((Path) item)) {
+                return matchesDocument(in, mismatch);
+            } catch (IOException e) {
+                mismatch.appendText(String.valueOf(e));
+                return false;
+            }
+        }
+        if (item instanceof InputStream || item instanceof Reader) {
+            return matchesDocument(item, mismatch);
+        }
+        mismatch.appendText("was ").appendText(item.getClass().getSimpleName()).appendText(" ").appendValue(item);
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(xpathString);
+        if (valueMatcher != null) {
+            description.appendText(" ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    StreamingXPath streamingXPath() {
+        return xpath;
+    }
+
+    String xpath() {
+        return xpathString;
+    }
+
+    NamespaceContext namespaceContext() {
+        return namespaceContext;
+    }
+
+    /**
+     * @return the matcher of the value selected, or null if any node selected will do
+     */
+    Matcher<String> valueMatcher() {
+        return valueMatcher == WITH_ANY_CONTENT ? null : valueMatcher;
+    }
+
+    private boolean matchesDocument(Object source, Description mismatch) {
+        final String value;
+        try {
+            final XMLStreamReader reader = newReader(source);
+            try {
+                value = xpath.evaluate(reader, valueMatcher() != null);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        }
+        if (value == null) {
+            mismatch.appendText("xpath returned no results.");
+            return false;
+        }
+        return valueMatcher == null || BaseMatcher.matchesWithDiagnosis(valueMatcher, value, mismatch);
+    }
+
+    /**
+     * An XMLInputFactory may only be used by one thread at a time; the readers it makes are not shared.
+     */
+    static XMLStreamReader newReader(Object source) throws XMLStreamException {
+        synchronized (INPUT_FACTORY) {
+            return source instanceof Reader
+                ? INPUT_FACTORY.createXMLStreamReader((Reader) source)
+                : INPUT_FACTORY.createXMLStreamReader((InputStream) source);
+        }
+    }
+
+    private static XMLInputFactory inputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return factory;
+    }
+
+
+    /**
+     * Creates a matcher of XML documents, read from an {@link InputStream}, a {@link Reader} or a
+     * {@link Path}, that matches when the document has a value at the specified <code>xPath</code>
+     * that satisfies the specified <code>valueMatcher</code>. The document is streamed, not parsed
+     * into a DOM, and read only as far as needed.
+     * For example:
+     * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", equalTo("Cheddar")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset described by {@link HasStreamedXPath}
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    public static Matcher<Object> hasStreamedXPath(String xPath, Matcher<String> valueMatcher) {
+        return hasStreamedXPath(xPath, HasXPath.NO_NAMESPACE_CONTEXT, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of XML documents, read from an {@link InputStream}, a {@link Reader} or a
+     * {@link Path}, that matches when the document has a value at the specified <code>xPath</code>,
+     * within the specified <code>namespaceContext</code>, that satisfies the specified <code>valueMatcher</code>.
+     * For example:
+     * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", myNs, equalTo("Cheddar")))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset described by {@link HasStreamedXPath}
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     * @param valueMatcher
+     *     matcher for the value at the specified xpath
+     */
+    public static Matcher<Object> hasStreamedXPath(String xPath, NamespaceContext namespaceContext, Matcher<String> valueMatcher) {
+        return new HasStreamedXPath(xPath, namespaceContext, valueMatcher);
+    }
+
+    /**
+     * Creates a matcher of XML documents, read from an {@link InputStream}, a {@link Reader} or a
+     * {@link Path}, that matches when the document contains a node at the specified <code>xPath</code>,
+     * with any content. The document is read only up to that node.
+     * For example:
+     * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese"))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset described by {@link HasStreamedXPath}
+     */
+    public static Matcher<Object> hasStreamedXPath(String xPath) {
+        return hasStreamedXPath(xPath, HasXPath.NO_NAMESPACE_CONTEXT);
+    }
+
+    /**
+     * Creates a matcher of XML documents, read from an {@link InputStream}, a {@link Reader} or a
+     * {@link Path}, that matches when the document contains a node at the specified <code>xPath</code>
+     * within the specified namespace context, with any content.
+     * For example:
+     * <pre>assertThat(Paths.get("large.xml"), hasStreamedXPath("/root/something[2]/cheese", myNs))</pre>
+     *
+     * @param xPath
+     *     the target xpath, in the streamable subset described by {@link HasStreamedXPath}
+     * @param namespaceContext
+     *     the namespace for matching nodes
+     */
+    public static Matcher<Object> hasStreamedXPath(String xPath, NamespaceContext namespaceContext) {
+        return new HasStreamedXPath(xPath, namespaceContext, WITH_ANY_CONTENT);
+    }
+}
@@ -10,6 +10,8 @@ import org.w3c.dom.Node;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.xpath.*;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import static javax.xml.xpath.XPathConstants.STRING;
 import static org.hamcrest.Condition.matched;
@@ -17,6 +19,13 @@ import static org.hamcrest.Condition.notMatched;
 
 /**
  * Applies a Matcher to a given XML Node in an existing XML Node tree, specified by an XPath expression.
+ * <p>
+ * A compiled {@link XPathExpression} may only be evaluated by one thread at a time, so each matcher
+ * keeps a pool of compiled copies of its expression: a thread takes one, evaluates it, and gives
+ * it back, compiling another only if all of them are in use. A matcher can therefore be shared
+ * between threads, and compiles at most as many copies as threads evaluate it at once.
+ * The {@link XPathFactory}, whose lookup is slow, is made once.
+ * </p>
  *
  * @author Joe Walnes
  * @author Steve Freeman
@@ -25,9 +34,11 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     public static final NamespaceContext NO_NAMESPACE_CONTEXT = null;
     private static final IsAnything<String> WITH_ANY_CONTENT = new IsAnything<String>("");
     private static final Condition.Step<Object,String> NODE_EXISTS = nodeExists();
+    private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
     private final Matcher<String> valueMatcher;
-    private final XPathExpression compiledXPath;
+    private final Queue<XPathExpression> compiledXPaths = new ConcurrentLinkedQueue<>();
     private final String xpathString;
+    private final NamespaceContext namespaceContext;
     private final QName evaluationMode;
 
     /**
@@ -50,8 +61,9 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
     }
 
     private HasXPath(String xPathExpression, NamespaceContext namespaceContext, Matcher<String> valueMatcher, QName mode) {
-        this.compiledXPath = compiledXPath(xPathExpression, namespaceContext);
+        this.compiledXPaths.add(compiledXPath(xPathExpression, namespaceContext));
         this.xpathString = xPathExpression;
+        this.namespaceContext = namespaceContext;
         this.valueMatcher = valueMatcher;
         this.evaluationMode = mode;
     }
@@ -71,11 +83,32 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         }
     }
 
+    String xpath() {
+        return xpathString;
+    }
+
+    NamespaceContext namespaceContext() {
+        return namespaceContext;
+    }
+
+    /**
+     * @return the matcher of the value selected, or null if any node selected will do
+     */
+    Matcher<String> valueMatcher() {
+        return evaluationMode == XPathConstants.NODE ? null : valueMatcher;
+    }
+
     private Condition<Object> evaluated(Node item, Description mismatch) {
+        XPathExpression compiledXPath = compiledXPaths.poll();
+        if (compiledXPath == null) {
+            compiledXPath = compiledXPath(xpathString, namespaceContext);
+        }
         try {
             return matched(compiledXPath.evaluate(item, evaluationMode), mismatch);
         } catch (XPathExpressionException e) {
             mismatch.appendText(e.getMessage());
+        } finally {
+            compiledXPaths.offer(compiledXPath);
         }
         return notMatched();
     }
@@ -95,7 +128,7 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
 
     private static XPathExpression compiledXPath(String xPathExpression, NamespaceContext namespaceContext) {
         try {
-            final XPath xPath = XPathFactory.newInstance().newXPath();
+            final XPath xPath = newXPath();
             if (namespaceContext != null) {
                 xPath.setNamespaceContext(namespaceContext);
             }
@@ -105,6 +138,15 @@ public class HasXPath extends TypeSafeDiagnosingMatcher<Node> {
         }
     }
 
+    /**
+     * An XPathFactory may only be used by one thread at a time.
+     */
+    private static XPath newXPath() {
+        synchronized (XPATH_FACTORY) {
+            return XPATH_FACTORY.newXPath();
+        }
+    }
+
 
     /**
      * Creates a matcher of {@link org.w3c.dom.Node}s that matches when the examined node has a value at the
@@ -0,0 +1,349 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.internal.PrefixedDescription.flush;
+import static org.hamcrest.internal.PrefixedDescription.prefixed;
+
+/**
+ * Checks many XPaths of one XML document, each made with {@link HasXPath#hasXPath} or
+ * {@link HasStreamedXPath#hasStreamedXPath}, in a single pass over the document, and reports
+ * every XPath that fails rather than only the first.
+ * <p>
+ * The XPaths in the streamable subset (see {@link HasStreamedXPath}) are evaluated together:
+ * each element of the document is visited once and offered to all of them, and the pass ends as
+ * soon as all of them have selected a node. Checks of the same XPath share one evaluation. Other
+ * XPaths are evaluated separately, by their own {@link HasXPath} matcher.
+ * </p>
+ * <p>
+ * A {@link Document} is walked in place. An {@link InputStream}, a {@link Reader} or a
+ * {@link Path} is streamed if all the XPaths are streamable, and otherwise parsed once. Any
+ * other {@link Node} is checked by each matcher in turn, since XPaths are then relative to it.
+ * Each matcher keeps its own meaning: an XPath of <code>hasXPath</code> with a value matcher that
+ * selects nothing has an empty value, one of <code>hasStreamedXPath</code> does not match.
+ * </p>
+ */
+public class HasXPaths extends TypeSafeDiagnosingMatcher<Object> {
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = documentBuilderFactory();
+    private final Check[] checks;
+    private final StreamingXPath[] paths;
+    private final boolean[] valuesNeeded;
+    private final boolean allStreamable;
+
+    /**
+     * @param xPathMatchers
+     *     matchers made by {@link HasXPath#hasXPath} or {@link HasStreamedXPath#hasStreamedXPath}
+     * @throws IllegalArgumentException if any of the matchers is of another kind
+     */
+    public HasXPaths(Iterable<? extends Matcher<?>> xPathMatchers) {
+        super(Object.class);
+        final List<Check> checks = new ArrayList<>();
+        final List<StreamingXPath> paths = new ArrayList<>();
+        final List<Boolean> valuesNeeded = new ArrayList<>();
+        boolean allStreamable = true;
+        for (Matcher<?> matcher : xPathMatchers) {
+            final Check check = Check.of(matcher);
+            if (check.streamable != null) {
+                check.path = pathIndex(checks, check);
+                if (check.path < 0) {
+                    check.path = paths.size();
+                    paths.add(check.streamable);
+                    valuesNeeded.add(false);
+                }
+                if (check.valueMatcher != null) {
+                    valuesNeeded.set(check.path, true);
+                }
+            } else {
+                allStreamable = false;
+            }
+            checks.add(check);
+        }
+        this.checks = checks.toArray(new Check[0]);
+        this.paths = paths.toArray(new StreamingXPath[0]);
+        this.valuesNeeded = new boolean[paths.size()];
+        for (int i = 0; i < this.valuesNeeded.length; i++) {
+            this.valuesNeeded[i] = valuesNeeded.get(i);
+        }
+        this.allStreamable = allStreamable;
+    }
+
+    @Override
+    protected boolean matchesSafely(Object item, Description mismatch) {
+        if (item instanceof Document) {
+            return matchesDocument((Document) item, mismatch);
+        }
+        if (item instanceof Node) {
+            return matchesEach(item, mismatch);
+        }
+        if (item instanceof Path) {
+            try (InputStream in = Files.newInputStream((Path) item)) {
+                return matchesSource(in, mismatch);
+            } catch (IOException e) {
+                mismatch.appendText(String.valueOf(e));
+                return false;
+            }
+        }
+        if (item instanceof InputStream || item instanceof Reader) {
+            return matchesSource(item, mismatch);
+        }
+        mismatch.appendText("was ").appendText(item.getClass().getSimpleName()).appendText(" ").appendValue(item);
+        return false;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("an XML document with ");
+        for (int i = 0; i < checks.length; i++) {
+            if (i > 0) {
+                description.appendText(" and ");
+            }
+            checks[i].describeTo(description);
+        }
+    }
+
+    private boolean matchesSource(Object source, Description mismatch) {
+        if (!allStreamable) {
+            try {
+                return matchesDocument(parse(source), mismatch);
+            } catch (IOException | SAXException e) {
+                mismatch.appendText(String.valueOf(e.getMessage()));
+                return false;
+            }
+        }
+        final StreamingXPath.Evaluation[] evaluations = newEvaluations();
+        try {
+            final XMLStreamReader reader = HasStreamedXPath.newReader(source);
+            try {
+                StreamingXPath.evaluateAll(reader, evaluations);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            mismatch.appendText(e.getMessage());
+            return false;
+        }
+        return matchesResults(evaluations, null, mismatch);
+    }
+
+    private boolean matchesDocument(Document document, Description mismatch) {
+        final StreamingXPath.Evaluation[] evaluations = newEvaluations();
+        StreamingXPath.evaluateAll(document, evaluations);
+        return matchesResults(evaluations, document, mismatch);
+    }
+
+    private boolean matchesEach(Object node, Description mismatch) {
+        boolean matches = true;
+        for (Check check : checks) {
+            final Description checkMismatch = check.mismatch(mismatch, !matches);
+            if (!BaseMatcher.matchesWithDiagnosis(check.matcher, node, checkMismatch)) {
+                if (mismatch == Description.NONE) {
+                    return false;
+                }
+                flush(checkMismatch);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * @param document
+     *     the document, for the checks that are not streamable
+     */
+    private boolean matchesResults(StreamingXPath.Evaluation[] evaluations, Document document, Description mismatch) {
+        boolean matches = true;
+        for (Check check : checks) {
+            final Description checkMismatch = check.mismatch(mismatch, !matches);
+            final boolean checkMatches = check.path < 0
+                ? BaseMatcher.matchesWithDiagnosis(check.matcher, document, checkMismatch)
+                : check.matchesValue(evaluations[check.path].result(), checkMismatch);
+            if (!checkMatches) {
+                if (mismatch == Description.NONE) {
+                    return false;
+                }
+                flush(checkMismatch);
+                matches = false;
+            }
+        }
+        return matches;
+    }
+
+    private StreamingXPath.Evaluation[] newEvaluations() {
+        final StreamingXPath.Evaluation[] evaluations = new StreamingXPath.Evaluation[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            evaluations[i] = paths[i].newEvaluation(valuesNeeded[i]);
+        }
+        return evaluations;
+    }
+
+    /**
+     * @return the index of the path already evaluated for the same XPath as <code>check</code>, or -1
+     */
+    private static int pathIndex(List<Check> checks, Check check) {
+        for (Check other : checks) {
+            if (other.path >= 0 && other.xpath.equals(check.xpath) && other.namespaceContext == check.namespaceContext) {
+                return other.path;
+            }
+        }
+        return -1;
+    }
+
+    private static Document parse(Object source) throws IOException, SAXException {
+        final DocumentBuilder documentBuilder;
+        try {
+            synchronized (DOCUMENT_BUILDER_FACTORY) {
+                documentBuilder = DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+            }
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        return source instanceof Reader
+            ? documentBuilder.parse(new InputSource((Reader) source))
+            : documentBuilder.parse((InputStream) source);
+    }
+
+    /**
+     * As {@link HasStreamedXPath} reads documents, external DTDs and entities are not loaded.
+     */
+    private static DocumentBuilderFactory documentBuilderFactory() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setXIncludeAware(false);
+        factory.setExpandEntityReferences(false);
+        try {
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+        return factory;
+    }
+
+    /**
+     * One of the XPath matchers, taken apart.
+     */
+    private static final class Check {
+        final Matcher<?> matcher;
+        final String xpath;
+        final NamespaceContext namespaceContext;
+        final Matcher<String> valueMatcher;
+        final boolean emptyIfMissing;
+        final StreamingXPath streamable;
+        int path = -1;
+
+        private Check(Matcher<?> matcher, String xpath, NamespaceContext namespaceContext,
+                      Matcher<String> valueMatcher, boolean emptyIfMissing, StreamingXPath streamable) {
+            this.matcher = matcher;
+            this.xpath = xpath;
+            this.namespaceContext = namespaceContext;
+            this.valueMatcher = valueMatcher;
+            this.emptyIfMissing = emptyIfMissing;
+            this.streamable = streamable;
+        }
+
+        static Check of(Matcher<?> matcher) {
+            if (matcher instanceof HasStreamedXPath) {
+                final HasStreamedXPath streamed = (HasStreamedXPath) matcher;
+                return new Check(matcher, streamed.xpath(), streamed.namespaceContext(),
+                                 streamed.valueMatcher(), false, streamed.streamingXPath());
+            }
+            if (matcher instanceof HasXPath) {
+                final HasXPath xpath = (HasXPath) matcher;
+                return new Check(matcher, xpath.xpath(), xpath.namespaceContext(),
+                                 xpath.valueMatcher(), xpath.valueMatcher() != null,
+                                 streamableOrNull(xpath.xpath(), xpath.namespaceContext()));
+            }
+            throw new IllegalArgumentException("Not a hasXPath or hasStreamedXPath matcher: " + matcher);
+        }
+
+        /**
+         * @return a description that introduces the mismatch of this check, once there is one
+         */
+        Description mismatch(Description mismatch, boolean afterMismatch) {
+            if (mismatch == Description.NONE) {
+                return Description.NONE;
+            }
+            return prefixed(mismatch, (afterMismatch ? "; XPath " : "XPath ") + xpath, " ");
+        }
+
+        void describeTo(Description description) {
+            description.appendText("XPath ").appendText(xpath);
+            if (valueMatcher != null) {
+                description.appendText(" ").appendDescriptionOf(valueMatcher);
+            }
+        }
+
+        boolean matchesValue(String value, Description mismatch) {
+            if (value == null && emptyIfMissing) {
+                value = "";
+            }
+            if (value == null) {
+                mismatch.appendText("xpath returned no results.");
+                return false;
+            }
+            return valueMatcher == null || BaseMatcher.matchesWithDiagnosis(valueMatcher, value, mismatch);
+        }
+
+        private static StreamingXPath streamableOrNull(String xpath, NamespaceContext namespaceContext) {
+            try {
+                return StreamingXPath.compile(xpath, namespaceContext);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+
+    /**
+     * Creates a matcher of XML documents that matches when the document satisfies all the specified
+     * XPath matchers, checked together in one pass over the document. The document may be a
+     * {@link org.w3c.dom.Node}, or be read from an {@link InputStream}, a {@link Reader} or a {@link Path}.
+     * For example:
+     * <pre>assertThat(xml, allXPaths(hasXPath("/root/name", equalTo("Cheddar")), hasStreamedXPath("//price")))</pre>
+     *
+     * @param xPathMatchers
+     *     matchers made by <code>hasXPath</code> or <code>hasStreamedXPath</code>
+     */
+    public static Matcher<Object> allXPaths(Matcher<?>... xPathMatchers) {
+        return allXPaths(Arrays.asList(xPathMatchers));
+    }
+
+    /**
+     * Creates a matcher of XML documents that matches when the document satisfies all the specified
+     * XPath matchers, checked together in one pass over the document. The document may be a
+     * {@link org.w3c.dom.Node}, or be read from an {@link InputStream}, a {@link Reader} or a {@link Path}.
+     * For example:
+     * <pre>assertThat(xml, allXPaths(Arrays.asList(hasXPath("/root/name", equalTo("Cheddar")), hasXPath("//price"))))</pre>
+     *
+     * @param xPathMatchers
+     *     matchers made by <code>hasXPath</code> or <code>hasStreamedXPath</code>
+     */
+    public static Matcher<Object> allXPaths(Iterable<? extends Matcher<?>> xPathMatchers) {
+        return new HasXPaths(xPathMatchers);
+    }
+}
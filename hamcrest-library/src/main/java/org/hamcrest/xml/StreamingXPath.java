@@ -0,0 +1,630 @@
+package org.hamcrest.xml;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static javax.xml.XMLConstants.NULL_NS_URI;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * The subset of XPath that can be evaluated on a stream of XML events, in one pass and without
+ * keeping the document: absolute or relative location paths of child (<code>/</code>) and
+ * descendant (<code>//</code>) steps, each a name or <code>*</code>, with predicates
+ * <code>[@name]</code>, <code>[@name='value']</code> and <code>[n]</code>, optionally ending in
+ * an attribute (<code>/@name</code>) or a text node (<code>/text()</code>).
+ * <p>
+ * The steps an element matches are kept as a bit set on a stack of open elements, so the memory
+ * used grows with the depth of the document rather than its size. The evaluation stops at the
+ * first node selected, in document order, once its string value is known.
+ * </p>
+ * <p>
+ * Each {@link Evaluation} is fed the events of one document, so several paths can be evaluated
+ * in the same pass over a {@link XMLStreamReader} or a DOM {@link Document}, which then ends
+ * as soon as all of them are decided.
+ * </p>
+ */
+final class StreamingXPath {
+    /** Bit 0 stands for the document node, and bit <code>i + 1</code> for step <code>i</code>. */
+    private static final int MAX_STEPS = Long.SIZE - 2;
+
+    private enum Target { ELEMENT, ATTRIBUTE, TEXT }
+
+    private final Step[] steps;
+    private final Target target;
+    private final boolean targetIsDescendant;
+    private final Name targetAttribute;
+    private final int positions;
+
+    private StreamingXPath(Step[] steps, Target target, boolean targetIsDescendant, Name targetAttribute) {
+        this.steps = steps;
+        this.target = target;
+        this.targetIsDescendant = targetIsDescendant;
+        this.targetAttribute = targetAttribute;
+        this.positions = positionsIn(steps);
+    }
+
+    /**
+     * @param namespaceContext
+     *     resolves the prefixes in <code>expression</code>, or null if it has none
+     * @throws IllegalArgumentException if <code>expression</code> is not in the streamable subset
+     */
+    static StreamingXPath compile(String expression, NamespaceContext namespaceContext) {
+        return new Parser(expression, namespaceContext).parse();
+    }
+
+    /**
+     * Reads <code>reader</code> up to the end of the first node that the path selects.
+     *
+     * @param valueNeeded
+     *     whether the string value of the node is needed, or only whether there is one
+     * @return the string value of the first node selected, an empty string if there is one but
+     *     its value is not needed, or null if there is none
+     */
+    String evaluate(XMLStreamReader reader, boolean valueNeeded) throws XMLStreamException {
+        final Evaluation evaluation = newEvaluation(valueNeeded);
+        evaluateAll(reader, evaluation);
+        return evaluation.result();
+    }
+
+    /**
+     * @param valueNeeded
+     *     whether the string value of the node selected is needed, or only whether there is one
+     * @return an evaluation of this path on one document, to be fed its events
+     */
+    Evaluation newEvaluation(boolean valueNeeded) {
+        return new Evaluation(valueNeeded);
+    }
+
+    /**
+     * Reads <code>reader</code> until all the <code>evaluations</code> are decided, or the document ends.
+     */
+    static void evaluateAll(XMLStreamReader reader, Evaluation... evaluations) throws XMLStreamException {
+        final StartTag tag = new StreamStartTag(reader);
+        int undecided = evaluations.length;
+        while (undecided > 0 && reader.hasNext()) {
+            switch (reader.next()) {
+                case START_ELEMENT:
+                    undecided -= startElement(evaluations, tag);
+                    break;
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    undecided -= text(evaluations, reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    break;
+                case END_ELEMENT:
+                    undecided -= endElement(evaluations);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Walks <code>document</code>, in document order, until all the <code>evaluations</code> are
+     * decided. Adjacent text and CDATA nodes are seen as one text, as a coalescing stream reader would.
+     */
+    static void evaluateAll(Document document, Evaluation... evaluations) {
+        final DomStartTag tag = new DomStartTag();
+        int undecided = evaluations.length;
+        Node node = document.getFirstChild();
+        while (node != null && undecided > 0) {
+            switch (node.getNodeType()) {
+                case Node.ELEMENT_NODE:
+                    undecided -= startElement(evaluations, tag.of(node));
+                    if (node.getFirstChild() != null) {
+                        node = node.getFirstChild();
+                        continue;
+                    }
+                    undecided -= endElement(evaluations);
+                    break;
+                case Node.TEXT_NODE:
+                case Node.CDATA_SECTION_NODE:
+                    final StringBuilder text = new StringBuilder(node.getNodeValue());
+                    while (isText(node.getNextSibling())) {
+                        node = node.getNextSibling();
+                        text.append(node.getNodeValue());
+                    }
+                    final char[] chars = text.toString().toCharArray();
+                    undecided -= text(evaluations, chars, 0, chars.length);
+                    break;
+                default:
+                    break;
+            }
+            while (node != null && node.getNextSibling() == null) {
+                node = node.getParentNode();
+                if (node == document) {
+                    node = null;
+                } else if (node != null) {
+                    undecided -= endElement(evaluations);
+                }
+            }
+            if (node != null) {
+                node = node.getNextSibling();
+            }
+        }
+    }
+
+    private static boolean isText(Node node) {
+        return node != null && (node.getNodeType() == Node.TEXT_NODE || node.getNodeType() == Node.CDATA_SECTION_NODE);
+    }
+
+    private static int startElement(Evaluation[] evaluations, StartTag tag) {
+        int decided = 0;
+        for (Evaluation evaluation : evaluations) {
+            if (!evaluation.decided && evaluation.startElement(tag)) {
+                decided++;
+            }
+        }
+        return decided;
+    }
+
+    private static int text(Evaluation[] evaluations, char[] text, int start, int length) {
+        int decided = 0;
+        for (Evaluation evaluation : evaluations) {
+            if (!evaluation.decided && evaluation.text(text, start, length)) {
+                decided++;
+            }
+        }
+        return decided;
+    }
+
+    private static int endElement(Evaluation[] evaluations) {
+        int decided = 0;
+        for (Evaluation evaluation : evaluations) {
+            if (!evaluation.decided && evaluation.endElement()) {
+                decided++;
+            }
+        }
+        return decided;
+    }
+
+    /**
+     * @return the number of positional predicates, each of which counts the siblings that reach
+     *     it in its own counter
+     */
+    private static int positionsIn(Step[] steps) {
+        int positions = 0;
+        for (Step step : steps) {
+            for (Predicate predicate : step.predicates) {
+                if (predicate.position > 0) {
+                    positions++;
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * The evaluation of the path on one document, fed its events in document order. Each event
+     * method returns true once the result is decided, after which the evaluation must not be fed more.
+     */
+    final class Evaluation {
+        private final boolean valueNeeded;
+        private final long selected = 1L << steps.length;
+        private final Frames frames = new Frames(positions);
+        private int depth = 0;
+        private int valueDepth = -1;
+        private StringBuilder value;
+        private String result;
+        private boolean decided;
+
+        private Evaluation(boolean valueNeeded) {
+            this.valueNeeded = valueNeeded;
+        }
+
+        /**
+         * @return the string value of the first node selected, an empty string if there is one
+         *     but its value is not needed, or null if there is none, or none yet
+         */
+        String result() {
+            return result;
+        }
+
+        boolean startElement(StartTag tag) {
+            depth++;
+            if (valueDepth >= 0) {
+                return false;
+            }
+            final long matched = matchedSteps(tag);
+            final long context = frames.context[depth - 1] | matched;
+            frames.open(depth, matched, context);
+            if (target == Target.ELEMENT && (matched & selected) != 0) {
+                if (!valueNeeded) {
+                    return decide("");
+                }
+                valueDepth = depth;
+                value = new StringBuilder();
+            } else if (target == Target.ATTRIBUTE && ((targetIsDescendant ? context : matched) & selected) != 0) {
+                final String attributeValue = targetAttribute.valueIn(tag);
+                if (attributeValue != null) {
+                    return decide(attributeValue);
+                }
+            }
+            return false;
+        }
+
+        boolean text(char[] text, int start, int length) {
+            if (valueDepth >= 0) {
+                value.append(text, start, length);
+            } else if (target == Target.TEXT && depth > 0
+                    && ((targetIsDescendant ? frames.context[depth] : frames.matched[depth]) & selected) != 0) {
+                return decide(new String(text, start, length));
+            }
+            return false;
+        }
+
+        boolean endElement() {
+            if (depth == valueDepth) {
+                return decide(value.toString());
+            }
+            depth--;
+            return false;
+        }
+
+        private boolean decide(String selectedValue) {
+            result = selectedValue;
+            decided = true;
+            return true;
+        }
+
+        private long matchedSteps(StartTag tag) {
+            final long parentMatched = frames.matched[depth - 1];
+            final long parentContext = frames.context[depth - 1];
+            final int[] siblingCounts = frames.childCounts(depth - 1);
+            long matched = 0;
+            for (int i = 0; i < steps.length; i++) {
+                final long previous = 1L << i;
+                if (((steps[i].descendant ? parentContext : parentMatched) & previous) != 0
+                        && steps[i].matches(tag, siblingCounts)) {
+                    matched |= previous << 1;
+                }
+            }
+            return matched;
+        }
+    }
+
+    /**
+     * The steps matched by each open element, by itself and by any of its ancestors, and, if
+     * the path has positional predicates, how many of its children have reached each of them so far.
+     */
+    private static final class Frames {
+        private final int positions;
+        long[] matched = new long[16];
+        long[] context = new long[16];
+        int[][] childCounts;
+
+        Frames(int positions) {
+            this.positions = positions;
+            this.matched[0] = 1L;
+            this.context[0] = 1L;
+            this.childCounts = positions == 0 ? null : new int[16][];
+        }
+
+        void open(int depth, long matchedSteps, long contextSteps) {
+            if (depth == matched.length) {
+                matched = Arrays.copyOf(matched, depth * 2);
+                context = Arrays.copyOf(context, depth * 2);
+                if (childCounts != null) {
+                    childCounts = Arrays.copyOf(childCounts, depth * 2);
+                }
+            }
+            matched[depth] = matchedSteps;
+            context[depth] = contextSteps;
+            if (childCounts != null && childCounts[depth] != null) {
+                Arrays.fill(childCounts[depth], 0);
+            }
+        }
+
+        int[] childCounts(int depth) {
+            if (childCounts == null) {
+                return null;
+            }
+            if (childCounts[depth] == null) {
+                childCounts[depth] = new int[positions];
+            }
+            return childCounts[depth];
+        }
+    }
+
+    /**
+     * The name and attributes of the element just started, whether read from a stream or a DOM.
+     */
+    interface StartTag {
+        String namespaceURI();
+        String localName();
+        int attributeCount();
+        String attributeNamespaceURI(int index);
+        String attributeLocalName(int index);
+        String attributeValue(int index);
+    }
+
+    private static final class StreamStartTag implements StartTag {
+        private final XMLStreamReader reader;
+
+        StreamStartTag(XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        @Override public String namespaceURI() { return reader.getNamespaceURI(); }
+        @Override public String localName() { return reader.getLocalName(); }
+        @Override public int attributeCount() { return reader.getAttributeCount(); }
+        @Override public String attributeNamespaceURI(int index) { return reader.getAttributeNamespace(index); }
+        @Override public String attributeLocalName(int index) { return reader.getAttributeLocalName(index); }
+        @Override public String attributeValue(int index) { return reader.getAttributeValue(index); }
+    }
+
+    /**
+     * The element being visited. In a document parsed without namespace awareness, names have
+     * no local part, so the qualified name is used.
+     */
+    private static final class DomStartTag implements StartTag {
+        private Node element;
+        private NamedNodeMap attributes;
+
+        DomStartTag of(Node element) {
+            this.element = element;
+            this.attributes = element.getAttributes();
+            return this;
+        }
+
+        @Override public String namespaceURI() { return element.getNamespaceURI(); }
+        @Override public String localName() { return localNameOf(element); }
+        @Override public int attributeCount() { return attributes.getLength(); }
+        @Override public String attributeNamespaceURI(int index) { return attributes.item(index).getNamespaceURI(); }
+        @Override public String attributeLocalName(int index) { return localNameOf(attributes.item(index)); }
+        @Override public String attributeValue(int index) { return ((Attr) attributes.item(index)).getValue(); }
+
+        private static String localNameOf(Node node) {
+            return node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+        }
+    }
+
+    private static final class Step {
+        final boolean descendant;
+        final Name name;
+        final Predicate[] predicates;
+
+        Step(boolean descendant, Name name, Predicate[] predicates) {
+            this.descendant = descendant;
+            this.name = name;
+            this.predicates = predicates;
+        }
+
+        boolean matches(StartTag tag, int[] siblingCounts) {
+            if (name != null && !name.is(tag.namespaceURI(), tag.localName())) {
+                return false;
+            }
+            for (Predicate predicate : predicates) {
+                if (!predicate.matches(tag, siblingCounts)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An attribute test, or a position among the siblings that passed the previous predicates of
+     * the step, counted in the sibling counter <code>counter</code>.
+     */
+    private static final class Predicate {
+        final Name attribute;
+        final String value;
+        final int position;
+        final int counter;
+
+        Predicate(Name attribute, String value, int position, int counter) {
+            this.attribute = attribute;
+            this.value = value;
+            this.position = position;
+            this.counter = counter;
+        }
+
+        boolean matches(StartTag tag, int[] siblingCounts) {
+            if (position > 0) {
+                return ++siblingCounts[counter] == position;
+            }
+            final String actual = attribute.valueIn(tag);
+            return actual != null && (value == null || value.equals(actual));
+        }
+    }
+
+    private static final class Name {
+        final String namespaceURI;
+        final String localName;
+
+        Name(String namespaceURI, String localName) {
+            this.namespaceURI = namespaceURI;
+            this.localName = localName;
+        }
+
+        boolean is(String otherNamespaceURI, String otherLocalName) {
+            return localName.equals(otherLocalName)
+                && namespaceURI.equals(otherNamespaceURI == null ? NULL_NS_URI : otherNamespaceURI);
+        }
+
+        String valueIn(StartTag tag) {
+            for (int i = 0; i < tag.attributeCount(); i++) {
+                if (is(tag.attributeNamespaceURI(i), tag.attributeLocalName(i))) {
+                    return tag.attributeValue(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Parser {
+        private final String expression;
+        private final NamespaceContext namespaceContext;
+        private int position;
+        private int positions;
+
+        Parser(String expression, NamespaceContext namespaceContext) {
+            this.expression = expression;
+            this.namespaceContext = namespaceContext;
+        }
+
+        StreamingXPath parse() {
+            final List<Step> steps = new ArrayList<>();
+            boolean descendant = separator();
+            while (true) {
+                if (consume("@")) {
+                    final Name attribute = name();
+                    expectEnd();
+                    return new StreamingXPath(toArray(steps), Target.ATTRIBUTE, descendant, attribute);
+                }
+                if (consume("text()")) {
+                    expectEnd();
+                    return new StreamingXPath(toArray(steps), Target.TEXT, descendant, null);
+                }
+                steps.add(step(descendant));
+                if (steps.size() > MAX_STEPS) {
+                    throw unsupported("more than " + MAX_STEPS + " steps");
+                }
+                skipSpaces();
+                if (position == expression.length()) {
+                    return new StreamingXPath(toArray(steps), Target.ELEMENT, false, null);
+                }
+                if (!expression.startsWith("/", position)) {
+                    throw unsupported("expected / at " + position);
+                }
+                descendant = separator();
+            }
+        }
+
+        /**
+         * @return whether the next step is on the descendant axis; a relative path starts
+         *     with a child step
+         */
+        private boolean separator() {
+            if (consume("//")) {
+                return true;
+            }
+            consume("/");
+            return false;
+        }
+
+        private Step step(boolean descendant) {
+            final Name name = consume("*") ? null : name();
+            final List<Predicate> predicates = new ArrayList<>();
+            while (consume("[")) {
+                predicates.add(predicate());
+                if (!consume("]")) {
+                    throw unsupported("expected ] at " + position);
+                }
+            }
+            return new Step(descendant, name, predicates.toArray(new Predicate[0]));
+        }
+
+        private Predicate predicate() {
+            if (consume("@")) {
+                final Name attribute = name();
+                return new Predicate(attribute, consume("=") ? literal() : null, 0, -1);
+            }
+            skipSpaces();
+            final int start = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw unsupported("expected an attribute or a position at " + start);
+            }
+            final int index = Integer.parseInt(expression.substring(start, position));
+            if (index < 1) {
+                throw unsupported("position " + index);
+            }
+            return new Predicate(null, null, index, positions++);
+        }
+
+        private String literal() {
+            skipSpaces();
+            if (position == expression.length()) {
+                throw unsupported("expected a literal at " + position);
+            }
+            final char quote = expression.charAt(position);
+            final int end = expression.indexOf(quote, position + 1);
+            if ((quote != '\'' && quote != '"') || end < 0) {
+                throw unsupported("expected a literal at " + position);
+            }
+            final String literal = expression.substring(position + 1, end);
+            position = end + 1;
+            return literal;
+        }
+
+        private Name name() {
+            skipSpaces();
+            final int start = position;
+            while (position < expression.length() && isNameChar(expression.charAt(position))) {
+                position++;
+            }
+            final String qualifiedName = expression.substring(start, position);
+            final int colon = qualifiedName.indexOf(':');
+            if (qualifiedName.isEmpty() || !isNameStart(qualifiedName.charAt(0))
+                    || colon == qualifiedName.length() - 1 || !isNameStart(qualifiedName.charAt(colon + 1))
+                    || qualifiedName.indexOf(':', colon + 1) >= 0) {
+                throw unsupported("expected a name at " + start);
+            }
+            if (colon < 0) {
+                return new Name(NULL_NS_URI, qualifiedName);
+            }
+            final String prefix = qualifiedName.substring(0, colon);
+            final String namespaceURI = namespaceContext == null ? null : namespaceContext.getNamespaceURI(prefix);
+            if (namespaceURI == null || namespaceURI.isEmpty()) {
+                throw unsupported("unknown prefix " + prefix);
+            }
+            return new Name(namespaceURI, qualifiedName.substring(colon + 1));
+        }
+
+        private boolean consume(String token) {
+            skipSpaces();
+            if (expression.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private void expectEnd() {
+            skipSpaces();
+            if (position != expression.length()) {
+                throw unsupported("unexpected " + expression.substring(position));
+            }
+        }
+
+        private void skipSpaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException unsupported(String reason) {
+            return new IllegalArgumentException("Invalid or unstreamable XPath : " + expression + " (" + reason + ")");
+        }
+
+        private static boolean isNameStart(char c) {
+            return Character.isLetter(c) || c == '_';
+        }
+
+        private static boolean isNameChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+        }
+
+        private static Step[] toArray(List<Step> steps) {
+            return steps.toArray(new Step[0]);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.beans.SimpleBeanInfo;
 
+import static org.hamcrest.Allocations.assertAllocationFree;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
@@ -96,6 +97,21 @@ public class HasPropertyWithValueTest extends AbstractMatcherTest {
       new BeanWithBug());
   }
 
+  public void testReadsTheSamePropertyOfBeansOfDifferentClasses() {
+    final Matcher<Object> propertyMatcher = hasProperty("property", equalTo("with info"));
+
+    assertMatches("bean with info", propertyMatcher, beanWithInfo);
+    assertMismatchDescription("property 'property' was \"is expected\"", propertyMatcher, shouldMatch);
+    assertMismatchDescription("No property \"property\"", propertyMatcher, new BeanWithBug());
+    assertMatches("bean with info again", propertyMatcher, beanWithInfo);
+  }
+
+  public void testDoesNotAllocateWhileMatching() {
+    assertAllocationFree(hasProperty("property", equalTo("is expected")), shouldMatch, shouldNotMatch);
+    assertAllocationFree(hasPropertyAtPath("inner.property", equalTo((Object) "is expected")),
+                         new BeanWithInner(shouldMatch), new BeanWithInner(shouldNotMatch));
+  }
+
 
   public void testCanAccessAnAnonymousInnerClass() {
     class X implements IX {
@@ -0,0 +1,99 @@
+package org.hamcrest.beans;
+
+import org.junit.Test;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class PropertyUtilTest {
+    private final HasPropertyWithValueTest.BeanWithoutInfo bean = new HasPropertyWithValueTest.BeanWithoutInfo("a bean", false);
+
+    @Test public void
+    findsPropertiesByName() {
+        assertEquals("getProperty", PropertyUtil.getPropertyDescriptor("property", bean).getReadMethod().getName());
+        assertNotNull(PropertyUtil.getPropertyDescriptor("class", bean));
+        assertNull(PropertyUtil.getPropertyDescriptor("aNonExistentProp", bean));
+    }
+
+    @Test public void
+    leavesOutPropertiesOfObjectWhenAskedTo() {
+        assertEquals(4, PropertyUtil.propertyDescriptorsFor(bean, null).length);
+        assertEquals(3, PropertyUtil.propertyDescriptorsFor(bean, Object.class).length);
+    }
+
+    @Test public void
+    introspectsEachClassOnce() {
+        final Repeated repeated = new Repeated();
+        PropertyUtil.getPropertyDescriptor("value", repeated);
+        final long misses = PropertyUtil.cacheMisses();
+        final long hits = PropertyUtil.cacheHits();
+
+        final PropertyDescriptor property = PropertyUtil.getPropertyDescriptor("value", repeated);
+        assertEquals(property, PropertyUtil.getPropertyDescriptor("value", new Repeated()));
+        assertNull(PropertyUtil.getPropertyDescriptor("other", repeated));
+
+        assertEquals(misses, PropertyUtil.cacheMisses());
+        assertEquals(hits + 3, PropertyUtil.cacheHits());
+    }
+
+    @Test public void
+    returnsACopyOfTheCachedDescriptors() {
+        PropertyUtil.propertyDescriptorsFor(bean, Object.class)[0] = null;
+
+        for (PropertyDescriptor property : PropertyUtil.propertyDescriptorsFor(bean, Object.class)) {
+            assertNotNull(property);
+        }
+    }
+
+    @Test public void
+    returnsCopiesOfTheCachedDescriptors() {
+        final PropertyDescriptor changed = PropertyUtil.getPropertyDescriptor("property", bean);
+        changed.setDisplayName("changed");
+        changed.setValue("key", "value");
+
+        final PropertyDescriptor property = PropertyUtil.getPropertyDescriptor("property", bean);
+        assertNotSame(changed, property);
+        assertEquals("property", property.getDisplayName());
+        assertNull(property.getValue("key"));
+        for (PropertyDescriptor other : PropertyUtil.propertyDescriptorsFor(bean, Object.class)) {
+            assertEquals(other.getName(), other.getDisplayName());
+        }
+    }
+
+    @Test public void
+    doesNotKeepClassLoadersAlive() throws Exception {
+        final WeakReference<ClassLoader> loader = introspectInOwnClassLoader();
+
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull("class loader should have been collected", loader.get());
+    }
+
+    private static WeakReference<ClassLoader> introspectInOwnClassLoader() throws Exception {
+        final URL classes = Repeated.class.getProtectionDomain().getCodeSource().getLocation();
+        final ClassLoader loader = new URLClassLoader(new URL[] { classes }, null);
+        final Object redeployed = loader.loadClass(Repeated.class.getName()).getConstructor().newInstance();
+
+        assertTrue(redeployed.getClass() != Repeated.class);
+        assertNotNull(PropertyUtil.getPropertyDescriptor("value", redeployed));
+        Introspector.flushFromCaches(redeployed.getClass());
+        return new WeakReference<>(loader);
+    }
+
+    @SuppressWarnings("WeakerAccess")
+    public static class Repeated {
+        public int getValue() { return 1; }
+    }
+}
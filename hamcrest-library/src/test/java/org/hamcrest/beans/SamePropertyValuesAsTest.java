@@ -3,6 +3,7 @@ package org.hamcrest.beans;
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
+import static org.hamcrest.Allocations.assertAllocationFree;
 import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
 
 @SuppressWarnings("WeakerAccess")
@@ -45,6 +46,23 @@ public class SamePropertyValuesAsTest extends AbstractMatcherTest {
         samePropertyValuesAs(expectedBean), new SubBeanWithExtraProperty("same", 1, aValue));
   }
   
+  public void test_reads_properties_of_subtypes_through_the_expected_types_accessors() {
+    final Matcher<ExampleBean> matcher = samePropertyValuesAs(new ExampleBean("same", 1000, aValue));
+
+    assertMatches("sub type", matcher, new SubBeanWithNoExtraProperties("same", 1000, aValue));
+    assertMismatchDescription("int was <1001>", matcher, new SubBeanWithNoExtraProperties("same", 1001, aValue));
+    assertMismatchDescription("has extra properties called [extra]", matcher, new SubBeanWithExtraProperty("same", 1000, aValue));
+    assertMatches("sub type again", matcher, new SubBeanWithNoExtraProperties("same", 1000, aValue));
+  }
+
+  public void test_does_not_allocate_while_matching() {
+    final Matcher<ExampleBean> matcher = samePropertyValuesAs(new ExampleBean("same", 1000, aValue));
+    final ExampleBean different = new ExampleBean("same", 1001, aValue);
+
+    assertAllocationFree(matcher, new ExampleBean("same", 1000, aValue), different);
+    assertAllocationFree(matcher, new SubBeanWithNoExtraProperties("same", 1000, aValue), different);
+  }
+
   public void testDescribesItself() {
     assertDescription("same property values as ExampleBean [int: <1>, string: \"same\", value: <Value expected>]", samePropertyValuesAs(expectedBean));
   }
@@ -3,6 +3,9 @@ package org.hamcrest.collection;
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.collection.ArrayMatching.hasItemInArray;
 
@@ -73,4 +76,18 @@ public class HasItemInArrayTest extends AbstractMatcherTest {
 //        assertDoesNotMatch("double", arrayContaining(0.0), new double[]{1.0, 2.0, 3.0});
 //    }
 
+    public void testMatchesInParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Integer[] elements = new Integer[10000];
+            Arrays.fill(elements, 5);
+            assertDoesNotMatch(hasItemInArray(lessThan(2), pool), elements);
+            elements[6000] = 1;
+            assertMatches(hasItemInArray(lessThan(2), pool), elements);
+            assertMismatchDescription("mismatches were: [<3> was greater than <2>]",
+                hasItemInArray(lessThan(2), pool), new Integer[] {3});
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -4,6 +4,7 @@ import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
 import static org.hamcrest.collection.ArrayMatching.arrayContainingInAnyOrder;
+import static org.hamcrest.core.AnyOf.anyOf;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class IsArrayContainingInAnyOrderTest extends AbstractMatcherTest {
@@ -33,6 +34,11 @@ public class IsArrayContainingInAnyOrderTest extends AbstractMatcherTest {
       assertMatches("single", ArrayMatching.arrayContainingInAnyOrder(equalTo(1)), new Integer[] {1});
     }
 
+    @SuppressWarnings("unchecked")
+    public void testFindsAnAssignmentWhenMatchersOverlap() {
+      assertMatches("overlapping", ArrayMatching.arrayContainingInAnyOrder(anyOf(equalTo(1), equalTo(2)), equalTo(1)), new Integer[] {1, 2});
+    }
+
     public void testMismatchesItemsInAnyOrder() {
       Matcher<Integer[]> matcher = ArrayMatching.arrayContainingInAnyOrder(1, 2, 3);
       assertMismatchDescription("was null", matcher, null);
@@ -7,6 +7,9 @@ import org.hamcrest.StringDescription;
 import java.util.Arrays;
 import java.util.Collection;
 
+import static org.hamcrest.collection.IsIn.in;
+import static org.hamcrest.collection.IsIn.inSorted;
+
 public class IsInTest extends AbstractMatcherTest {
     String[] elements = {"a", "b", "c"};
 
@@ -34,6 +37,75 @@ public class IsInTest extends AbstractMatcherTest {
         assertDoesNotMatch("d", isIn, "d");
     }
     
+    public void testLooksUpManyIntegers() {
+        Matcher<Integer> isIn = in(numbers(1000, null));
+        
+        assertMatches("first", isIn, 0);
+        assertMatches("colliding", isIn, -7 * 999);
+        assertMatches("null", isIn, null);
+        assertDoesNotMatch("absent", isIn, 1);
+        assertFalse("long", isIn.matches(7L));
+    }
+
+    public void testLooksUpManyLongs() {
+        Long[] elements = new Long[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (long) i << 32;
+        }
+        Matcher<Long> isIn = in(elements);
+
+        assertMatches("zero", isIn, 0L);
+        assertMatches("high bits", isIn, 999L << 32);
+        assertDoesNotMatch("low bits", isIn, 1L);
+        assertFalse("integer", isIn.matches(0));
+        assertDoesNotMatch("null", isIn, null);
+    }
+
+    public void testLooksUpManyStrings() {
+        String[] elements = new String[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = "id" + i;
+        }
+        Matcher<String> isIn = in(elements);
+
+        assertMatches("equal string", isIn, new String("id999"));
+        assertDoesNotMatch("absent", isIn, "id1000");
+        assertFalse("not a string", isIn.matches(new StringBuilder("id1")));
+    }
+
+    public void testLooksUpManyObjectsOfMixedTypes() {
+        Object[] elements = new Object[100];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i % 2 == 0 ? (Object) i : "id" + i;
+        }
+        Matcher<Object> isIn = in(elements);
+
+        assertMatches("integer", isIn, 98);
+        assertMatches("string", isIn, "id99");
+        assertDoesNotMatch("absent", isIn, 99);
+    }
+
+    public void testIsNotAffectedByChangesToTheArray() {
+        Integer[] elements = numbers(100, 0);
+        Matcher<Integer> isIn = in(elements);
+        elements[0] = -1;
+
+        assertMatches("original", isIn, 0);
+        assertDoesNotMatch("replacement", isIn, -1);
+    }
+
+    public void testSearchesSortedElements() {
+        Matcher<Integer> isIn = inSorted(numbers(1000, null));
+
+        assertMatches("first", isIn, 0);
+        assertMatches("last", isIn, -7 * 999);
+        assertMatches("null", isIn, null);
+        assertDoesNotMatch("absent", isIn, 1);
+        assertFalse("other type", isIn.matches(7L));
+        assertDoesNotMatch("without null", inSorted(new String[] {"b", "a"}), null);
+        assertEquals("description", "one of {\"b\", \"a\"}", StringDescription.toString(inSorted(new String[] {"b", "a"})));
+    }
+
     public void testHasReadableDescription() {
         Matcher<String> isIn = new IsIn<String>(elements);
         
@@ -41,4 +113,13 @@ public class IsInTest extends AbstractMatcherTest {
             "one of {\"a\", \"b\", \"c\"}", 
             StringDescription.toString(isIn));
     }
+
+    private static Integer[] numbers(int count, Integer last) {
+        Integer[] numbers = new Integer[count + 1];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = -7 * i;
+        }
+        numbers[count] = last;
+        return numbers;
+    }
 }
@@ -1,15 +1,23 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.collection.IsIterableContainingInOrderTest.WithValue;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.make;
 import static org.hamcrest.collection.IsIterableContainingInOrderTest.value;
+import static org.hamcrest.core.AnyOf.anyOf;
+import static org.hamcrest.core.IsEqual.equalTo;
 
 public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
 
@@ -48,7 +56,88 @@ public class IsIterableContainingInAnyOrderTest extends AbstractMatcherTest {
         assertMismatchDescription("no item matches: <4> in [<1>, <2>, <3>]", containsInAnyOrder(1, 2, 3, 4), asList(1, 2, 3));
     }
 
+    public void testMatchesRepeatedItemsInAnyOrder() {
+        assertMatches("repeated items", containsInAnyOrder(1, 2, 1), asList(2, 1, 1));
+        assertMismatchDescription("not matched: <2>", containsInAnyOrder(1, 2, 1), asList(1, 2, 2));
+    }
+
+    public void testDescribesRemainingItemsInTheOrderTheyWereGiven() {
+        assertMismatchDescription("no item matches: <2>, <1> in [<1>]", containsInAnyOrder(1, 2, 1), asList(1));
+        assertMismatchDescription("no item matches: <2>, <1> in [<1>]", containsInAnyOrder(equalTo(1), equalTo(2), equalTo(1)), asList(1));
+    }
+
+    public void testDescribesItemsBeyondTheExpectedOnes() {
+        assertMismatchDescription("no match for: <2>", containsInAnyOrder(1), asList(1, 2));
+    }
+
+    public void testMatchesNullItems() {
+        assertMatches("null items", containsInAnyOrder("a", null), asList(null, "a"));
+        assertMismatchDescription("not matched: null", containsInAnyOrder("a", "b"), asList("a", null));
+    }
+
+    public void testComparesArrayItemsElementByElement() {
+        assertMatches("array items", containsInAnyOrder(new int[] {1}, new int[] {2}), asList(new int[] {2}, new int[] {1}));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testFindsAnAssignmentWhenMatchersOverlap() {
+        assertMatches("overlapping", containsInAnyOrder(anyOf(equalTo(1), equalTo(2)), equalTo(1)), asList(1, 2));
+        assertMatches("chain", containsInAnyOrder(anyOf(equalTo(1), equalTo(2)), anyOf(equalTo(2), equalTo(3)), equalTo(1)), asList(1, 2, 3));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testDescribesAnItemThatNoAssignmentMatches() {
+        final Matcher<Iterable<? extends Integer>> matcher =
+            containsInAnyOrder(anyOf(equalTo(1), equalTo(2)), anyOf(equalTo(1), equalTo(2)), equalTo(3));
+        assertMismatchDescription("not matched: <2>", matcher, asList(1, 2, 2));
+        assertMismatchDescription("no match for: <2>", containsInAnyOrder(anyOf(equalTo(1), equalTo(2))), asList(1, 2));
+        assertMismatchDescription("no item matches: <3> in [<2>, <1>]", matcher, asList(2, 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testAsksEachMatcherAboutEachItemAtMostOnce() {
+        final Set<List<Object>> asked = new HashSet<>();
+        final Matcher<Iterable<? extends Integer>> matcher = containsInAnyOrder(
+            askedOnce(anyOf(equalTo(1), equalTo(2)), asked),
+            askedOnce(anyOf(equalTo(2), equalTo(3)), asked),
+            askedOnce(equalTo(1), asked));
+
+        assertTrue(matcher.matches(asList(1, 2, 3)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testStopsReadingOnceThereAreMoreItemsThanMatchers() {
+        final Iterable<Integer> endless = new Iterable<Integer>() {
+            @Override
+            public Iterator<Integer> iterator() {
+                return new Iterator<Integer>() {
+                    private int next = 1;
+                    @Override public boolean hasNext() { return true; }
+                    @Override public Integer next() { return next++; }
+                    @Override public void remove() { throw new UnsupportedOperationException(); }
+                };
+            }
+        };
+        assertMismatchDescription("no match for: <3>",
+            containsInAnyOrder(anyOf(equalTo(1), equalTo(2)), equalTo(1)), endless);
+    }
+
     public void testHasAReadableDescription() {
         assertDescription("iterable with items [<1>, <2>] in any order", containsInAnyOrder(1, 2));
     }
+
+    private static Matcher<Integer> askedOnce(final Matcher<Integer> matcher, final Set<List<Object>> asked) {
+        return new BaseMatcher<Integer>() {
+            @Override
+            public boolean matches(Object item) {
+                assertTrue("asked twice about " + item, asked.add(asList(this, item)));
+                return matcher.matches(item);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendDescriptionOf(matcher);
+            }
+        };
+    }
 }
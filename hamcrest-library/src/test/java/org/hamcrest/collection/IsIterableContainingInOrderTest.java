@@ -1,15 +1,21 @@
 package org.hamcrest.collection;
 
 import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
 import org.hamcrest.FeatureMatcher;
 import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.collection.IsIterableContainingInOrder.containsInParallel;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 @SuppressWarnings("unchecked")
@@ -58,6 +64,66 @@ public class IsIterableContainingInOrderTest extends AbstractMatcherTest {
     	assertMatches(contains(null, null), asList(null, null));
     }
 
+    public void testMatchesInParallelAndDescribesTheFirstMismatch() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<Matcher<? super Integer>> matchers = new ArrayList<>();
+            final List<Integer> items = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                matchers.add(equalTo(i));
+                items.add(i);
+            }
+            final Matcher<Iterable<? extends Integer>> parallel = containsInParallel(matchers, pool);
+            assertMatches(parallel, items);
+            assertMismatchDescription("no item was <9999>", parallel, items.subList(0, 9999));
+            final List<Integer> longer = new ArrayList<>(items);
+            longer.add(10000);
+            assertMismatchDescription("not matched: <10000>", parallel, longer);
+
+            items.set(8000, -1);
+            items.set(3000, -1);
+            assertMismatchDescription("item 3000: was <-1>", parallel, items);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testDescribesAParallelMismatchWithoutMatchingAgain() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final AtomicInteger matches = new AtomicInteger();
+            final List<Matcher<? super Integer>> matchers = new ArrayList<>();
+            final List<Integer> items = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                matchers.add(counting(equalTo(i), matches));
+                items.add(i);
+            }
+            items.set(9000, -1);
+            final StringDescription mismatch = new StringDescription();
+
+            assertFalse(BaseMatcher.matchesWithDiagnosis(containsInParallel(matchers, pool), items, mismatch));
+            assertEquals("item 9000: was <-1>", mismatch.toString());
+            assertTrue(matches.get() + " matches", matches.get() <= items.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <T> Matcher<T> counting(final Matcher<T> matcher, final AtomicInteger matches) {
+        return new BaseMatcher<T>() {
+            @Override
+            public boolean matches(Object item) {
+                matches.incrementAndGet();
+                return matcher.matches(item);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                matcher.describeTo(description);
+            }
+        };
+    }
+
     public static class WithValue {
       private final int value;
       public WithValue(int value) { this.value = value; }
@@ -0,0 +1,136 @@
+package org.hamcrest.collection;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Matcher;
+
+import static org.hamcrest.Allocations.assertAllocatesLessThan;
+import static org.hamcrest.collection.PrimitiveArrayMatching.arrayCloseTo;
+import static org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualTo;
+import static org.hamcrest.collection.PrimitiveArrayMatching.arrayEqualToInAnyOrder;
+import static org.hamcrest.collection.PrimitiveArrayMatching.ascendingByteArray;
+import static org.hamcrest.collection.PrimitiveArrayMatching.ascendingCharArray;
+import static org.hamcrest.collection.PrimitiveArrayMatching.ascendingDoubleArray;
+import static org.hamcrest.collection.PrimitiveArrayMatching.ascendingIntArray;
+import static org.hamcrest.collection.PrimitiveArrayMatching.ascendingLongArray;
+
+public class PrimitiveArrayMatchingTest extends AbstractMatcherTest {
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return arrayEqualTo(new int[] {1, 2});
+    }
+
+    public void testMatchesEqualArrays() {
+        assertMatches("int", arrayEqualTo(new int[] {1, 2}), new int[] {1, 2});
+        assertMatches("long", arrayEqualTo(new long[] {1, 2}), new long[] {1, 2});
+        assertMatches("double", arrayEqualTo(new double[] {1, Double.NaN}), new double[] {1, Double.NaN});
+        assertMatches("byte", arrayEqualTo(new byte[] {1, 2}), new byte[] {1, 2});
+        assertMatches("char", arrayEqualTo(new char[] {'a', 'b'}), new char[] {'a', 'b'});
+        assertMatches("empty", arrayEqualTo(new int[0]), new int[0]);
+    }
+
+    public void testMismatchesArraysOfOtherLengthsOrElements() {
+        assertMismatchDescription("length was <1>", arrayEqualTo(new int[] {1, 2}), new int[] {1});
+        assertMismatchDescription("element 1 was <3L> instead of <2L>", arrayEqualTo(new long[] {1, 2}), new long[] {1, 3});
+        assertMismatchDescription("element 0 was <0.0> instead of <-0.0>", arrayEqualTo(new double[] {-0.0}), new double[] {0.0});
+        assertMismatchDescription("element 0 was \"b\" instead of \"a\"", arrayEqualTo(new char[] {'a'}), new char[] {'b'});
+        assertMismatchDescription("was long[] [<1L>]", arrayEqualTo(new int[] {1}), new long[] {1});
+    }
+
+    public void testDescribesTheFirstFewExpectedElements() {
+        assertDescription("an int[] equal to [<1>, <2>]", arrayEqualTo(new int[] {1, 2}));
+        assertDescription("a byte[] equal to [<0>, <1>, <2>, <3>, <4>, <5>, <6>, <7>, <8>, <9>, ...] (12 elements)",
+            arrayEqualTo(new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}));
+    }
+
+    public void testMatchesArraysCloseToEachElement() {
+        assertMatches("double", arrayCloseTo(new double[] {1.0, 2.0}, 0.5), new double[] {1.5, 1.5});
+        assertMatches("int", arrayCloseTo(new int[] {Integer.MAX_VALUE}, 1), new int[] {Integer.MAX_VALUE - 1});
+        assertMatches("long", arrayCloseTo(new long[] {Long.MIN_VALUE}, 1), new long[] {Long.MIN_VALUE + 1});
+        assertMatches("byte", arrayCloseTo(new byte[] {10}, 2), new byte[] {8});
+        assertMatches("char", arrayCloseTo(new char[] {'b'}, 1), new char[] {'a'});
+
+        assertDoesNotMatch("NaN", arrayCloseTo(new double[] {1.0}, 0.5), new double[] {Double.NaN});
+        assertDoesNotMatch("int overflow", arrayCloseTo(new int[] {Integer.MAX_VALUE}, 1), new int[] {Integer.MIN_VALUE});
+        assertDoesNotMatch("long overflow", arrayCloseTo(new long[] {Long.MAX_VALUE}, 1), new long[] {Long.MIN_VALUE});
+    }
+
+    public void testComparesLongsExactlyBeyondDoublePrecision() {
+        final long twoToThe53 = 1L << 53;
+        assertMatches("at the error", arrayCloseTo(new long[] {0}, twoToThe53), new long[] {twoToThe53});
+        assertDoesNotMatch("just beyond the error", arrayCloseTo(new long[] {0}, twoToThe53), new long[] {twoToThe53 + 1});
+        assertMatches("whole range", arrayCloseTo(new long[] {Long.MIN_VALUE}, -1L >>> 1), new long[] {-1});
+        assertDoesNotMatch("beyond the whole range", arrayCloseTo(new long[] {Long.MIN_VALUE}, -1L >>> 1), new long[] {0});
+        assertDoesNotMatch("negative error", arrayCloseTo(new long[] {0}, -1), new long[] {0});
+    }
+
+    public void testDescribesElementsThatAreNotClose() {
+        assertMismatchDescription("element 1 was <2.6>, more than <0.5> from <2.0>",
+            arrayCloseTo(new double[] {1.0, 2.0}, 0.5), new double[] {1.0, 2.6});
+        assertMismatchDescription("length was <1>", arrayCloseTo(new int[] {1, 2}, 1), new int[] {1});
+        assertDescription("a long[] with each element within <2L> of [<1L>]", arrayCloseTo(new long[] {1}, 2));
+    }
+
+    public void testMatchesArraysInAscendingOrder() {
+        assertMatches("int", ascendingIntArray(), new int[] {-1, 0, 0, 5});
+        assertMatches("long", ascendingLongArray(), new long[] {Long.MIN_VALUE, Long.MAX_VALUE});
+        assertMatches("double", ascendingDoubleArray(), new double[] {-0.0, 0.0, Double.NaN});
+        assertMatches("byte", ascendingByteArray(), new byte[] {-128, 127});
+        assertMatches("char", ascendingCharArray(), new char[] {'a', 'b'});
+        assertMatches("empty", ascendingIntArray(), new int[0]);
+
+        assertDoesNotMatch("zeros", ascendingDoubleArray(), new double[] {0.0, -0.0});
+        assertMismatchDescription("element 2 <1> was less than element 1 <3>", ascendingIntArray(), new int[] {1, 3, 1});
+        assertDescription("a char[] in ascending order", ascendingCharArray());
+    }
+
+    public void testMatchesSameElementsInAnyOrder() {
+        assertMatches("int", arrayEqualToInAnyOrder(new int[] {3, 1, 1}), new int[] {1, 3, 1});
+        assertMatches("long", arrayEqualToInAnyOrder(new long[] {3, 1}), new long[] {1, 3});
+        assertMatches("double", arrayEqualToInAnyOrder(new double[] {Double.NaN, 1}), new double[] {1, Double.NaN});
+        assertMatches("byte", arrayEqualToInAnyOrder(new byte[] {3, 1}), new byte[] {1, 3});
+        assertMatches("char", arrayEqualToInAnyOrder(new char[] {'b', 'a'}), new char[] {'a', 'b'});
+    }
+
+    public void testDescribesElementsMissingOrUnexpected() {
+        final Matcher<int[]> matcher = arrayEqualToInAnyOrder(new int[] {3, 1, 2});
+        assertMismatchDescription("had an unexpected <1>", matcher, new int[] {1, 1, 3});
+        assertMismatchDescription("was missing <1>", matcher, new int[] {2, 3, 3});
+        assertMismatchDescription("length was <2>", matcher, new int[] {1, 2});
+        assertDescription("an int[] with elements [<3>, <1>, <2>] in any order", matcher);
+    }
+
+    public void testDoesNotChangeTheExaminedArray() {
+        final int[] examined = {2, 1};
+        assertMatches(arrayEqualToInAnyOrder(new int[] {1, 2}), examined);
+        assertEquals(2, examined[0]);
+    }
+
+    public void testKeepsACopyOfTheExpectedArray() {
+        final int[] expected = {1, 2};
+        final Matcher<int[]> equal = arrayEqualTo(expected);
+        final Matcher<int[]> close = arrayCloseTo(expected, 0);
+        final Matcher<int[]> inAnyOrder = arrayEqualToInAnyOrder(expected);
+        expected[0] = 3;
+        assertMatches(equal, new int[] {1, 2});
+        assertMatches(close, new int[] {1, 2});
+        assertMatches(inAnyOrder, new int[] {2, 1});
+        assertDescription("an int[] equal to [<1>, <2>]", equal);
+    }
+
+    public void testDoesNotBoxElementsWhileMatching() {
+        final double[] buffer = new double[100000];
+        for (int i = 0; i < buffer.length; i++) {
+            buffer[i] = i;
+        }
+        final double[] descending = buffer.clone();
+        descending[descending.length - 1] = -1;
+        final double[] larger = buffer.clone();
+        larger[larger.length - 1] = buffer.length;
+
+        assertAllocatesLessThan(buffer.length, 100, arrayEqualTo(buffer), buffer, descending);
+        assertAllocatesLessThan(buffer.length, 100, arrayCloseTo(buffer, 0.5), buffer, descending);
+        assertAllocatesLessThan(buffer.length, 100, ascendingDoubleArray(), buffer, descending);
+        assertAllocatesLessThan(buffer.length, 100, arrayEqualToInAnyOrder(buffer), buffer, larger);
+    }
+}
@@ -0,0 +1,222 @@
+package org.hamcrest.io;
+
+import org.hamcrest.AbstractMatcherTest;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Allocations.assertAllocatesLessThan;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+
+public class PathMatchersTest extends AbstractMatcherTest {
+
+    private Path directory;
+    private Path file;
+
+    @Override
+    protected void setUp() throws Exception {
+        directory = Files.createTempDirectory("myDir");
+        file = Files.write(directory.resolve("myFile"), new byte[] { 1, 2, 3 });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    public void testAnExistingDirectory() {
+        assertMatches("matches existing directory", PathMatchers.anExistingDirectory(), directory);
+        assertDoesNotMatch("doesn't match existing file", PathMatchers.anExistingDirectory(), file);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.anExistingDirectory(), Paths.get("foo"));
+    }
+
+    public void testAnExistingFileOrDirectory() {
+        assertMatches("matches existing file", PathMatchers.anExistingFileOrDirectory(), file);
+        assertMatches("matches existing directory", PathMatchers.anExistingFileOrDirectory(), directory);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.anExistingFileOrDirectory(), Paths.get("foo"));
+    }
+
+    public void testAnExistingFile() {
+        assertMatches("matches existing file", PathMatchers.anExistingFile(), file);
+        assertDoesNotMatch("doesn't match existing directory", PathMatchers.anExistingFile(), directory);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.anExistingFile(), Paths.get("foo"));
+    }
+
+    public void testAReadableFile() {
+        assertMatches("matches readable file", PathMatchers.aReadableFile(), file);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.aReadableFile(), Paths.get("foo"));
+    }
+
+    public void testAWritableFile() {
+        assertMatches("matches writable file", PathMatchers.aWritableFile(), file);
+        assertDoesNotMatch("doesn't match missing file", PathMatchers.aWritableFile(), Paths.get("foo"));
+    }
+
+    public void testAFileWithSize() {
+        assertMatches("matches file size", PathMatchers.aFileWithSize(3L), file);
+        assertDoesNotMatch("doesn't match incorrect file size", PathMatchers.aFileWithSize(equalTo(23L)), file);
+        assertMismatchDescription("size was <3L>", PathMatchers.aFileWithSize(23L), file);
+        assertMismatchDescription("does not exist", PathMatchers.aFileWithSize(0L), Paths.get("foo"));
+    }
+
+    public void testAFileWithPermissions() throws Exception {
+        if (PathAttributes.read(file, true).posix() == null) {
+            return;
+        }
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r-----"));
+        assertMatches("matches permissions", PathMatchers.aFileWithPermissions("rw-r-----"), file);
+        assertMismatchDescription("permissions were rw-r-----", PathMatchers.aFileWithPermissions("rwx------"), file);
+    }
+
+    public void testAFileNamed() {
+        assertMatches("matches file name", PathMatchers.aFileNamed(equalTo("myFile")), file);
+        assertDoesNotMatch("doesn't match incorrect file name", PathMatchers.aFileNamed(equalTo("foo")), file);
+    }
+
+    public void testAPathMatchesAllItsMatchers() {
+        assertMatches("matches all",
+            PathMatchers.aPath(PathMatchers.anExistingFile(), PathMatchers.aReadableFile(),
+                               PathMatchers.aFileWithSize(3L), PathMatchers.aFileNamed(equalTo("myFile"))),
+            file);
+        assertDoesNotMatch("doesn't match directory",
+            PathMatchers.aPath(PathMatchers.anExistingFileOrDirectory(), PathMatchers.anExistingFile()),
+            directory);
+        assertMatches("matches other matchers of paths",
+            PathMatchers.aPath(PathMatchers.anExistingDirectory(), not(equalTo(file))),
+            directory);
+    }
+
+    public void testAPathDescribesTheFirstMismatch() {
+        assertMismatchDescription("A file with size <4L> size was <3L>",
+            PathMatchers.aPath(PathMatchers.anExistingFile(), PathMatchers.aFileWithSize(4L), PathMatchers.aFileWithSize(5L)),
+            file);
+        assertDescription("(an existing File and A file with size <3L>)",
+            PathMatchers.aPath(PathMatchers.anExistingFile(), PathMatchers.aFileWithSize(3L)));
+    }
+
+    public void testAPathReadsTheAttributesOncePerEvaluation() {
+        final RecordingMatcher first = new RecordingMatcher(false);
+        final RecordingMatcher second = new RecordingMatcher(false);
+        final Matcher<Path> matcher = PathMatchers.aPath(first, not(equalTo(directory)), second);
+
+        assertTrue(matcher.matches(file));
+        assertTrue(matcher.matches(file));
+
+        assertEquals(2, first.received.size());
+        assertEquals(2, second.received.size());
+        assertSame(first.received.get(0), second.received.get(0));
+        assertSame(first.received.get(1), second.received.get(1));
+        assertNotSame(first.received.get(0), first.received.get(1));
+    }
+
+    public void testAPathReadsPosixAttributesOnlyIfAMatcherNeedsThem() {
+        final RecordingMatcher basic = new RecordingMatcher(false);
+        PathMatchers.aPath(basic, PathMatchers.anExistingFile()).matches(file);
+        assertNull(basic.received.get(0).posix());
+
+        if (PathAttributes.read(file, true).posix() == null) {
+            return;
+        }
+        final RecordingMatcher posix = new RecordingMatcher(true);
+        PathMatchers.aPath(basic, posix).matches(file);
+        assertSame(basic.received.get(1), posix.received.get(0));
+        assertNotNull(posix.received.get(0).posix());
+    }
+
+    public void testAFileWithSameContentAs() throws Exception {
+        final Path same = Files.write(directory.resolve("same"), new byte[] { 1, 2, 3 });
+        final Path different = Files.write(directory.resolve("different"), new byte[] { 1, 2, 4 });
+        final Path longer = Files.write(directory.resolve("longer"), new byte[] { 1, 2, 3, 4 });
+        try {
+            assertMatches("matches same content", PathMatchers.aFileWithSameContentAs(same), file);
+            assertMismatchDescription("differs at byte <2L>", PathMatchers.aFileWithSameContentAs(different), file);
+            assertMismatchDescription("size was <3L>, not <4L>", PathMatchers.aFileWithSameContentAs(longer), file);
+            assertMismatchDescription("is not a file", PathMatchers.aFileWithSameContentAs(same), directory);
+            assertMismatchDescription("does not exist", PathMatchers.aFileWithSameContentAs(same), Paths.get("foo"));
+        } finally {
+            Files.delete(same);
+            Files.delete(different);
+            Files.delete(longer);
+        }
+    }
+
+    public void testAFileWithDigest() throws Exception {
+        final String sha256 = FileContent.hex(MessageDigest.getInstance("SHA-256").digest(new byte[] { 1, 2, 3 }));
+        final String md5 = FileContent.hex(MessageDigest.getInstance("MD5").digest(new byte[] { 1, 2, 3 }));
+
+        assertMatches("matches digest", PathMatchers.aFileWithDigest("SHA-256", sha256), file);
+        assertMatches("matches digest in upper case", PathMatchers.aFileWithDigest("SHA-256", sha256.toUpperCase()), file);
+        assertMismatchDescription("MD5 digest was " + md5, PathMatchers.aFileWithDigest("MD5", sha256.substring(0, 32)), file);
+        assertDescription("A file with MD5 digest " + md5, PathMatchers.aFileWithDigest("MD5", md5));
+        try {
+            PathMatchers.aFileWithDigest("NO-SUCH-DIGEST", md5);
+            fail("Expected exception");
+        } catch (IllegalArgumentException expectedException) {
+            // expected exception
+        }
+    }
+
+    public void testAFileWithBytesAt() {
+        assertMatches("matches bytes", PathMatchers.aFileWithBytesAt(1, new byte[] { 2, 3 }), file);
+        assertMatches("matches no bytes", PathMatchers.aFileWithBytesAt(3, new byte[0]), file);
+        assertMismatchDescription("differs at byte <2L>", PathMatchers.aFileWithBytesAt(1, new byte[] { 2, 4 }), file);
+        assertMismatchDescription("size was <3L>", PathMatchers.aFileWithBytesAt(2, new byte[] { 3, 4 }), file);
+        assertDescription("A file with bytes 0203 at <1L>", PathMatchers.aFileWithBytesAt(1, new byte[] { 2, 3 }));
+    }
+
+    public void testComparesContentInConstantHeap() throws Exception {
+        final byte[] content = new byte[16 * 1024 * 1024];
+        Arrays.fill(content, (byte) 7);
+        final Path large = Files.write(directory.resolve("large"), content);
+        content[content.length - 1] = 8;
+        final Path other = Files.write(directory.resolve("other"), content);
+        final String sha1 = FileContent.hex(MessageDigest.getInstance("SHA-1").digest(content));
+        try {
+            final int limit = 64 * 1024;
+            assertAllocatesLessThan(limit, 2, PathMatchers.aFileWithSameContentAs(other), other, large);
+            assertAllocatesLessThan(limit, 2, PathMatchers.aFileWithDigest("SHA-1", sha1), other, large);
+            assertAllocatesLessThan(limit, 2, PathMatchers.aFileWithBytesAt(content.length - 1, new byte[] { 8 }), other, large);
+        } finally {
+            Files.delete(large);
+            Files.delete(other);
+        }
+    }
+
+    @Override
+    protected Matcher<?> createMatcher() {
+        return PathMatchers.aFileWithSize(1L);
+    }
+
+    /**
+     * Matches any path, and records the attributes it is given.
+     */
+    private static final class RecordingMatcher extends PathAttributeMatcher {
+        final List<PathAttributes> received = new ArrayList<>();
+
+        RecordingMatcher(boolean posix) {
+            super(posix);
+        }
+
+        @Override
+        boolean matches(Path path, PathAttributes attributes, Description mismatch) {
+            received.add(attributes);
+            return true;
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("any path");
+        }
+    }
+
+}
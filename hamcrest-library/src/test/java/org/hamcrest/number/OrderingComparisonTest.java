@@ -6,7 +6,10 @@ import org.hamcrest.Matcher;
 import java.math.BigDecimal;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.CombinableMatcher.both;
 import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.OptimizedMatcher.optimize;
 import static org.hamcrest.number.OrderingComparison.*;
 
 public class OrderingComparisonTest extends AbstractMatcherTest {
@@ -67,6 +70,30 @@ public class OrderingComparisonTest extends AbstractMatcherTest {
         assertThat(new CustomInt(5), lessThan(new CustomInt(10)));
     }
 
+    public void testOptimizedComparisonsMatchAsTheOriginalsDo() {
+        final Matcher<Integer> range = allOf(greaterThan(1), lessThanOrEqualTo(4), greaterThanOrEqualTo(2), lessThan(6));
+        final Matcher<Integer> optimized = optimize(range);
+        for (int i = -1; i < 8; i++) {
+            assertEquals("for " + i, range.matches(i), optimized.matches(i));
+        }
+        assertDoesNotMatch(optimized, null);
+        assertDescription(range.toString(), optimized);
+        assertMismatchDescription("a value less than or equal to <4> <5> was greater than <4>", optimized, 5);
+
+        final Matcher<Integer> tie = optimize(both(greaterThanOrEqualTo(2)).and(greaterThan(2)).and(comparesEqualTo(3)));
+        assertDoesNotMatch(tie, 2);
+        assertMatches(tie, 3);
+        assertDoesNotMatch(tie, 4);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testDoesNotIntersectComparisonsOfDifferentTypes() {
+        final Matcher<Object> mixed = optimize(allOf((Matcher) greaterThan(1), (Matcher) lessThan(5L)));
+        assertFalse(mixed.matches(3));
+        assertFalse(mixed.matches(3L));
+        assertFalse(mixed.matches("3"));
+    }
+
     private static final class CustomInt implements Comparable<CustomInt> {
         private final int value;
         public CustomInt(int value) {
@@ -3,6 +3,8 @@ package org.hamcrest.object;
 import org.hamcrest.AbstractMatcherTest;
 import org.hamcrest.Matcher;
 
+import static org.hamcrest.Allocations.assertAllocationFree;
+
 @SuppressWarnings("WeakerAccess")
 public class HasEqualsValuesTest extends AbstractMatcherTest {
     private static final WithPublicFields WITH_PUBLIC_FIELDS = new WithPublicFields('x', 666, "a string");
@@ -35,6 +37,35 @@ public class HasEqualsValuesTest extends AbstractMatcherTest {
                 WITH_PUBLIC_FIELDS_MATCHER, new WithPublicFields('y', 666, "a string"));
     }
 
+    public void test_compares_primitive_fields_as_their_boxed_values_are_compared() {
+        final Matcher<WithPrimitiveFields> matcher = new HasEqualValues<>(new WithPrimitiveFields(1000L, Double.NaN, 0.0));
+
+        assertMatches(matcher, new WithPrimitiveFields(1000L, Double.NaN, 0.0));
+        assertMismatchDescription("'l' was <1001L>", matcher, new WithPrimitiveFields(1001L, Double.NaN, 0.0));
+        assertMismatchDescription("'d' was <1.0>", matcher, new WithPrimitiveFields(1000L, 1.0, 0.0));
+        assertMismatchDescription("'zero' was <-0.0>", matcher, new WithPrimitiveFields(1000L, Double.NaN, -0.0));
+    }
+
+    public void test_does_not_allocate_while_matching() {
+        assertAllocationFree(new HasEqualValues<>(new WithPrimitiveFields(1000L, 1000.5, 0.0)),
+                             new WithPrimitiveFields(1000L, 1000.5, 0.0), new WithPrimitiveFields(1000L, 1000.25, 0.0));
+        assertAllocationFree(WITH_PUBLIC_FIELDS_MATCHER,
+                             WITH_PUBLIC_FIELDS, new WithPublicFields('x', 666, "different"));
+    }
+
+    public static class WithPrimitiveFields {
+        public static final String CONSTANT = "constant";
+        public final long l;
+        public final double d;
+        public final double zero;
+
+        public WithPrimitiveFields(long l, double d, double zero) {
+            this.l = l;
+            this.d = d;
+            this.zero = zero;
+        }
+    }
+
     public static class WithPublicFields extends Parent {
         public final int i;
         public final String s;
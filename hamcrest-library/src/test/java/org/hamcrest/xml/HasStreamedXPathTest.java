@@ -0,0 +1,235 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class HasStreamedXPathTest {
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <f:emptySomething xmlns:f=\"http://cheese.com\" />"
+            + "  <nested><something id='c'><cheese>Brie <![CDATA[de]]> Meaux</cheese></something></nested>\n"
+            + "</root>\n";
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton(getPrefix(namespaceURI)).iterator();
+        }
+    };
+
+    private Path xml;
+
+    @Before public void
+    writeDocument() throws IOException {
+        xml = Files.createTempFile("HasStreamedXPathTest", ".xml");
+        Files.write(xml, XML.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After public void
+    deleteDocument() throws IOException {
+        Files.delete(xml);
+    }
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Object> matcher = hasStreamedXPath("//irrelevant");
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    appliesMatcherToXPathInDocument() {
+        assertMatches(hasStreamedXPath("/root/something[2]/cheese", equalTo("Cheddar")), xml);
+        assertMatches(hasStreamedXPath("//something[1]/cheese", containsString("dam")), xml);
+        assertMatches(hasStreamedXPath("//something[2]/cheese", not(containsString("dam"))), xml);
+        assertMatches(hasStreamedXPath("/root/@type", equalTo("food")), xml);
+        assertMatches(hasStreamedXPath("//something[@id='b']/cheese", equalTo("Cheddar")), xml);
+        assertMatches(hasStreamedXPath("//something[@id='b']/cheese"), xml);
+        assertMatches(hasStreamedXPath("root/*[@id][2]/@id", equalTo("b")), xml);
+        assertMatches(hasStreamedXPath("//something//@id", equalTo("a")), xml);
+        assertMatches(hasStreamedXPath("/root/nested//cheese", equalTo("Brie de Meaux")), xml);
+    }
+
+    @Test public void
+    countsPositionsAmongSiblingsThatPassThePrecedingPredicates() {
+        assertMatches(hasStreamedXPath("//something[1]/cheese", equalTo("Edam")), xml);
+        assertMatches(hasStreamedXPath("/root/nested/something[1]/@id", equalTo("c")), xml);
+        assertMatches(hasStreamedXPath("/root/something[@id='b'][1]/cheese", equalTo("Cheddar")), xml);
+        assertDoesNotMatch(hasStreamedXPath("/root/something[3]"), xml);
+    }
+
+    @Test public void
+    countsEachPositionalPredicateOfAStepSeparately() throws Exception {
+        final String siblings = "<r><a>1</a><a>2</a><a>3</a></r>";
+        final XPath jdk = XPathFactory.newInstance().newXPath();
+        for (String xpath : new String[] { "/r/a[1][1]", "/r/a[2][1]", "/r/a[3][1]", "/r/a[2][2]", "//a[3][1][1]" }) {
+            final String expected = jdk.evaluate(xpath, new InputSource(new StringReader(siblings)));
+            final Matcher<Object> matcher = expected.isEmpty() ? hasStreamedXPath(xpath) : hasStreamedXPath(xpath, equalTo(expected));
+
+            assertEquals(xpath, !expected.isEmpty(), matcher.matches(new StringReader(siblings)));
+        }
+    }
+
+    @Test public void
+    matchesEmptyElement() {
+        assertMatches(hasStreamedXPath("//emptySomething"), xml);
+        assertMatches(hasStreamedXPath("//emptySomething", equalTo("")), xml);
+    }
+
+    @Test public void
+    matchesEmptyElementInNamespace() {
+        assertMatches(hasStreamedXPath("//cheese:emptySomething", ns), xml);
+    }
+
+    @Test public void
+    failsIfNodeIsMissing() {
+        assertDoesNotMatch(hasStreamedXPath("/root/something[3]/cheese", ns, equalTo("Cheddar")), xml);
+        assertDoesNotMatch(hasStreamedXPath("//something[@id='d']/cheese", ns), xml);
+        assertDoesNotMatch(hasStreamedXPath("/something"), xml);
+    }
+
+    @Test public void
+    failsIfNodeIsMissingInNamespace() {
+        assertDoesNotMatch(hasStreamedXPath("//foreignSomething", equalTo("Caravane")), xml);
+        assertDoesNotMatch(hasStreamedXPath("//foreignSomething"), xml);
+    }
+
+    @Test public void
+    matchesWithNamespace() {
+        assertMatches(hasStreamedXPath("//cheese:foreignSomething", ns), xml);
+        assertMatches(hasStreamedXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")), xml);
+        assertMatches(hasStreamedXPath("//cheese:foreignSomething/text()", ns, equalTo("Caravane")), xml);
+    }
+
+    @Test public void
+    readsStreamsAndReadersWithoutClosingThem() {
+        final Matcher<Object> matcher = hasStreamedXPath("//something[@id='b']/cheese", equalTo("Cheddar"));
+        final StringDescription mismatch = new StringDescription();
+
+        assertTrue(BaseMatcher.matchesWithDiagnosis(matcher, new StringReader(XML), mismatch));
+        assertTrue(matcher.matches(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8))));
+
+        final StringReader wrongCheese = new StringReader(XML.replace("Cheddar", "Gouda"));
+        assertFalse(BaseMatcher.matchesWithDiagnosis(matcher, wrongCheese, mismatch));
+        assertEquals("was \"Gouda\"", mismatch.toString());
+    }
+
+    @Test public void
+    stopsReadingAtTheFirstNodeSelected() {
+        final Matcher<Object> matcher = hasStreamedXPath("/root/something[@id='a']/cheese", equalTo("Edam"));
+
+        assertTrue(matcher.matches(new EndlessDocument("<root><something id='a'><cheese>Edam</cheese></something>")));
+    }
+
+    @Test public void
+    throwsIllegalArgumentExceptionIfGivenIllegalExpression() {
+        assertRejects("\\g:dfgd::DSgf/root/something[2]/cheese");
+        assertRejects("/root/something[last()]");
+        assertRejects("/root/something/..");
+        assertRejects("/root/unknown:something");
+        assertRejects("/root/something[@id='a'");
+        assertRejects("/root/something[0]");
+        assertRejects("/root/a:b:c");
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\"",
+                          hasStreamedXPath("/some/path", equalTo("Cheddar")));
+
+        assertDescription("an XML document with XPath /some/path",
+                          hasStreamedXPath("/some/path"));
+    }
+
+    @Test public void
+    describesMissingNodeMismatch() {
+        assertMismatchDescription("xpath returned no results.", hasStreamedXPath("//honky"), xml);
+    }
+
+    @Test public void
+    describesIncorrectNodeValueMismatch() {
+        assertMismatchDescription("was \"Edam\"", hasStreamedXPath("//something[1]/cheese", equalTo("parmesan")), xml);
+    }
+
+    @Test public void
+    describesUnsupportedSourceMismatch() {
+        assertMismatchDescription("was String \"<root/>\"", hasStreamedXPath("/root"), "<root/>");
+    }
+
+    private static void assertRejects(String xpath) {
+        try {
+            hasStreamedXPath(xpath, equalTo("blah"));
+            fail("Expected exception for " + xpath);
+        } catch (IllegalArgumentException expectedException) {
+            // expected exception
+        }
+    }
+
+    /**
+     * A document that never ends: after the given start, siblings follow forever.
+     * Reading more than a megabyte fails.
+     */
+    private static final class EndlessDocument extends InputStream {
+        private static final byte[] SIBLING = "<something id='z'><cheese>Gouda</cheese></something>".getBytes(StandardCharsets.UTF_8);
+        private final byte[] start;
+        private long read;
+
+        EndlessDocument(String start) {
+            this.start = start.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (read > 1 << 20) {
+                throw new IOException("read past the first node selected");
+            }
+            final long position = read++;
+            return position < start.length
+                ? start[(int) position]
+                : SIBLING[(int) ((position - start.length) % SIBLING.length)];
+        }
+    }
+}
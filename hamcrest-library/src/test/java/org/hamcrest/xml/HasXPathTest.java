@@ -9,14 +9,23 @@ import javax.xml.namespace.NamespaceContext;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.AbstractMatcherTest.*;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
 import static org.hamcrest.core.StringContains.containsString;
 import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 /**
@@ -133,6 +142,41 @@ public final class HasXPathTest {
         assertMismatchDescription("was \"Edam\"", hasXPath("//something[1]/cheese", equalTo("parmesan")), xml);
     }
 
+    @Test public void
+    canBeSharedBetweenThreads() throws Exception {
+        final Matcher<Node> matcher = hasXPath("/root/something[@id='b']/cheese", equalTo("Cheddar"));
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<Integer>> wrongResults = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                wrongResults.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        final Document matching = parse("<root><something id='b'><cheese>Cheddar</cheese></something></root>");
+                        final Document mismatching = parse("<root><something id='b'><cheese>Brie</cheese></something></root>");
+                        start.await();
+                        int wrong = 0;
+                        for (int j = 0; j < 1000; j++) {
+                            if (!matcher.matches(matching) || matcher.matches(mismatching)) {
+                                wrong++;
+                            }
+                        }
+                        return wrong;
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> wrong : wrongResults) {
+                assertEquals(Integer.valueOf(0), wrong.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static Document parse(String xml) {
         try {
             DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
@@ -0,0 +1,213 @@
+package org.hamcrest.xml;
+
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.AbstractMatcherTest.*;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.hamcrest.xml.HasStreamedXPath.hasStreamedXPath;
+import static org.hamcrest.xml.HasXPath.hasXPath;
+import static org.hamcrest.xml.HasXPaths.allXPaths;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class HasXPathsTest {
+    private static final String XML = ""
+            + "<root type='food'>\n"
+            + "  <something id='a'><cheese>Edam</cheese></something>\n"
+            + "  <something id='b'><cheese>Cheddar</cheese></something>\n"
+            + "  <f:foreignSomething xmlns:f=\"http://cheese.com\" milk=\"camel\">Caravane</f:foreignSomething>\n"
+            + "  <emptySomething />\n"
+            + "  <nested><something id='c'><cheese>Brie <![CDATA[de]]> Meaux</cheese></something></nested>\n"
+            + "</root>\n";
+
+    private final Document xml = parse(XML);
+
+    private final NamespaceContext ns = new NamespaceContext() {
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return ("cheese".equals(prefix) ? "http://cheese.com" : null);
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            return ("http://cheese.com".equals(namespaceURI) ? "cheese" : null);
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            return Collections.singleton(getPrefix(namespaceURI)).iterator();
+        }
+    };
+
+    @Test public void
+    copesWithNullsAndUnknownTypes() {
+        Matcher<Object> matcher = allXPaths(hasXPath("//irrelevant"));
+
+        assertNullSafe(matcher);
+        assertUnknownTypeSafe(matcher);
+    }
+
+    @Test public void
+    matchesWhenAllTheXPathsMatch() {
+        assertMatches(allXPaths(
+                hasXPath("/root/something[2]/cheese", equalTo("Cheddar")),
+                hasXPath("//something[1]/cheese", containsString("dam")),
+                hasXPath("/root/@type", equalTo("food")),
+                hasXPath("//cheese:foreignSomething/@milk", ns, equalTo("camel")),
+                hasXPath("//cheese:foreignSomething/text()", ns, equalTo("Caravane")),
+                hasXPath("/root/nested//cheese", equalTo("Brie de Meaux")),
+                hasXPath("//emptySomething"),
+                hasStreamedXPath("//something[@id='b']/cheese", equalTo("Cheddar"))),
+            xml);
+    }
+
+    @Test public void
+    evaluatesXPathsOutsideTheStreamableSubsetSeparately() {
+        final Matcher<Object> matcher = allXPaths(
+                hasXPath("count(//something)", equalTo("3")),
+                hasXPath("/root/something[last()]/cheese", equalTo("Cheddar")),
+                hasXPath("/root/something[1]/cheese", equalTo("Edam")));
+
+        assertMatches(matcher, xml);
+        assertTrue(matcher.matches(new StringReader(XML)));
+        assertFalse(matcher.matches(new StringReader(XML.replace("Edam", "Gouda"))));
+    }
+
+    @Test public void
+    keepsTheMeaningOfEachKindOfXPathMatcher() {
+        assertMatches(allXPaths(hasXPath("//honky", equalTo(""))), xml);
+        assertDoesNotMatch(allXPaths(hasStreamedXPath("//honky", equalTo(""))), xml);
+    }
+
+    @Test public void
+    agreesWithAllOfTheSameMatchers() {
+        final Document siblings = parse("<r><a>1</a><a>2</a><a>3</a></r>");
+        final List<Matcher<? super Node>> matchers = new ArrayList<>();
+        for (String xpath : new String[] { "/r/a[1][1]", "/r/a[2][1]", "/r/a[3][1]", "/r/a[2][2]", "//a[@id][1]" }) {
+            matchers.add(hasXPath(xpath));
+            matchers.add(hasXPath(xpath, equalTo("")));
+            matchers.add(hasXPath(xpath, equalTo("2")));
+        }
+
+        for (Matcher<? super Node> matcher : matchers) {
+            final boolean expected = allOf(matcher).matches(siblings);
+            assertEquals(matcher.toString(), expected, allXPaths(matcher).matches(siblings));
+            assertEquals(matcher.toString(), expected, allXPaths(matcher).matches(new StringReader("<r><a>1</a><a>2</a><a>3</a></r>")));
+        }
+        assertEquals(allOf(matchers).matches(siblings), allXPaths(matchers).matches(siblings));
+    }
+
+    @Test public void
+    doesNotReadExternalEntities() throws Exception {
+        final Path secret = Files.write(Files.createTempFile("HasXPathsTest", ".txt"), "secret".getBytes(StandardCharsets.UTF_8));
+        try {
+            final String xml = "<!DOCTYPE r [<!ENTITY x SYSTEM '" + secret.toUri() + "'>]><r>&x;</r>";
+
+            assertFalse(allXPaths(hasXPath("string(/r)", containsString("secret"))).matches(new StringReader(xml)));
+        } finally {
+            Files.delete(secret);
+        }
+    }
+
+    @Test public void
+    readsStreamsReadersAndFiles() {
+        final Matcher<Object> matcher = allXPaths(
+                hasStreamedXPath("/root/something[@id='a']/cheese", equalTo("Edam")),
+                hasStreamedXPath("/root/something[@id='b']/cheese", equalTo("Cheddar")));
+
+        assertTrue(matcher.matches(new StringReader(XML)));
+        assertTrue(matcher.matches(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8))));
+        assertFalse(matcher.matches(new StringReader(XML.replace("Cheddar", "Gouda"))));
+    }
+
+    @Test public void
+    checksEachXPathOfANodeInsideADocument() {
+        final Node something = xml.getDocumentElement().getElementsByTagName("something").item(1);
+
+        assertMatches(allXPaths(hasXPath("cheese", equalTo("Cheddar")), hasXPath("@id", equalTo("b"))), something);
+        assertDoesNotMatch(allXPaths(hasXPath("cheese", equalTo("Edam"))), something);
+    }
+
+    @Test public void
+    sharesTheEvaluationOfTheSameXPath() {
+        final List<Matcher<?>> matchers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            matchers.add(hasXPath("/root/something[@id='b']/cheese", containsString("dd")));
+            matchers.add(hasXPath("/root/something[@id='b']/cheese"));
+        }
+
+        assertMatches(allXPaths(matchers), xml);
+    }
+
+    @Test public void
+    rejectsOtherMatchers() {
+        try {
+            allXPaths(hasXPath("/root"), equalTo("Cheddar"));
+            fail("Expected exception");
+        } catch (IllegalArgumentException expectedException) {
+            // expected exception
+        }
+    }
+
+    @Test public void
+    describesItself() {
+        assertDescription("an XML document with XPath /some/path \"Cheddar\" and XPath /other/path",
+                          allXPaths(hasXPath("/some/path", equalTo("Cheddar")), hasStreamedXPath("/other/path")));
+    }
+
+    @Test public void
+    describesEveryXPathThatFails() {
+        assertMismatchDescription(
+            "XPath //honky xpath returned no results.; XPath //something[1]/cheese was \"Edam\"",
+            allXPaths(hasXPath("//honky"),
+                      hasXPath("/root/@type", equalTo("food")),
+                      hasXPath("//something[1]/cheese", equalTo("parmesan"))),
+            xml);
+    }
+
+    @Test public void
+    describesTheFailuresFoundInOnePassOverAStream() {
+        final Matcher<Object> matcher = allXPaths(
+                hasStreamedXPath("//honky"),
+                hasStreamedXPath("/root/something[@id='b']/cheese", equalTo("Cheddar")));
+        final StringDescription mismatch = new StringDescription();
+
+        assertFalse(BaseMatcher.matchesWithDiagnosis(matcher, new StringReader(XML.replace("Cheddar", "Gouda")), mismatch));
+        assertEquals("XPath //honky xpath returned no results.; XPath /root/something[@id='b']/cheese was \"Gouda\"",
+                     mismatch.toString());
+    }
+
+    private static Document parse(String xml) {
+        try {
+            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            return documentBuilder.parse(new ByteArrayInputStream(xml.getBytes()));
+        }
+        catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}